@@ -0,0 +1,101 @@
+package dev.bored.common.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a Jackson codec for every type annotated with
+ * {@code dev.bored.common.util.BoredJson}.
+ * <p>
+ * For each type it writes {@code <Outer>_<Type>_BoredJsonCodec} next to it
+ * and, once all rounds are done, lists the codecs in
+ * {@code META-INF/services/dev.bored.common.util.BoredJsonCodec} for
+ * {@code BoredJsonModule} to load. Unsupported shapes are reported as
+ * compile errors on the offending element. The processor has no
+ * dependencies — it names common-lib and Jackson types only in the code it
+ * writes — and registers itself with Gradle as an aggregating incremental
+ * processor.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes(BoredJsonProcessor.BORED_JSON)
+public final class BoredJsonProcessor extends AbstractProcessor {
+
+    static final String BORED_JSON = "dev.bored.common.util.BoredJson";
+    static final String SERVICE_FILE = "META-INF/services/dev.bored.common.util.BoredJsonCodec";
+
+    private final Set<String> codecs = new TreeSet<>();
+    private final List<Element> origins = new ArrayList<>();
+
+    /** Creates the processor; javac instantiates it through the service loader. */
+    public BoredJsonProcessor() { }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                generate((TypeElement) element);
+            }
+        }
+        if (round.processingOver() && !codecs.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        try {
+            TypeModel model = TypeModel.of(processingEnv, type);
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(model.qualifiedCodecName(), type);
+            try (Writer out = file.openWriter()) {
+                out.write(CodecWriter.write(model, processingEnv.getTypeUtils()));
+            }
+            codecs.add(model.qualifiedCodecName());
+            origins.add(type);
+        } catch (TypeModel.InvalidTypeException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write @BoredJson codec: " + e.getMessage(), type);
+        }
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    SERVICE_FILE, origins.toArray(Element[]::new));
+            try (Writer out = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String codec : codecs) {
+                    out.write(codec);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+}
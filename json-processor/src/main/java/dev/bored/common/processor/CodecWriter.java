@@ -0,0 +1,433 @@
+package dev.bored.common.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * Writes the Java source of a generated codec.
+ * <p>
+ * The serializer writes pre-encoded field names and emits strings, numbers
+ * and booleans straight to the generator; every other value goes through
+ * the provider like a reflective bean property would. The deserializer
+ * matches field names with a {@code switch}, reads the same simple tokens
+ * directly and hands everything else — including the coercions Jackson
+ * applies to unexpected tokens — to the deserializer Jackson resolves for
+ * the declared type.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+final class CodecWriter {
+
+    /** How a property's value is read and written. */
+    private enum Kind {
+        STRING("String"), BOOLEAN("Boolean"), INT("Integer"), LONG("Long"), DOUBLE("Double"),
+        FLOAT("Float"), SHORT("Short"), BYTE("Byte"), CHAR("Character"), OTHER(null);
+
+        private final String box;
+
+        Kind(String box) {
+            this.box = box;
+        }
+    }
+
+    private final TypeModel model;
+    private final Types types;
+    private final StringBuilder out = new StringBuilder(4096);
+    private int indent;
+
+    private CodecWriter(TypeModel model, Types types) {
+        this.model = model;
+        this.types = types;
+    }
+
+    /**
+     * Generates the codec source for a type.
+     *
+     * @param model the type
+     * @param types type utilities of the current round
+     * @return the compilation unit
+     */
+    static String write(TypeModel model, Types types) {
+        return new CodecWriter(model, types).codec();
+    }
+
+    private String codec() {
+        String type = model.typeName();
+        if (!model.packageName().isEmpty()) {
+            line("package %s;", model.packageName()).line("");
+        }
+        line("import com.fasterxml.jackson.core.JsonGenerator;");
+        line("import com.fasterxml.jackson.core.JsonParser;");
+        line("import com.fasterxml.jackson.core.JsonToken;");
+        line("import com.fasterxml.jackson.core.io.SerializedString;");
+        line("import com.fasterxml.jackson.core.type.TypeReference;");
+        line("import com.fasterxml.jackson.core.type.WritableTypeId;");
+        line("import com.fasterxml.jackson.databind.DeserializationContext;");
+        line("import com.fasterxml.jackson.databind.JavaType;");
+        line("import com.fasterxml.jackson.databind.JsonDeserializer;");
+        line("import com.fasterxml.jackson.databind.JsonMappingException;");
+        line("import com.fasterxml.jackson.databind.JsonSerializer;");
+        line("import com.fasterxml.jackson.databind.MapperFeature;");
+        line("import com.fasterxml.jackson.databind.SerializerProvider;");
+        line("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;");
+        line("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;");
+        line("import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;");
+        line("import com.fasterxml.jackson.databind.jsontype.TypeSerializer;");
+        line("import com.fasterxml.jackson.databind.ser.ResolvableSerializer;");
+        line("import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;");
+        line("import com.fasterxml.jackson.databind.ser.std.StdSerializer;");
+        line("import dev.bored.common.util.BoredJsonCodec;");
+        line("import java.io.IOException;");
+        line("import javax.annotation.processing.Generated;").line("");
+        line("/** Jackson codec for {@link %s}, generated from {@code @BoredJson}. */", type);
+        line("@Generated(\"%s\")", BoredJsonProcessor.class.getName());
+        open("public final class %s implements BoredJsonCodec<%s>", model.codecName(), type);
+        line("").line("@Override");
+        open("public Class<%s> type()", type).line("return %s.class;", type).close();
+        line("").line("@Override");
+        open("public JsonSerializer<%s> serializer()", type).line("return new Serializer();").close();
+        line("").line("@Override");
+        open("public JsonDeserializer<%s> deserializer()", type).line("return new Deserializer();").close();
+        line("");
+        serializer(type);
+        line("");
+        deserializer(type);
+        close();
+        return out.toString();
+    }
+
+    // ── serializer ──────────────────────────────────────────
+
+    private void serializer(String type) {
+        List<TypeModel.Property> properties = model.properties();
+        boolean dynamic = properties.stream().anyMatch(p -> kind(p.type()) == Kind.OTHER);
+        open("static final class Serializer extends StdSerializer<%s>%s", type,
+                dynamic ? " implements ResolvableSerializer" : "");
+        line("");
+        for (int i = 0; i < properties.size(); i++) {
+            line("private static final SerializedString NAME_%d = new SerializedString(%s);", i,
+                    literal(properties.get(i).name()));
+        }
+        line("");
+        if (dynamic) {
+            dynamicFields(properties);
+        }
+        open("Serializer()").line("super(%s.class);", type).close();
+        if (dynamic) {
+            line("").line("@Override");
+            open("public void resolve(SerializerProvider provider) throws JsonMappingException");
+            for (int i = 0; i < properties.size(); i++) {
+                if (kind(properties.get(i).type()) != Kind.OTHER) continue;
+                line("types[%d] = %s;", i, javaType(properties.get(i).type(), "provider"));
+                line("typeSers[%d] = provider.findTypeSerializer(types[%1$d]);", i);
+                line("dynamic[%d] = PropertySerializerMap.emptyForProperties();", i);
+            }
+            close();
+        }
+        line("").line("@Override");
+        open("public void serialize(%s value, JsonGenerator gen, SerializerProvider provider) throws IOException", type);
+        line("gen.writeStartObject(value);");
+        line("writeProperties(value, gen, provider);");
+        line("gen.writeEndObject();");
+        close();
+        line("").line("@Override");
+        open("public void serializeWithType(%s value, JsonGenerator gen, SerializerProvider provider, "
+                + "TypeSerializer typeSer) throws IOException", type);
+        line("WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));");
+        line("writeProperties(value, gen, provider);");
+        line("typeSer.writeTypeSuffix(gen, typeId);");
+        close();
+        line("");
+        open("private void writeProperties(%s value, JsonGenerator gen, SerializerProvider provider) "
+                + "throws IOException", type);
+        open("if (provider.getActiveView() != null && !provider.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION))");
+        line("return;").close();
+        line("String name = null;");
+        open("try");
+        for (int i = 0; i < properties.size(); i++) {
+            TypeModel.Property property = properties.get(i);
+            String value = "value." + property.getter() + "()";
+            line("name = %s;", literal(property.name()));
+            line("gen.writeFieldName(NAME_%d);", i);
+            Kind kind = kind(property.type());
+            if (kind == Kind.OTHER) {
+                line("writeValue(%d, %s, gen, provider);", i, value);
+            } else if (property.type().getKind().isPrimitive()) {
+                line(write(kind, value));
+            } else {
+                line("%s v%d = %s;", source(property.type()), i, value);
+                open("if (v%d == null)", i).line("gen.writeNull();").closeOpen("else");
+                line(write(kind, "v" + i)).close();
+            }
+        }
+        closeOpen("catch (Exception e)");
+        line("wrapAndThrow(provider, e, value, name);");
+        close();
+        close();
+        if (dynamic) {
+            writeValue();
+        }
+        close();
+    }
+
+    private void dynamicFields(List<TypeModel.Property> properties) {
+        line("private final JavaType[] types = new JavaType[%d];", properties.size());
+        line("private final TypeSerializer[] typeSers = new TypeSerializer[%d];", properties.size());
+        line("/** Serializers by runtime class, per property — as in Jackson's own bean properties. */");
+        line("private final PropertySerializerMap[] dynamic = new PropertySerializerMap[%d];", properties.size());
+        line("");
+    }
+
+    private void writeValue() {
+        line("");
+        open("private void writeValue(int i, Object value, JsonGenerator gen, SerializerProvider provider) "
+                + "throws IOException");
+        open("if (value == null)").line("provider.defaultSerializeNull(gen);").line("return;").close();
+        line("Class<?> type = value.getClass();");
+        line("PropertySerializerMap map = dynamic[i];");
+        line("JsonSerializer<Object> serializer = map.serializerFor(type);");
+        open("if (serializer == null)");
+        line("JavaType specialized = types[i].getRawClass() == type ? types[i] "
+                + ": provider.constructSpecializedType(types[i], type);");
+        line("PropertySerializerMap.SerializerAndMapResult found = map.findAndAddPrimarySerializer(specialized, provider, null);");
+        line("dynamic[i] = found.map;");
+        line("serializer = found.serializer;");
+        close();
+        open("if (typeSers[i] == null)").line("serializer.serialize(value, gen, provider);");
+        closeOpen("else").line("serializer.serializeWithType(value, gen, provider, typeSers[i]);").close();
+        close();
+    }
+
+    private static String write(Kind kind, String value) {
+        return switch (kind) {
+            case STRING -> "gen.writeString(" + value + ");";
+            case BOOLEAN -> "gen.writeBoolean(" + value + ");";
+            case BYTE -> "gen.writeNumber((int) " + value + ");";
+            case CHAR -> "gen.writeString(String.valueOf(" + value + "));";
+            default -> "gen.writeNumber(" + value + ");";
+        };
+    }
+
+    // ── deserializer ────────────────────────────────────────
+
+    private void deserializer(String type) {
+        List<TypeModel.Property> properties = model.properties();
+        open("static final class Deserializer extends StdDeserializer<%s> implements ResolvableDeserializer", type);
+        line("");
+        for (int i = 0; i < properties.size(); i++) {
+            line("private JsonDeserializer<Object> deser%d;", i);
+            line("private TypeDeserializer typeDeser%d;", i);
+        }
+        line("");
+        open("Deserializer()").line("super(%s.class);", type).close();
+        line("").line("@Override");
+        open("public void resolve(DeserializationContext ctxt) throws JsonMappingException");
+        line("JavaType type;");
+        for (int i = 0; i < properties.size(); i++) {
+            line("type = %s;", javaType(properties.get(i).type(), "ctxt"));
+            line("deser%d = ctxt.findContextualValueDeserializer(type, null);", i);
+            line("typeDeser%d = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), type);", i);
+        }
+        close();
+        line("").line("@Override").line("@SuppressWarnings(\"unchecked\")");
+        open("public %s deserialize(JsonParser p, DeserializationContext ctxt) throws IOException", type);
+        line("JsonToken t = p.currentToken();");
+        open("if (t == JsonToken.START_OBJECT)").line("t = p.nextToken();");
+        closeOpen("else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT)");
+        line("return %s.class.cast(ctxt.handleUnexpectedToken(%1$s.class, p));", type).close();
+        line("boolean viewExcluded = ctxt.getActiveView() != null "
+                + "&& !ctxt.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);");
+        String ref;
+        if (model.record()) {
+            for (int i = 0; i < properties.size(); i++) {
+                TypeMirror propertyType = properties.get(i).type();
+                line("%s v%d = %s;", source(propertyType), i, defaultValue(propertyType));
+            }
+            line("long seen = 0L;");
+            ref = type + ".class";
+        } else {
+            line("%s bean = new %1$s();", type);
+            ref = "bean";
+        }
+        open("for (; t == JsonToken.FIELD_NAME; t = p.nextToken())");
+        line("String name = p.currentName();");
+        line("p.nextToken();");
+        open("switch (name)");
+        for (int i = 0; i < properties.size(); i++) {
+            TypeModel.Property property = properties.get(i);
+            String read = read(property.type(), i);
+            open("case %s ->", literal(property.name()));
+            open("if (viewExcluded)").line("p.skipChildren();").closeOpen("else try");
+            if (model.record()) {
+                line("v%d = %s;", i, read).line("seen |= 1L << %d;", i);
+            } else {
+                line("bean.%s(%s);", property.setter(), read);
+            }
+            closeOpen("catch (Exception e)");
+            line("throw JsonMappingException.wrapWithPath(e, %s, name);", ref).close();
+            close();
+        }
+        line("default -> ctxt.handleUnknownProperty(p, this, %s, name);", ref);
+        close();
+        close();
+        if (model.record()) {
+            // Jackson fills absent creator properties from the value deserializer, which
+            // fails for primitives under FAIL_ON_NULL_FOR_PRIMITIVES.
+            StringBuilder args = new StringBuilder();
+            for (int i = 0; i < properties.size(); i++) {
+                TypeMirror propertyType = properties.get(i).type();
+                Kind kind = kind(propertyType);
+                open("if ((seen & 1L << %d) == 0)", i);
+                line("v%d = (%s) deser%1$d.getAbsentValue(ctxt);", i, kind == Kind.OTHER ? source(propertyType) : kind.box);
+                close();
+                args.append(i == 0 ? "v" : ", v").append(i);
+            }
+            line("return new %s(%s);", type, args);
+        } else {
+            line("return bean;");
+        }
+        close();
+        line("");
+        open("private static Object read(JsonDeserializer<Object> deser, TypeDeserializer typeDeser, JsonParser p, "
+                + "DeserializationContext ctxt) throws IOException");
+        open("if (p.currentToken() == JsonToken.VALUE_NULL)").line("return deser.getNullValue(ctxt);").close();
+        line("Object value = typeDeser == null ? deser.deserialize(p, ctxt) : deser.deserializeWithType(p, ctxt, typeDeser);");
+        line("return value != null ? value : deser.getNullValue(ctxt);");
+        close();
+        close();
+    }
+
+    /** An expression reading the current value as {@code type}. */
+    private String read(TypeMirror type, int i) {
+        Kind kind = kind(type);
+        boolean primitive = type.getKind().isPrimitive();
+        String fallback = "read(deser" + i + ", typeDeser" + i + ", p, ctxt)";
+        String cast = kind == Kind.OTHER ? source(type) : kind.box;
+        String slow = "(" + cast + ") " + fallback;
+        String fast = switch (kind) {
+            case STRING -> "p.currentToken() == JsonToken.VALUE_STRING ? p.getText()";
+            case INT -> "p.currentToken() == JsonToken.VALUE_NUMBER_INT ? " + box(primitive, "Integer", "p.getIntValue()");
+            case LONG -> "p.currentToken() == JsonToken.VALUE_NUMBER_INT ? " + box(primitive, "Long", "p.getLongValue()");
+            case DOUBLE -> "p.currentToken() == JsonToken.VALUE_NUMBER_FLOAT ? "
+                    + box(primitive, "Double", "p.getDoubleValue()");
+            case BOOLEAN -> "p.currentToken().isBoolean() ? " + box(primitive, "Boolean", "p.getBooleanValue()");
+            default -> null;
+        };
+        return fast == null ? slow : fast + " : " + slow;
+    }
+
+    private static String box(boolean primitive, String box, String value) {
+        return primitive ? value : box + ".valueOf(" + value + ")";
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case LONG -> "0L";
+            case FLOAT -> "0f";
+            case DOUBLE -> "0d";
+            case BYTE, SHORT, INT -> "0";
+            default -> "null";
+        };
+    }
+
+    // ── types ───────────────────────────────────────────────
+
+    private static Kind kind(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> Kind.BOOLEAN;
+            case INT -> Kind.INT;
+            case LONG -> Kind.LONG;
+            case DOUBLE -> Kind.DOUBLE;
+            case FLOAT -> Kind.FLOAT;
+            case SHORT -> Kind.SHORT;
+            case BYTE -> Kind.BYTE;
+            case CHAR -> Kind.CHAR;
+            case DECLARED -> switch (((TypeElement) ((DeclaredType) type).asElement())
+                    .getQualifiedName().toString()) {
+                case "java.lang.String" -> Kind.STRING;
+                case "java.lang.Boolean" -> Kind.BOOLEAN;
+                case "java.lang.Integer" -> Kind.INT;
+                case "java.lang.Long" -> Kind.LONG;
+                case "java.lang.Double" -> Kind.DOUBLE;
+                case "java.lang.Float" -> Kind.FLOAT;
+                case "java.lang.Short" -> Kind.SHORT;
+                case "java.lang.Byte" -> Kind.BYTE;
+                case "java.lang.Character" -> Kind.CHAR;
+                default -> Kind.OTHER;
+            };
+            default -> Kind.OTHER;
+        };
+    }
+
+    /** An expression building the Jackson {@code JavaType} of a property. */
+    private String javaType(TypeMirror type, String context) {
+        return isParameterized(type)
+                ? context + ".getTypeFactory().constructType(new TypeReference<" + source(type) + ">() { })"
+                : context + ".constructType(" + types.erasure(type) + ".class)";
+    }
+
+    private static boolean isParameterized(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) return isParameterized(((ArrayType) type).getComponentType());
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private static String source(TypeMirror type) {
+        return type.toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // ── output ──────────────────────────────────────────────
+
+    private CodecWriter line(String format, Object... args) {
+        if (!format.isEmpty()) {
+            out.append("    ".repeat(indent)).append(args.length == 0 ? format : String.format(format, args));
+        }
+        out.append('\n');
+        return this;
+    }
+
+    private CodecWriter open(String format, Object... args) {
+        out.append("    ".repeat(indent)).append(args.length == 0 ? format : String.format(format, args)).append(" {\n");
+        indent++;
+        return this;
+    }
+
+    private CodecWriter closeOpen(String format) {
+        indent--;
+        out.append("    ".repeat(indent)).append("} ").append(format).append(" {\n");
+        indent++;
+        return this;
+    }
+
+    private CodecWriter close() {
+        indent--;
+        out.append("    ".repeat(indent)).append("}\n");
+        return this;
+    }
+}
@@ -0,0 +1,348 @@
+package dev.bored.common.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code @BoredJson} type as Jackson would see it with default settings:
+ * its JSON properties, in Jackson's order, and how to read and write each.
+ * <p>
+ * Anything the generated code could not reproduce exactly — Jackson
+ * annotations other than a plain {@code @JsonProperty} rename, getters
+ * without setters, public fields, generic types — is rejected with an
+ * {@link InvalidTypeException}, which the processor reports as a compile
+ * error on the offending element.
+ * </p>
+ *
+ * @param element     the annotated type
+ * @param packageName its package
+ * @param codecName   the simple name of the generated codec
+ * @param record      whether it's a record (bound through its canonical constructor)
+ * @param properties  the JSON properties, in serialization order
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+record TypeModel(TypeElement element, String packageName, String codecName, boolean record,
+                 List<Property> properties) {
+
+    private static final String JACKSON = "com.fasterxml.jackson.";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    /** Read by {@code StringDedupModule}'s deserializer, which generated code bypasses. */
+    private static final String JSON_DEDUP = "dev.bored.common.util.JsonDedup";
+    /** The generated deserializer tracks which components it saw in one {@code long}. */
+    private static final int MAX_RECORD_COMPONENTS = 64;
+
+    /**
+     * One JSON property.
+     *
+     * @param name   the JSON name
+     * @param type   the declared Java type
+     * @param getter the accessor or getter method name
+     * @param setter the setter method name, or {@code null} for record components
+     */
+    record Property(String name, TypeMirror type, String getter, String setter) {}
+
+    /** Why a type can't have a generated codec. */
+    static final class InvalidTypeException extends Exception {
+
+        private final transient Element element;
+
+        InvalidTypeException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+
+        Element element() {
+            return element;
+        }
+    }
+
+    /**
+     * Returns the canonical name of the annotated type.
+     *
+     * @return e.g. {@code com.example.Outer.Order}
+     */
+    String typeName() {
+        return element.getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the binary-safe qualified name of the generated codec.
+     *
+     * @return e.g. {@code com.example.Outer_Order_BoredJsonCodec}
+     */
+    String qualifiedCodecName() {
+        return packageName.isEmpty() ? codecName : packageName + "." + codecName;
+    }
+
+    /**
+     * Inspects an annotated type.
+     *
+     * @param env  the processing environment
+     * @param type the type carrying {@code @BoredJson}
+     * @return its model
+     * @throws InvalidTypeException if the type's shape isn't supported
+     */
+    static TypeModel of(ProcessingEnvironment env, TypeElement type) throws InvalidTypeException {
+        if (type.getKind() != ElementKind.RECORD && type.getKind() != ElementKind.CLASS) {
+            throw new InvalidTypeException(type, "@BoredJson applies to records and classes only");
+        }
+        Deque<String> names = new ArrayDeque<>();
+        for (Element e = type; e instanceof TypeElement t; e = e.getEnclosingElement()) {
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                throw new InvalidTypeException(type, "@BoredJson type must not be local or anonymous");
+            }
+            if (t.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new InvalidTypeException(type, "@BoredJson type must not be private or nested in a private type");
+            }
+            if (t.getNestingKind() == NestingKind.MEMBER && t.getKind() == ElementKind.CLASS
+                    && !t.getModifiers().contains(Modifier.STATIC)) {
+                throw new InvalidTypeException(type, "@BoredJson type must not be an inner (non-static) class");
+            }
+            names.addFirst(t.getSimpleName().toString());
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidTypeException(type, "@BoredJson does not support generic types");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidTypeException(type, "@BoredJson type must not be abstract");
+        }
+        rejectJackson(type, false);
+
+        boolean record = type.getKind() == ElementKind.RECORD;
+        List<Property> properties = record ? recordProperties(type) : beanProperties(env, type);
+        if (properties.isEmpty()) {
+            throw new InvalidTypeException(type, "@BoredJson type has no properties");
+        }
+        if (record && properties.size() > MAX_RECORD_COMPONENTS) {
+            throw new InvalidTypeException(type, "@BoredJson record must have at most " + MAX_RECORD_COMPONENTS
+                    + " components");
+        }
+        Set<String> seen = new HashSet<>();
+        for (Property property : properties) {
+            if (!seen.add(property.name())) {
+                throw new InvalidTypeException(type, "@BoredJson type has two properties named \"" + property.name() + "\"");
+            }
+        }
+        String packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        return new TypeModel(type, packageName, String.join("_", names) + "_BoredJsonCodec", record, properties);
+    }
+
+    // ── records ─────────────────────────────────────────────
+
+    private static List<Property> recordProperties(TypeElement type) throws InvalidTypeException {
+        List<Property> properties = new ArrayList<>();
+        Set<String> accessors = new HashSet<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            ExecutableElement accessor = component.getAccessor();
+            accessors.add(accessor.getSimpleName().toString());
+            String json = name;
+            for (Element e : new Element[] {component, accessor, field(type, name)}) {
+                String renamed = rejectJackson(e, true);
+                if (renamed != null) json = renamed;
+            }
+            properties.add(new Property(json, component.asType(), accessor.getSimpleName().toString(), null));
+        }
+        // Jackson would serialize a getX() next to the components.
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (isPublicInstance(method) && !accessors.contains(method.getSimpleName().toString())
+                    && getterProperty(method) != null) {
+                throw new InvalidTypeException(method,
+                        "@BoredJson record must not declare getters besides its component accessors");
+            }
+        }
+        return properties;
+    }
+
+    private static VariableElement field(TypeElement type, String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(name)) return field;
+        }
+        return null;
+    }
+
+    // ── beans ───────────────────────────────────────────────
+
+    private static List<Property> beanProperties(ProcessingEnvironment env, TypeElement type)
+            throws InvalidTypeException {
+        Elements elements = env.getElementUtils();
+        Types types = env.getTypeUtils();
+        boolean noArg = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            noArg |= constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE);
+        }
+        if (!noArg) {
+            throw new InvalidTypeException(type, "@BoredJson class needs a non-private no-arg constructor");
+        }
+
+        // Jackson orders bean properties by field declaration, superclass first.
+        Map<String, Integer> fieldOrder = new HashMap<>();
+        Map<String, VariableElement> fields = new HashMap<>();
+        for (TypeElement t : hierarchy(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) continue;
+                String name = field.getSimpleName().toString();
+                if (field.getModifiers().contains(Modifier.PUBLIC) && !field.getModifiers().contains(Modifier.TRANSIENT)) {
+                    throw new InvalidTypeException(field, "@BoredJson class must not have public fields");
+                }
+                fieldOrder.putIfAbsent(name, fieldOrder.size());
+                fields.putIfAbsent(name, field);
+            }
+        }
+
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setters = new HashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!isPublicInstance(method)
+                    || ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object")) {
+                continue;
+            }
+            String getter = getterProperty(method);
+            String setter = setterProperty(method);
+            if (getter != null && getters.put(getter, method) != null) {
+                throw new InvalidTypeException(method, "@BoredJson class has two getters for \"" + getter + "\"");
+            }
+            if (setter != null && setters.put(setter, method) != null) {
+                throw new InvalidTypeException(method, "@BoredJson class has overloaded setters for \"" + setter + "\"");
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (Map.Entry<String, ExecutableElement> entry : getters.entrySet()) {
+            String name = entry.getKey();
+            ExecutableElement getter = entry.getValue();
+            ExecutableElement setter = setters.remove(name);
+            if (setter == null) {
+                throw new InvalidTypeException(getter, "@BoredJson class needs a setter for \"" + name + "\"");
+            }
+            TypeMirror type0 = getter.getReturnType();
+            if (!types.isSameType(type0, setter.getParameters().get(0).asType())) {
+                throw new InvalidTypeException(setter, "@BoredJson setter for \"" + name + "\" must take " + type0);
+            }
+            rejectJackson(getter, false);
+            rejectJackson(setter, false);
+            rejectJackson(fields.get(name), false);
+            properties.add(new Property(name, type0, getter.getSimpleName().toString(),
+                    setter.getSimpleName().toString()));
+        }
+        if (!setters.isEmpty()) {
+            ExecutableElement setter = setters.values().iterator().next();
+            throw new InvalidTypeException(setter, "@BoredJson class needs a getter for \""
+                    + setterProperty(setter) + "\"");
+        }
+        properties.sort(Comparator.comparingInt(p -> fieldOrder.getOrDefault(p.name(), Integer.MAX_VALUE)));
+        return properties;
+    }
+
+    private static List<TypeElement> hierarchy(TypeElement type) {
+        Deque<TypeElement> chain = new ArrayDeque<>();
+        for (TypeElement t = type; t != null; ) {
+            chain.addFirst(t);
+            TypeMirror superclass = t.getSuperclass();
+            t = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return new ArrayList<>(chain);
+    }
+
+    // ── naming ──────────────────────────────────────────────
+
+    private static boolean isPublicInstance(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /** The property a Jackson-visible getter exposes, or {@code null} if the method isn't one. */
+    static String getterProperty(ExecutableElement method) {
+        if (!method.getParameters().isEmpty()) return null;
+        String name = method.getSimpleName().toString();
+        TypeKind returns = method.getReturnType().getKind();
+        if (name.startsWith("get") && name.length() > 3 && returns != TypeKind.VOID) {
+            return mangle(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && returns == TypeKind.BOOLEAN) {
+            return mangle(name.substring(2));
+        }
+        return null;
+    }
+
+    /** The property a Jackson-visible setter binds, or {@code null} if the method isn't one. */
+    static String setterProperty(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3
+                ? mangle(name.substring(3)) : null;
+    }
+
+    /** Jackson's default (non-"std") bean naming: lower-case the leading upper-case run, {@code URLValue} → {@code urlvalue}. */
+    static String mangle(String basename) {
+        StringBuilder sb = null;
+        for (int i = 0; i < basename.length(); i++) {
+            char upper = basename.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) break;
+            if (sb == null) sb = new StringBuilder(basename);
+            sb.setCharAt(i, lower);
+        }
+        return sb == null ? basename : sb.toString();
+    }
+
+    // ── annotations ─────────────────────────────────────────
+
+    /**
+     * Fails on Jackson annotations, and {@code @JsonDedup}, that the generated
+     * code would ignore.
+     *
+     * @param element     the element to check (may be null)
+     * @param allowRename whether a bare {@code @JsonProperty("name")} is allowed
+     * @return the name from an allowed {@code @JsonProperty}, or {@code null}
+     */
+    private static String rejectJackson(Element element, boolean allowRename) throws InvalidTypeException {
+        if (element == null) return null;
+        String renamed = null;
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+            if (!name.startsWith(JACKSON) && !name.equals(JSON_DEDUP)) continue;
+            if (allowRename && name.equals(JSON_PROPERTY) && isPlainRename(annotation)) {
+                Object value = annotation.getElementValues().values().stream()
+                        .findFirst().map(AnnotationValue::getValue).orElse("");
+                if (!value.toString().isEmpty()) renamed = value.toString();
+                continue;
+            }
+            throw new InvalidTypeException(element, "@BoredJson does not support @" + annotationType.getSimpleName()
+                    + (allowRename ? "" : " here") + "; remove @BoredJson to bind this type by reflection");
+        }
+        return renamed;
+    }
+
+    private static boolean isPlainRename(AnnotationMirror annotation) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+        return values.isEmpty()
+                || values.size() == 1 && values.keySet().iterator().next().getSimpleName().contentEquals("value");
+    }
+}
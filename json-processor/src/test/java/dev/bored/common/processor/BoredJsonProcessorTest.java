@@ -0,0 +1,219 @@
+package dev.bored.common.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoredJsonProcessorTest {
+
+    // Stand-ins for the annotations — the processor only looks at names.
+    private static final String BORED_JSON = """
+            package dev.bored.common.util;
+            public @interface BoredJson {}
+            """;
+    private static final String JSON_DEDUP = """
+            package dev.bored.common.util;
+            public @interface JsonDedup {}
+            """;
+    private static final String JSON_PROPERTY = """
+            package com.fasterxml.jackson.annotation;
+            public @interface JsonProperty { String value() default ""; boolean required() default false; }
+            """;
+    private static final String JSON_FORMAT = """
+            package com.fasterxml.jackson.annotation;
+            public @interface JsonFormat { String pattern() default ""; }
+            """;
+
+    /** The outcome of one in-memory compilation with {@code -proc:only}. */
+    private record Result(List<String> errors, Map<String, String> outputs) {}
+
+    @Test
+    void record_generatesCodecAndServiceEntry() {
+        Result result = compile("demo.Outer", """
+                package demo;
+                import com.fasterxml.jackson.annotation.JsonProperty;
+                import dev.bored.common.util.BoredJson;
+                import java.util.List;
+                public class Outer {
+                    @BoredJson
+                    public record Order(String id, @JsonProperty("customer_id") String customerId, int qty,
+                                        List<String> tags) {}
+                }
+                """);
+
+        assertThat(result.errors).isEmpty();
+        String codec = result.outputs.get("demo/Outer_Order_BoredJsonCodec.java");
+        assertThat(codec)
+                .contains("public final class Outer_Order_BoredJsonCodec implements BoredJsonCodec<demo.Outer.Order>")
+                .contains("new SerializedString(\"customer_id\")")
+                .contains("case \"qty\" ->")
+                .contains("new TypeReference<java.util.List<java.lang.String>>() { }")
+                .contains("return new demo.Outer.Order(v0, v1, v2, v3);");
+        assertThat(result.outputs.get(BoredJsonProcessor.SERVICE_FILE)).isEqualTo("demo.Outer_Order_BoredJsonCodec\n");
+    }
+
+    @Test
+    void bean_ordersPropertiesByFieldAndManglesNames() {
+        Result result = compile("demo.Page", """
+                package demo;
+                @dev.bored.common.util.BoredJson
+                public class Page {
+                    private String url;
+                    private boolean draft;
+                    public boolean isDraft() { return draft; }
+                    public void setDraft(boolean draft) { this.draft = draft; }
+                    public String getURL() { return url; }
+                    public void setURL(String url) { this.url = url; }
+                }
+                """);
+
+        assertThat(result.errors).isEmpty();
+        String codec = result.outputs.get("demo/Page_BoredJsonCodec.java");
+        assertThat(codec.indexOf("SerializedString(\"url\")")).isLessThan(codec.indexOf("SerializedString(\"draft\")"));
+        assertThat(codec).contains("bean.setURL(").contains("demo.Page bean = new demo.Page();");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "public interface Bad {}                                            | records and classes only",
+            "public record Bad<T>(T value) {}                                   | generic types",
+            "public abstract class Bad { public int getX() { return 0; } public void setX(int x) {} } | abstract",
+            "public record Bad() {}                                             | no properties",
+            "public record Bad(int x) { public int getY() { return 1; } }        | getters besides",
+            "public class Bad { public int x; }                                 | public fields",
+            "public class Bad { public int getX() { return 0; } }               | needs a setter for \"x\"",
+            "public class Bad { public void setX(int x) {} }                    | needs a getter for \"x\"",
+            "public class Bad { public int getX() { return 0; } public void setX(long x) {} } | must take int",
+            "public class Bad { private Bad(int a) {} public int getX() { return 0; } public void setX(int x) {} } | no-arg constructor",
+            "public record Bad(@com.fasterxml.jackson.annotation.JsonFormat(pattern = \"x\") String d) {} | @JsonFormat",
+            "public record Bad(@com.fasterxml.jackson.annotation.JsonProperty(required = true) String d) {} | @JsonProperty",
+            "public record Bad(@com.fasterxml.jackson.annotation.JsonProperty(\"b\") String a, String b) {} | two properties named \"b\"",
+            "public record Bad(@dev.bored.common.util.JsonDedup String tag) {}   | @JsonDedup",
+    })
+    void unsupportedShapes_failTheBuild(String declaration, String message) {
+        Result result = compile("demo.Bad", "package demo;\n@dev.bored.common.util.BoredJson\n" + declaration + "\n");
+
+        assertThat(result.errors).singleElement().asString().contains(message);
+        assertThat(result.outputs).doesNotContainKey(BoredJsonProcessor.SERVICE_FILE);
+    }
+
+    @Test
+    void nestedTypes_mustBeReachable() {
+        assertThat(compile("demo.Outer", """
+                package demo;
+                public class Outer {
+                    @dev.bored.common.util.BoredJson
+                    private record Hidden(int x) {}
+                    @dev.bored.common.util.BoredJson
+                    public class Inner { public int getX() { return 0; } public void setX(int x) {} }
+                }
+                """).errors)
+                .anySatisfy(e -> assertThat(e).contains("must not be private"))
+                .anySatisfy(e -> assertThat(e).contains("inner (non-static)"));
+    }
+
+    @Test
+    void mangle_followsJacksonLegacyNaming() {
+        assertThat(TypeModel.mangle("URLValue")).isEqualTo("urlvalue");
+        assertThat(TypeModel.mangle("Name")).isEqualTo("name");
+        assertThat(TypeModel.mangle("x")).isEqualTo("x");
+    }
+
+    // ── harness ───────────────────────────────────────────────
+
+    private static Result compile(String className, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<String, ByteArrayOutputStream> outputs = new LinkedHashMap<>();
+        JavaFileManager files = new ForwardingJavaFileManager<>(compiler.getStandardFileManager(diagnostics, null, null)) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind,
+                                                       FileObject sibling) {
+                return output(name.replace('.', '/') + kind.extension, kind);
+            }
+
+            @Override
+            public FileObject getFileForOutput(Location location, String packageName, String relativeName,
+                                               FileObject sibling) {
+                return output(relativeName, JavaFileObject.Kind.OTHER);
+            }
+
+            private JavaFileObject output(String path, JavaFileObject.Kind kind) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + path), kind) {
+                    // javac parses generated sources again in the next round.
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return outputs.get(path).toString(StandardCharsets.UTF_8);
+                    }
+
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return outputs.computeIfAbsent(path, p -> new ByteArrayOutputStream());
+                    }
+
+                    @Override
+                    public Writer openWriter() {
+                        return new StringWriter() {
+                            @Override
+                            public void close() {
+                                outputs.computeIfAbsent(path, p -> new ByteArrayOutputStream())
+                                        .writeBytes(toString().getBytes(StandardCharsets.UTF_8));
+                            }
+                        };
+                    }
+                };
+            }
+        };
+        List<JavaFileObject> sources = List.of(source("dev.bored.common.util.BoredJson", BORED_JSON),
+                source("com.fasterxml.jackson.annotation.JsonProperty", JSON_PROPERTY),
+                source("com.fasterxml.jackson.annotation.JsonFormat", JSON_FORMAT),
+                source("dev.bored.common.util.JsonDedup", JSON_DEDUP),
+                source(className, source));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, List.of("-proc:only"), null, sources);
+        task.setProcessors(List.of(new BoredJsonProcessor()));
+        task.call();
+
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            // Generated code refers to Jackson, which isn't on this classpath; the
+            // golden tests in common-lib compile and run it.
+            boolean generated = diagnostic.getSource() != null && "mem".equals(diagnostic.getSource().toUri().getScheme());
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR && !generated) errors.add(diagnostic.getMessage(null));
+        }
+        Map<String, String> text = new LinkedHashMap<>();
+        outputs.forEach((path, bytes) -> text.put(path, bytes.toString(StandardCharsets.UTF_8)));
+        return new Result(errors, text);
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package dev.bored.common.exception;
+
+import dev.bored.common.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding one error response: the {@link ErrorResponse} map through
+ * Jackson, as {@code CommonExceptionHandler} used to return it, against
+ * {@link ErrorBody} through Jackson and through its own byte writer. Run
+ * with {@code -prof gc} for allocation per operation.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorBodyBenchmark {
+
+    private static final GenericException NOT_FOUND =
+            new GenericException("Experience not found with slug: senior-backend-engineer", HttpStatus.NOT_FOUND);
+    private static final String PATH = "/api/v1/experiences/senior-backend-engineer";
+
+    @Benchmark
+    public byte[] map() {
+        return JsonUtils.toJsonBytes(ErrorResponse.of(NOT_FOUND, PATH));
+    }
+
+    @Benchmark
+    public byte[] bodyViaJackson() {
+        return JsonUtils.toJsonBytes(ErrorBody.of(NOT_FOUND, PATH));
+    }
+
+    @Benchmark
+    public byte[] bodyBytes() {
+        return ErrorBody.of(NOT_FOUND, PATH).toJsonBytes();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.bored.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting one error: {@link MicrometerErrorMetrics} against the usual
+ * {@code Counter.builder(...).register(registry)} per error, which builds
+ * the tags and looks the meter up in the registry every time. Run with
+ * {@code -prof gc} for allocation per operation.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorMetricsBenchmark {
+
+    private static final GenericException NOT_FOUND =
+            new GenericException("Experience not found with slug: senior-backend-engineer", HttpStatus.NOT_FOUND);
+    private static final PathPattern ROUTE = PathPatternParser.defaultInstance.parse("/api/v1/experiences/{slug}");
+
+    private MeterRegistry registry;
+    private ErrorMetrics cached;
+
+    @Setup
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        cached = MicrometerErrorMetrics.create(registry, MicrometerErrorMetrics.DEFAULT_MAX_ROUTES);
+    }
+
+    @Benchmark
+    public void registerPerError() {
+        Counter.builder(MicrometerErrorMetrics.METER)
+                .tag("status", Integer.toString(NOT_FOUND.getStatus().value()))
+                .tag("exception", NOT_FOUND.getClass().getName())
+                .tag("route", ROUTE.getPatternString())
+                .register(registry)
+                .increment();
+    }
+
+    @Benchmark
+    public void cached() {
+        cached.record(NOT_FOUND, NOT_FOUND.getStatus().value(), ROUTE);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.bored.common.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throwing a 404 {@link GenericException} from {@code depth} frames down
+ * and turning it into an {@link ErrorBody}, the way
+ * {@code CommonExceptionHandler} does: with a stack trace (the old
+ * behavior), under the default {@link StackTracePolicy}, and as a
+ * {@link GenericException#constant constant}. Request handling in a
+ * Spring service typically sits 100+ frames deep.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenericExceptionBenchmark {
+
+    private static final GenericException NOT_FOUND = GenericException.constant("Profile not found", HttpStatus.NOT_FOUND);
+
+    @Param({"20", "150"})
+    public int depth;
+
+    @Benchmark
+    public byte[] withStackTrace() {
+        return handle(() -> new GenericException("Profile not found", HttpStatus.NOT_FOUND, null, true));
+    }
+
+    @Benchmark
+    public byte[] policy() {
+        return handle(() -> new GenericException("Profile not found", HttpStatus.NOT_FOUND));
+    }
+
+    @Benchmark
+    public byte[] constant() {
+        return handle(() -> NOT_FOUND);
+    }
+
+    private byte[] handle(Supplier<GenericException> error) {
+        try {
+            throwAt(depth, error);
+            return null;
+        } catch (GenericException ex) {
+            return ErrorBody.of(ex, "/api/v1/profiles/99").toJsonBytes();
+        }
+    }
+
+    private static int throwAt(int frames, Supplier<GenericException> error) {
+        if (frames == 0) throw error.get();
+        return throwAt(frames - 1, error) + 1;
+    }
+}
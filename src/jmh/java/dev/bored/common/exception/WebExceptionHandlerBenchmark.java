@@ -0,0 +1,100 @@
+package dev.bored.common.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.autoconfigure.web.ErrorProperties;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.autoconfigure.web.reactive.error.DefaultErrorWebExceptionHandler;
+import org.springframework.boot.web.reactive.error.DefaultErrorAttributes;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the reactive error path: requests per second through
+ * {@link CommonWebExceptionHandler} against Spring Boot's
+ * {@link DefaultErrorWebExceptionHandler}, as the api-gateway uses it
+ * without this library, for the gateway's most common error — a 404 for an
+ * unknown route. Each operation is a full exchange: handler, status,
+ * headers and the encoded body. Run with {@code -prof gc} for allocation
+ * per request.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class WebExceptionHandlerBenchmark {
+
+    private static final ResponseStatusException NO_ROUTE =
+            new ResponseStatusException(HttpStatus.NOT_FOUND, "No route for /api/v1/experiences/senior-backend-engineer");
+
+    private WebExceptionHandler common;
+    private WebExceptionHandler boot;
+
+    @Setup
+    public void setUp() throws Exception {
+        common = new CommonWebExceptionHandler();
+
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ServerCodecConfigurer codecs = ServerCodecConfigurer.create();
+        DefaultErrorWebExceptionHandler handler = new DefaultErrorWebExceptionHandler(
+                new DefaultErrorAttributes(), new WebProperties.Resources(), new ErrorProperties(), context);
+        handler.setMessageReaders(codecs.getReaders());
+        handler.setMessageWriters(codecs.getWriters());
+        handler.setViewResolvers(List.of());
+        handler.afterPropertiesSet();
+        boot = handler;
+
+        for (WebExceptionHandler each : List.of(common, boot)) {
+            MockServerWebExchange exchange = exchange();
+            each.handle(exchange, NO_ROUTE).block();
+            String body = exchange.getResponse().getBodyAsString().block();
+            if (exchange.getResponse().getStatusCode() != HttpStatus.NOT_FOUND || !body.contains("\"status\":404")) {
+                throw new IllegalStateException(each + " wrote " + body);
+            }
+        }
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/experiences/senior-backend-engineer")
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    /** The mock exchange alone, to subtract from the handlers. */
+    @Benchmark
+    public MockServerWebExchange exchangeOnly() {
+        return exchange();
+    }
+
+    @Benchmark
+    public MockServerWebExchange common() {
+        MockServerWebExchange exchange = exchange();
+        common.handle(exchange, NO_ROUTE).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public MockServerWebExchange springBootDefault() {
+        MockServerWebExchange exchange = exchange();
+        boot.handle(exchange, NO_ROUTE).block();
+        return exchange;
+    }
+}
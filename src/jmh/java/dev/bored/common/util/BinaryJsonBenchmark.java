@@ -0,0 +1,74 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JSON versus Smile and CBOR for a typical service-to-service payload — a
+ * page of profile DTOs as stream-service returns them to api-gateway.
+ * Encoded sizes are printed on setup; run with {@code -prof gc} for the
+ * allocation side.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BinaryJsonBenchmark {
+
+    public record Profile(long id, String handle, String displayName, String bio, Instant joined,
+                          int followers, int following, double score, List<String> tags) {}
+
+    public record Page(int number, int size, long total, List<Profile> items) {}
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public String format;
+
+    private Page page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        List<Profile> items = IntStream.range(0, 50)
+                .mapToObj(i -> new Profile(1_000_000L + i, "user" + i, "User Number " + i,
+                        "Writes about cooking, travel and whatever else comes up.",
+                        Instant.parse("2026-01-01T00:00:00Z").plusSeconds(i * 3_600L),
+                        1_200 + i * 7, 300 + i, 0.5 + i / 100.0, List.of("food", "travel")))
+                .toList();
+        page = new Page(0, 50, 1_250, items);
+        encoded = encode();
+        System.out.println(format + ": " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return encode();
+    }
+
+    @Benchmark
+    public Page deserialize() {
+        return switch (format) {
+            case "JSON" -> JsonUtils.fromJson(encoded, 0, encoded.length, Page.class);
+            default -> BinaryJsonUtils.fromBytes(encoded, Page.class, BinaryJsonUtils.Format.valueOf(format));
+        };
+    }
+
+    private byte[] encode() {
+        return switch (format) {
+            case "JSON" -> JsonUtils.toJsonBytes(page);
+            default -> BinaryJsonUtils.toBytes(page, BinaryJsonUtils.Format.valueOf(format));
+        };
+    }
+}
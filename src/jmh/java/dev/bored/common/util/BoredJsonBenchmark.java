@@ -0,0 +1,134 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BoredJson} codecs against Jackson's reflective bean binding, on
+ * otherwise identical mappers. {@code firstUse} is a cold start — build
+ * the mapper, then serialize and read back one value of each DTO type;
+ * {@code serialize} and {@code deserialize} are steady state on a
+ * 20-line order. Run with {@code -prof gc} for allocation per operation.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class BoredJsonBenchmark {
+
+    @BoredJson
+    public record Address(String street, String city, String postcode, String country) {}
+
+    @BoredJson
+    public record Customer(String id, String name, String email, boolean business, Address billing) {}
+
+    @BoredJson
+    public record Line(String sku, String title, int quantity, long priceCents, double weight) {}
+
+    @BoredJson
+    public record Order(String id, Customer customer, LocalDate placed, Instant updated, List<Line> lines,
+                        long totalCents, String currency) {}
+
+    @BoredJson
+    public record Invoice(String number, String orderId, Instant issued, long totalCents, String currency) {}
+
+    @BoredJson
+    public record Shipment(String id, String orderId, String carrier, String tracking, Instant dispatched) {}
+
+    private static final Address ADDRESS = new Address("1 Rue de la Paix", "Paris", "75002", "FR");
+    private static final Customer CUSTOMER = new Customer("c-1", "Société Générale", "ap@example.com", true, ADDRESS);
+    private static final Instant NOW = Instant.parse("2026-10-17T09:30:00Z");
+    private static final Order ORDER = order(20);
+    /** Built once, as JsonUtils and the Spring context do — the class-path scan isn't part of a mapper's cold start. */
+    private static final BoredJsonModule MODULE = new BoredJsonModule();
+    private static final List<Object> FIRST_REQUESTS = List.of(order(1),
+            new Invoice("INV-1", "o-1", NOW, 69_800, "EUR"),
+            new Shipment("s-1", "o-1", "DHL", "JD0146000", NOW));
+
+    @Param({"reflection", "generated"})
+    public String binding;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] json;
+
+    private static Order order(int lines) {
+        List<Line> list = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            list.add(new Line("SKU-" + i, "Desk lamp, brass, 40 cm", 1 + i % 3, 34_900 + i, 1.25 * i));
+        }
+        return new Order("o-1", CUSTOMER, LocalDate.of(2026, 10, 17), NOW, list, 698_000, "EUR");
+    }
+
+    private ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return "generated".equals(binding) ? mapper.registerModule(MODULE) : mapper;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = newMapper();
+        writer = mapper.writerFor(Order.class);
+        reader = mapper.readerFor(Order.class);
+        json = writer.writeValueAsBytes(ORDER);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 30)
+    public int firstUse() throws IOException {
+        ObjectMapper mapper = newMapper();
+        int hash = 0;
+        for (Object request : FIRST_REQUESTS) {
+            byte[] body = mapper.writeValueAsBytes(request);
+            hash += mapper.readValue(body, request.getClass()).hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(ORDER);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Order deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DateUtils#parseEpochDays(CharSequence[], int[])} against
+ * calling {@link DateUtils#parseDate(String)} row by row.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateColumnBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    /** {@code single} — one format per column; {@code mixed} — formats rotate per row. */
+    @Param({"single", "mixed"})
+    public String layout;
+
+    private String[] values;
+    private int[] epochDays;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        values = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(30_000));
+            int format = "single".equals(layout) ? 0 : i % 3;
+            values[i] = switch (format) {
+                case 0 -> DateUtils.format(date, DateUtils.ISO);
+                case 1 -> DateUtils.format(date, DateUtils.US);
+                default -> DateUtils.format(date, DateUtils.EU);
+            };
+        }
+        epochDays = new int[rows];
+    }
+
+    @Benchmark
+    public BitSet bulk() {
+        return DateUtils.parseEpochDays(values, epochDays);
+    }
+
+    @Benchmark
+    public void perRow(Blackhole bh) {
+        for (String value : values) {
+            bh.consume(DateUtils.parseDate(value));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code DateTimeFormatter}-based formatting with the hand-rolled
+ * {@code appendIso} writers and {@link DateFormatCache}. Run with
+ * {@code -prof gc} to see the allocation difference.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFormatBenchmark {
+
+    private final LocalDate date = LocalDate.of(2026, 2, 15);
+    private final LocalDateTime dateTime = LocalDateTime.of(2026, 2, 15, 10, 30, 5);
+    private final StringBuilder sb = new StringBuilder(64);
+    private final byte[] bytes = new byte[64];
+    private final DateFormatCache monthYear = new DateFormatCache(DateUtils.MONTH_YEAR, 4096);
+
+    @Setup
+    public void warmCache() {
+        monthYear.format(date);
+    }
+
+    @Benchmark
+    public String formatterDate() {
+        return date.format(DateUtils.ISO);
+    }
+
+    @Benchmark
+    public String formatterDateTime() {
+        return dateTime.format(DateUtils.ISO_DT);
+    }
+
+    @Benchmark
+    public StringBuilder appendDate() {
+        sb.setLength(0);
+        return DateUtils.appendIso(date, sb);
+    }
+
+    @Benchmark
+    public int appendDateTimeBytes() {
+        return DateUtils.appendIso(dateTime, bytes, 0);
+    }
+
+    @Benchmark
+    public String formatterMonthYear() {
+        return date.format(DateUtils.MONTH_YEAR);
+    }
+
+    @Benchmark
+    public String cachedMonthYear() {
+        return monthYear.format(date);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DateUtils#parseDate(String)} against the previous
+ * try-each-formatter loop, per input format.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilsBenchmark {
+
+    private static final List<DateTimeFormatter> FORMATTERS =
+            List.of(DateUtils.ISO, DateUtils.US, DateUtils.EU);
+
+    @Param({"2026-02-15", "02/15/2026", "15-02-2026"})
+    public String input;
+
+    @Setup
+    public void verify() {
+        if (!DateUtils.parseDate(input).equals(formatterLoop(input))) {
+            throw new IllegalStateException("Parsers disagree on " + input);
+        }
+    }
+
+    @Benchmark
+    public LocalDate singlePass() {
+        return DateUtils.parseDate(input);
+    }
+
+    @Benchmark
+    public LocalDate formatterLoop() {
+        return formatterLoop(input);
+    }
+
+    private static LocalDate formatterLoop(String text) {
+        String trimmed = text.trim();
+        for (DateTimeFormatter fmt : FORMATTERS) {
+            try {
+                return LocalDate.parse(trimmed, fmt);
+            } catch (DateTimeParseException ignored) {
+                // try next format
+            }
+        }
+        throw new DateTimeParseException("Unable to parse date: " + trimmed, trimmed, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reflective property access against Blackbird's generated
+ * accessors on a record DTO and a getter/setter POJO, in both directions.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonAccessorBenchmark {
+
+    public record ProfileRecord(long id, String slug, String displayName, String headline,
+                                String location, int followers, boolean verified, LocalDate joined) {}
+
+    public static class ProfilePojo {
+        private long id;
+        private String slug;
+        private String displayName;
+        private String headline;
+        private String location;
+        private int followers;
+        private boolean verified;
+        private LocalDate joined;
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public String getSlug() { return slug; }
+        public void setSlug(String slug) { this.slug = slug; }
+        public String getDisplayName() { return displayName; }
+        public void setDisplayName(String displayName) { this.displayName = displayName; }
+        public String getHeadline() { return headline; }
+        public void setHeadline(String headline) { this.headline = headline; }
+        public String getLocation() { return location; }
+        public void setLocation(String location) { this.location = location; }
+        public int getFollowers() { return followers; }
+        public void setFollowers(int followers) { this.followers = followers; }
+        public boolean isVerified() { return verified; }
+        public void setVerified(boolean verified) { this.verified = verified; }
+        public LocalDate getJoined() { return joined; }
+        public void setJoined(LocalDate joined) { this.joined = joined; }
+    }
+
+    @Param({"reflection", "blackbird"})
+    public String accessors;
+
+    private ObjectMapper mapper;
+    private ProfileRecord record;
+    private ProfilePojo pojo;
+    private byte[] recordJson;
+    private byte[] pojoJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = JsonUtils.newMapper(JsonUtils.bufferPool(), "blackbird".equals(accessors), JsonUtils.BLACKBIRD_MODULE);
+        if ("blackbird".equals(accessors) && !JsonUtils.usesBlackbird(mapper)) {
+            throw new IllegalStateException("Blackbird is not usable in this JVM");
+        }
+        record = new ProfileRecord(42L, "bored-dev", "Bored Developer", "Writes shared libraries",
+                "Zürich", 1_337, true, LocalDate.of(2026, 2, 15));
+        pojo = mapper.readValue(mapper.writeValueAsBytes(record), ProfilePojo.class);
+        recordJson = mapper.writeValueAsBytes(record);
+        pojoJson = mapper.writeValueAsBytes(pojo);
+    }
+
+    @Benchmark
+    public byte[] writeRecord() throws IOException {
+        return mapper.writeValueAsBytes(record);
+    }
+
+    @Benchmark
+    public byte[] writePojo() throws IOException {
+        return mapper.writeValueAsBytes(pojo);
+    }
+
+    @Benchmark
+    public ProfileRecord readRecord() throws IOException {
+        return mapper.readValue(recordJson, ProfileRecord.class);
+    }
+
+    @Benchmark
+    public ProfilePojo readPojo() throws IOException {
+        return mapper.readValue(pojoJson, ProfilePojo.class);
+    }
+}
@@ -0,0 +1,88 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a batch of request-sized DTOs, one task each, on a pool of
+ * platform threads versus a fresh virtual thread per task — the way a
+ * servlet container runs requests — for each {@link JsonBufferPool}
+ * strategy. Run with {@code -prof gc}; the hit/miss counters are printed
+ * on teardown.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBufferPoolBenchmark {
+
+    public record Line(String sku, int quantity, long priceCents) {}
+
+    public record Order(String id, String customer, LocalDate placed, List<Line> lines) {}
+
+    private static final int TASKS = 256;
+
+    @Param({"CONCURRENT_DEQUE", "BOUNDED", "THREAD_LOCAL"})
+    public JsonBufferPool.Strategy strategy;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private JsonBufferPool pool;
+    private ObjectMapper mapper;
+    private ExecutorService executor;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        pool = JsonBufferPool.create(strategy, JsonBufferPool.DEFAULT_SIZE);
+        mapper = JsonUtils.newMapper(pool, false, JsonUtils.BLACKBIRD_MODULE);
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        order = new Order("ord-20261017-0001", "Société Générale", LocalDate.of(2026, 10, 17), List.of(
+                new Line("SKU-1", 2, 34_900), new Line("SKU-2", 1, 79_900), new Line("SKU-3", 3, 12_450)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        System.out.println(threads + " threads: " + pool);
+    }
+
+    @Benchmark
+    public long serializeBatch() throws Exception {
+        List<Future<byte[]>> results = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            results.add(executor.submit(this::serialize));
+        }
+        long bytes = 0;
+        for (Future<byte[]> result : results) {
+            bytes += result.get().length;
+        }
+        return bytes;
+    }
+
+    private byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(order);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code String} round trip a byte body used to take against
+ * the direct byte overloads. Run with {@code -prof gc} to see the
+ * allocation rate per operation.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBytesBenchmark {
+
+    public record Line(String sku, String description, int quantity, long priceCents) {}
+
+    public record Order(String id, String customer, LocalDate placed, List<Line> lines) {}
+
+    private Order order;
+    private byte[] body;
+    private ByteArrayOutputStream sink;
+
+    @Setup
+    public void setUp() {
+        order = new Order("ord-20261017-0001", "Société Générale", LocalDate.of(2026, 10, 17), List.of(
+                new Line("SKU-1", "Ergonomic chair, graphite", 2, 34_900),
+                new Line("SKU-2", "Standing desk, oak veneer", 1, 79_900),
+                new Line("SKU-3", "Monitor arm — dual", 3, 12_450)));
+        body = JsonUtils.toJsonBytes(order);
+        sink = new ByteArrayOutputStream(body.length * 2);
+    }
+
+    @Benchmark
+    public byte[] writeViaString() {
+        return JsonUtils.toJson(order).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() {
+        return JsonUtils.toJsonBytes(order);
+    }
+
+    @Benchmark
+    public int writeToStream() {
+        sink.reset();
+        JsonUtils.writeJson(order, sink);
+        return sink.size();
+    }
+
+    @Benchmark
+    public Order readViaString() {
+        return JsonUtils.fromJson(new String(body, StandardCharsets.UTF_8), Order.class);
+    }
+
+    @Benchmark
+    public Order readBytes() {
+        return JsonUtils.fromJson(body, 0, body.length, Order.class);
+    }
+}
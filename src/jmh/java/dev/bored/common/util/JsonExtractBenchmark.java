@@ -0,0 +1,81 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonUtils#extract(byte[], JsonPointer...)} versus
+ * {@code readTree(...).at(...)} on 1 KB, 100 KB and 10 MB event documents.
+ * {@code head} asks for the id and type at the top, so extraction stops
+ * early; {@code tail} also asks for the version written after the payload,
+ * so the whole document is tokenized but the payload is never built. Run
+ * with {@code -prof gc} to see the tree allocation that extraction avoids.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonExtractBenchmark {
+
+    private static final JsonPointer ID = JsonPointer.compile("/id");
+    private static final JsonPointer TYPE = JsonPointer.compile("/type");
+    private static final JsonPointer VERSION = JsonPointer.compile("/meta/version");
+
+    @Param({"1024", "102400", "10485760"})
+    public int size;
+
+    private byte[] json;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        StringBuilder doc = new StringBuilder("{\"id\":\"evt-20261017-0001\",\"type\":\"profile.updated\",\"payload\":[");
+        for (int i = 0; doc.length() < size - 64; i++) {
+            if (i > 0) doc.append(',');
+            doc.append("{\"field\":\"bio\",\"seq\":").append(i).append(",\"value\":\"Writes about cooking and travel\"}");
+        }
+        doc.append("],\"meta\":{\"version\":3}}");
+        json = doc.toString().getBytes(StandardCharsets.UTF_8);
+        mapper = JsonUtils.mapper();
+    }
+
+    @Benchmark
+    public Map<JsonPointer, JsonNode> extractHead() {
+        return JsonUtils.extract(json, ID, TYPE);
+    }
+
+    @Benchmark
+    public JsonNode readTreeHead() throws IOException {
+        JsonNode tree = mapper.readTree(json);
+        tree.at(TYPE);
+        return tree.at(ID);
+    }
+
+    @Benchmark
+    public Map<JsonPointer, JsonNode> extractTail() {
+        return JsonUtils.extract(json, ID, VERSION);
+    }
+
+    @Benchmark
+    public JsonNode readTreeTail() throws IOException {
+        JsonNode tree = mapper.readTree(json);
+        tree.at(ID);
+        return tree.at(VERSION);
+    }
+}
@@ -0,0 +1,78 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-call {@link ObjectMapper#readValue} against the per-type
+ * readers and writers cached in {@link JsonUtils}, with several threads
+ * hitting the same types as request handlers would.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class JsonReaderCacheBenchmark {
+
+    public record Item(String sku, int quantity) {}
+
+    private static final TypeReference<List<Item>> ITEMS = new TypeReference<>() {};
+
+    private ObjectMapper mapper;
+    private Item item;
+    private String itemJson;
+    private String itemsJson;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonUtils.mapper();
+        item = new Item("SKU-1", 3);
+        itemJson = JsonUtils.toJson(item);
+        itemsJson = JsonUtils.toJson(List.of(item, new Item("SKU-2", 1), new Item("SKU-3", 7)));
+    }
+
+    @Benchmark
+    public Item readClassMapper() throws JsonProcessingException {
+        return mapper.readValue(itemJson, Item.class);
+    }
+
+    @Benchmark
+    public Item readClassCached() {
+        return JsonUtils.fromJson(itemJson, Item.class);
+    }
+
+    @Benchmark
+    public List<Item> readGenericMapper() throws JsonProcessingException {
+        return mapper.readValue(itemsJson, ITEMS);
+    }
+
+    @Benchmark
+    public List<Item> readGenericCached() {
+        return JsonUtils.fromJson(itemsJson, ITEMS);
+    }
+
+    @Benchmark
+    public String writeMapper() throws JsonProcessingException {
+        return mapper.writeValueAsString(item);
+    }
+
+    @Benchmark
+    public String writeCached() {
+        return JsonUtils.toJson(item);
+    }
+}
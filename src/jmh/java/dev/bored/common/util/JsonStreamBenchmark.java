@@ -0,0 +1,88 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares materializing an export as a {@code List} against streaming it
+ * element by element, in both directions. Run with {@code -prof gc}: the
+ * streaming paths allocate per element, the list paths per document.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonStreamBenchmark {
+
+    public record Row(long id, String slug, String name, int score) {}
+
+    private static final TypeReference<List<Row>> ROWS = new TypeReference<>() {};
+
+    /** Discards output — measures serialization, not buffer growth. */
+    private static final OutputStream NULL_OUT = OutputStream.nullOutputStream();
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private List<Row> data;
+    private byte[] array;
+
+    @Setup
+    public void setUp() {
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(new Row(i, "row-" + i, "Row number " + i, i % 100));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonSequenceWriter writer = JsonSequenceWriter.array(out)) {
+            data.forEach(writer::write);
+        }
+        array = out.toByteArray();
+    }
+
+    @Benchmark
+    public long readAsList() {
+        List<Row> list = JsonUtils.fromJson(new String(array, StandardCharsets.UTF_8), ROWS);
+        long sum = 0;
+        for (Row row : list) sum += row.score();
+        return sum;
+    }
+
+    @Benchmark
+    public long readAsStream() {
+        try (Stream<Row> stream = JsonUtils.stream(new ByteArrayInputStream(array), Row.class)) {
+            return stream.mapToLong(Row::score).sum();
+        }
+    }
+
+    @Benchmark
+    public void writeAsList() {
+        JsonUtils.writeJson(data, NULL_OUT);
+    }
+
+    @Benchmark
+    public long writeAsSequence() {
+        try (JsonSequenceWriter writer = JsonSequenceWriter.array(NULL_OUT)) {
+            data.forEach(writer::write);
+            return writer.count();
+        }
+    }
+}
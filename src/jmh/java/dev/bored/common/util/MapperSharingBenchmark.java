@@ -0,0 +1,105 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of a service's JSON layer: build the mapper(s) and serve the
+ * first request for each DTO type, once through Spring's mapper and once
+ * through {@link JsonUtils}. {@code separate} is the old setup — two
+ * mappers, each building its own serializers and deserializers;
+ * {@code shared} installs Spring's mapper in {@link JsonUtils}, so the
+ * second caller hits warm caches. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} for the footprint side.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(5)
+public class MapperSharingBenchmark {
+
+    public record Address(String street, String city, String postcode, String country) {}
+
+    public record Customer(String id, String name, String email, Address billing, Address shipping) {}
+
+    public record Line(String sku, int quantity, long priceCents) {}
+
+    public record Order(String id, Customer customer, LocalDate placed, List<Line> lines) {}
+
+    public record Invoice(String number, String orderId, Instant issued, long totalCents, String currency) {}
+
+    public record Shipment(String id, String orderId, String carrier, String tracking, Instant dispatched) {}
+
+    public record Refund(String id, String invoiceNumber, long amountCents, String reason) {}
+
+    public record Product(String sku, String title, String description, List<String> tags, Map<String, String> attributes) {}
+
+    private static final Address ADDRESS = new Address("1 Rue de la Paix", "Paris", "75002", "FR");
+    private static final Customer CUSTOMER = new Customer("c-1", "Société Générale", "ap@example.com", ADDRESS, ADDRESS);
+    private static final Instant NOW = Instant.parse("2026-10-17T09:30:00Z");
+
+    private static final List<Object> REQUESTS = List.of(
+            new Order("o-1", CUSTOMER, LocalDate.of(2026, 10, 17), List.of(new Line("SKU-1", 2, 34_900))),
+            new Invoice("INV-1", "o-1", NOW, 69_800, "EUR"),
+            new Shipment("s-1", "o-1", "DHL", "JD0146000", NOW),
+            new Refund("r-1", "INV-1", 34_900, "damaged"),
+            new Product("SKU-1", "Desk lamp", "Brass, 40 cm", List.of("home", "lighting"), Map.of("colour", "brass")));
+
+    @Param({"separate", "shared"})
+    public String mappers;
+
+    @TearDown
+    public void tearDown() {
+        JsonUtils.setMapper(null);
+    }
+
+    @Benchmark
+    public long firstRequests() throws Exception {
+        ObjectMapper spring = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(JavaTimeModule.class)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        if ("shared".equals(mappers)) {
+            JsonUtils.setMapper(spring);
+        } else {
+            // A fresh built-in mapper, as a cold JVM would have.
+            JsonUtils.setMapper(JsonUtils.newMapper(JsonUtils.bufferPool(), false, JsonUtils.BLACKBIRD_MODULE));
+        }
+        long bytes = 0;
+        for (Object request : REQUESTS) {
+            // A controller binds through Spring's mapper…
+            byte[] body = spring.writeValueAsBytes(request);
+            bytes += spring.readValue(body, request.getClass()).hashCode();
+            // …while a Kafka listener or audit log goes through JsonUtils.
+            byte[] event = JsonUtils.toJsonBytes(request);
+            bytes += JsonUtils.fromJson(event, 0, event.length, request.getClass()).hashCode();
+        }
+        return bytes;
+    }
+}
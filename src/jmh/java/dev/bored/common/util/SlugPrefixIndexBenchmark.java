@@ -0,0 +1,62 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prefix lookups on a one-million-entry {@link SlugPrefixIndex}. The setup
+ * prints the index footprint and how many entries the prefix matches, so
+ * both show up next to the timings.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlugPrefixIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "deloitte", "consulting", "digital", "software", "labs", "global", "systems", "group",
+            "accenture", "bored", "developer", "cloud", "data", "health", "capital", "partners"
+    };
+
+    @Param({"d", "del", "deloitte-con"})
+    public String prefix;
+
+    private SlugPrefixIndex index;
+
+    @Setup(Level.Trial)
+    public void build() {
+        Random random = new Random(1);
+        SlugPrefixIndex.Builder builder = SlugPrefixIndex.builder();
+        for (int i = 0; i < 1_000_000; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            builder.add(name, i, random.nextInt(10_000));
+        }
+        index = builder.build();
+        System.out.printf("%nSlugPrefixIndex: %,d entries, %,d bytes per million, %,d match \"%s\"%n",
+                index.size(), index.footprintPerMillionEntries(), index.find(prefix, Integer.MAX_VALUE).size(), prefix);
+    }
+
+    @Benchmark
+    public List<SlugPrefixIndex.Match> find10() {
+        return index.find(prefix, 10);
+    }
+
+    @Benchmark
+    public List<SlugPrefixIndex.Match> top10() {
+        return index.top(prefix, 10);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table-driven {@link StringUtils#slugify(String)} against the
+ * Normalizer + regex path it falls back to.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlugifyBenchmark {
+
+    @Param({"Deloitte Consulting LLC", "Café Résumé Société Générale", "Ωmega Holdings"})
+    public String input;
+
+    @Benchmark
+    public String table() {
+        return StringUtils.slugify(input);
+    }
+
+    @Benchmark
+    public String normalizer() {
+        return StringUtils.slugifyNormalized(input);
+    }
+}
@@ -0,0 +1,78 @@
+package dev.bored.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vector vs scalar {@link TextScan} kernels from 16 bytes to 1 MB. The
+ * input is whitespace with one content char at the very end — the worst
+ * case for a first-non-blank scan — and pure ASCII for the ASCII check.
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextScanBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576"})
+    public int size;
+
+    private TextScan.Kernels vector;
+    private char[] chars;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        vector = TextScan.vectorKernels();
+        if (vector == null) {
+            throw new IllegalStateException("Run with --add-modules jdk.incubator.vector");
+        }
+        chars = new char[size];
+        Arrays.fill(chars, ' ');
+        chars[size - 1] = 'x';
+        bytes = new byte[size];
+        Arrays.fill(bytes, (byte) ' ');
+        bytes[size - 1] = 'x';
+    }
+
+    @Benchmark
+    public int firstNonBlankVector() {
+        return vector.firstNonBlank(chars, 0, size);
+    }
+
+    @Benchmark
+    public int firstNonBlankScalar() {
+        return TextScan.firstNonBlankScalar(chars, 0, size);
+    }
+
+    @Benchmark
+    public int firstNonBlankBytesVector() {
+        return vector.firstNonBlank(bytes, 0, size);
+    }
+
+    @Benchmark
+    public int firstNonBlankBytesScalar() {
+        return TextScan.firstNonBlankScalar(bytes, 0, size);
+    }
+
+    @Benchmark
+    public boolean isAsciiVector() {
+        return vector.isAscii(bytes, 0, size);
+    }
+
+    @Benchmark
+    public boolean isAsciiScalar() {
+        return TextScan.isAsciiScalar(bytes, 0, size);
+    }
+}
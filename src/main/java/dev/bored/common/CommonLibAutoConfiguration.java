@@ -1,19 +1,55 @@
 package dev.bored.common;
 
 import dev.bored.common.exception.CommonExceptionHandler;
+import dev.bored.common.exception.ErrorLogLimiter;
+import dev.bored.common.exception.ErrorMetrics;
+import dev.bored.common.exception.MicrometerErrorMetrics;
+import dev.bored.common.exception.StackTracePolicy;
+import dev.bored.common.util.BoredJsonModule;
+import dev.bored.common.util.CoarseClock;
+import dev.bored.common.util.JsonBufferPool;
+import dev.bored.common.util.JsonUtils;
+import dev.bored.common.util.StringDedupModule;
+import dev.bored.common.web.BoredProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Clock;
+
 /**
  * Root auto-configuration for the shared common-lib beans.
  * <p>
  * Registered in {@code META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports}
  * so services automatically get:
  * <ul>
- *   <li>{@link CommonExceptionHandler} — uniform error responses (servlet only).</li>
+ *   <li>{@link CommonExceptionHandler} — uniform error responses (servlet only; reactive services get {@link dev.bored.common.exception.CommonWebExceptionHandler}), logged through {@link ErrorLogLimiter}.</li>
+ *   <li>{@link CoarseClock} — shared cached timestamp, ticking every {@code bored.clock.tick}.</li>
+ *   <li>{@link ErrorMetrics} — error counters on the Micrometer registry, when there is one.</li>
+ *   <li>{@link StackTracePolicy} — which {@code GenericException}s fill in a stack trace, per {@code bored.exceptions}.</li>
+ *   <li>{@link JsonUtils} settings on the Spring {@code ObjectMapper}, which then backs {@link JsonUtils} itself.</li>
+ *   <li>{@link JsonBufferPool} — buffer recycling for the Spring {@code ObjectMapper}, per {@code bored.json.buffer-pool}.</li>
+ *   <li>{@link BoredJsonModule} — compile-time codecs for {@code @BoredJson} types on the Spring {@code ObjectMapper}.</li>
+ *   <li>{@link StringDedupModule} — string value deduplication on the Spring {@code ObjectMapper}, per {@code bored.json.dedup}.</li>
+ *   <li>Jackson Blackbird on the Spring {@code ObjectMapper} — opt-in via {@code bored.json.blackbird}.</li>
  * </ul>
  * CORS beans live in their own conditional configs in
  * {@code dev.bored.common.web} so they fire only for the matching stack
@@ -24,13 +60,183 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * @since 2026-04-18
  */
 @AutoConfiguration
+@EnableConfigurationProperties(BoredProperties.class)
 public class CommonLibAutoConfiguration {
 
+    /**
+     * Shared coarse clock — also installed as {@link CoarseClock#shared()} so
+     * static helpers like {@code ErrorResponse} pick up the configured tick.
+     * A default clock that {@link CoarseClock#shared()} started before the
+     * context is closed, so its ticker doesn't outlive the swap.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public CoarseClock coarseClock(BoredProperties props) {
+        CoarseClock clock = new CoarseClock(Clock.systemUTC(), props.clock().withDefaults().tick());
+        CoarseClock previous = CoarseClock.setShared(clock);
+        if (previous != null && previous.isLazyDefault()) {
+            previous.close();
+        }
+        return clock.start();
+    }
+
+    /**
+     * Stack trace policy — also installed as {@link StackTracePolicy#shared()},
+     * which {@code GenericException} reads on construction.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public StackTracePolicy stackTracePolicy(BoredProperties props) {
+        BoredProperties.Exceptions exceptions = props.exceptions().withDefaults();
+        StackTracePolicy policy = StackTracePolicy.of(exceptions.stackTraces(), exceptions.stackTraceStatuses());
+        StackTracePolicy.setShared(policy);
+        return policy;
+    }
+
+    /**
+     * Buffer pool for the Spring {@code ObjectMapper}. Exposed as a bean so
+     * services can report its hit and miss counters.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonBufferPool jsonBufferPool(BoredProperties props) {
+        BoredProperties.BufferPool pool = props.json().withDefaults().bufferPool();
+        return JsonBufferPool.create(pool.strategy(), pool.size());
+    }
+
+    /**
+     * Applies the {@link JsonUtils} settings — Java time, ISO dates, lenient
+     * unknown properties — and {@link #jsonBufferPool} to Spring's
+     * {@code ObjectMapper}. Runs before Boot's own customizer so explicit
+     * {@code spring.jackson.*} properties still win.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public Jackson2ObjectMapperBuilderCustomizer boredJacksonCustomizer(JsonBufferPool pool) {
+        return builder -> builder
+                .modulesToInstall(JavaTimeModule.class)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .postConfigurer(mapper -> mapper.getFactory().setRecyclerPool(pool));
+    }
+
+    /**
+     * Hands Spring's {@code ObjectMapper} to {@link JsonUtils} once the
+     * context is up, so the app runs one mapper with one set of caches.
+     */
+    @Bean
+    public static JsonUtilsMapperInstaller jsonUtilsMapperInstaller(ObjectProvider<ObjectMapper> mapper) {
+        return new JsonUtilsMapperInstaller(mapper);
+    }
+
+    /**
+     * Generated {@code @BoredJson} codecs as a Jackson {@link Module} bean,
+     * which Spring Boot registers on its {@code ObjectMapper}.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BoredJsonModule boredJsonModule() {
+        return new BoredJsonModule();
+    }
+
+    /**
+     * String deduplication as a Jackson {@link Module} bean, which Spring
+     * Boot registers on its {@code ObjectMapper}. Exposed as a bean so
+     * services can report its hit rate.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public StringDedupModule stringDedupModule(BoredProperties props) {
+        BoredProperties.Dedup dedup = props.json().withDefaults().dedup();
+        return StringDedupModule.create(dedup.scope(), dedup.size());
+    }
+
+    /**
+     * Samples exception handler logging per kind of error, per
+     * {@code bored.exceptions.log-limit} and {@code log-window}; its ticker
+     * reports suppressed counts once per window.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ErrorLogLimiter errorLogLimiter(BoredProperties props) {
+        BoredProperties.Exceptions exceptions = props.exceptions().withDefaults();
+        return new ErrorLogLimiter(exceptions.logLimit(), exceptions.logWindow()).start();
+    }
+
     /** Servlet-only exception handler — not needed by the reactive gateway. */
     @Bean
     @ConditionalOnClass(WebMvcConfigurer.class)
     @ConditionalOnMissingBean
-    public CommonExceptionHandler commonExceptionHandler() {
-        return new CommonExceptionHandler();
+    public CommonExceptionHandler commonExceptionHandler(ErrorLogLimiter errorLogLimiter,
+                                                         ObjectProvider<ErrorMetrics> errorMetrics) {
+        return new CommonExceptionHandler(errorLogLimiter, errorMetrics.getIfAvailable(() -> ErrorMetrics.NONE));
+    }
+
+    /**
+     * Error counters for the exception handlers, per
+     * {@code bored.exceptions.metrics-routes}. Nested so Micrometer types
+     * are only touched when it is on the classpath; without a registry
+     * bean the handlers count nothing.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ErrorMetrics errorMetrics(ObjectProvider<MeterRegistry> registry, BoredProperties props) {
+            MeterRegistry meters = registry.getIfUnique();
+            return meters == null ? ErrorMetrics.NONE
+                    : MicrometerErrorMetrics.create(meters, props.exceptions().withDefaults().metricsRoutes());
+        }
+    }
+
+    /**
+     * Blackbird as a Jackson {@link Module} bean, which Spring Boot registers
+     * on its {@code ObjectMapper}. Nested so the module class is only touched
+     * when it is on the classpath; without it the mapper stays on reflection.
+     * The property also resolves from {@code -Dbored.json.blackbird=true},
+     * which enables {@link JsonUtils} too.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.module.blackbird.BlackbirdModule")
+    @ConditionalOnProperty(prefix = "bored.json", name = "blackbird", havingValue = "true")
+    static class BlackbirdConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(BlackbirdModule.class)
+        public Module blackbirdModule() {
+            return new BlackbirdModule();
+        }
+    }
+
+    /**
+     * Installs the context's unique {@code ObjectMapper} in {@link JsonUtils}
+     * after all singletons exist, and restores the built-in mapper on
+     * shutdown unless another context has replaced it since.
+     */
+    static final class JsonUtilsMapperInstaller implements SmartInitializingSingleton, DisposableBean {
+
+        private final ObjectProvider<ObjectMapper> mapper;
+        private ObjectMapper installed;
+
+        JsonUtilsMapperInstaller(ObjectProvider<ObjectMapper> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            installed = mapper.getIfUnique();
+            if (installed != null) {
+                JsonUtils.setMapper(installed);
+            }
+        }
+
+        @Override
+        public void destroy() {
+            if (installed != null && JsonUtils.mapper() == installed) {
+                JsonUtils.setMapper(null);
+            }
+        }
     }
 }
@@ -4,15 +4,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-
-import java.util.Map;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
 
 /**
  * Shared global exception handler for servlet-based services.
  * <p>
  * Translates {@link GenericException} into structured JSON responses and
  * catches any other {@link RuntimeException} as a generic 500 so error
- * shapes stay consistent across services.
+ * shapes stay consistent across services. Bodies are {@link ErrorBody}
+ * records, which write the {@link ErrorResponse} JSON from a cached prefix
+ * per status and message. Logging goes through an {@link ErrorLogLimiter},
+ * so an error repeated thousands of times logs its first few occurrences
+ * per window and then a summary line. Every error is counted through
+ * {@link ErrorMetrics}, tagged with the matched route template.
  * </p>
  *
  * <p>Registered via {@link dev.bored.common.CommonLibAutoConfiguration} —
@@ -25,20 +31,65 @@ import java.util.Map;
 @RestControllerAdvice
 public class CommonExceptionHandler {
 
+    private final ErrorLogLimiter logLimiter;
+    private final ErrorMetrics metrics;
+
+    /** Creates a handler logging through a limiter with the defaults and no ticker. */
+    public CommonExceptionHandler() {
+        this(new ErrorLogLimiter(ErrorLogLimiter.DEFAULT_LIMIT, ErrorLogLimiter.DEFAULT_WINDOW));
+    }
+
+    /**
+     * Creates a handler logging through the given limiter, without metrics.
+     *
+     * @param logLimiter decides which errors are logged
+     */
+    public CommonExceptionHandler(ErrorLogLimiter logLimiter) {
+        this(logLimiter, ErrorMetrics.NONE);
+    }
+
+    /**
+     * Creates a handler logging through the given limiter and counting
+     * errors in the given metrics.
+     *
+     * @param logLimiter decides which errors are logged
+     * @param metrics    counts every error
+     */
+    public CommonExceptionHandler(ErrorLogLimiter logLimiter, ErrorMetrics metrics) {
+        this.logLimiter = logLimiter;
+        this.metrics = metrics;
+    }
+
     /** Handles structured application exceptions. */
     @ExceptionHandler(GenericException.class)
-    public ResponseEntity<Map<String, Object>> handleGeneric(GenericException ex) {
-        log.warn("Error [{}]: {}", ex.getStatus().value(), ex.getMessage());
+    public ResponseEntity<ErrorBody> handleGeneric(GenericException ex) {
+        metrics.record(ex, ex.getStatus().value(), route());
+        if (logLimiter.shouldLog(ex, ex.getStatus().value())) {
+            log.warn("Error [{}]: {}", ex.getStatus().value(), ex.getMessage());
+        }
         return ResponseEntity.status(ex.getStatus())
-                .body(ErrorResponse.of(ex, null));
+                .body(ErrorBody.of(ex, null));
     }
 
     /** Fallback handler for unexpected runtime errors. */
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<Map<String, Object>> handleRuntime(RuntimeException ex) {
-        log.error("Unexpected error: {}", ex.getMessage(), ex);
+    public ResponseEntity<ErrorBody> handleRuntime(RuntimeException ex) {
+        metrics.record(ex, 500, route());
+        if (logLimiter.shouldLog(ex, 500)) {
+            log.error("Unexpected error: {}", ex.getMessage(), ex);
+        }
         return ResponseEntity.internalServerError()
-                .body(ErrorResponse.of(500, "Internal Server Error",
+                .body(ErrorBody.of(500, "Internal Server Error",
                         "An unexpected error occurred", null));
     }
+
+    /**
+     * The matched handler pattern, the same instance on every request to it;
+     * {@code null} when called outside a request.
+     */
+    private static Object route() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request == null ? null
+                : request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
 }
@@ -0,0 +1,131 @@
+package dev.bored.common.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared global exception handler for reactive services (api-gateway) —
+ * the WebFlux counterpart of {@link CommonExceptionHandler}.
+ * <p>
+ * Writes the same {@link ErrorResponse} JSON, via {@link ErrorBody}, with
+ * the request path filled in. {@link GenericException} keeps its status
+ * and message; {@link ResponseStatusException} — which WebFlux and the
+ * gateway raise for unknown routes, bad methods and upstream timeouts —
+ * keeps its status, reason and headers; anything else is a generic 500.
+ * The body is encoded up front and written as one exactly-sized
+ * {@link DataBuffer}, so there are no error attributes, template lookups
+ * or codec negotiation, and nothing blocks. Every error is counted
+ * through {@link ErrorMetrics}, tagged with the matched handler pattern
+ * or, for proxied requests, the gateway route's path predicate.
+ * </p>
+ *
+ * <p>Ordered at {@value #ORDER}, ahead of Spring Boot's
+ * {@code DefaultErrorWebExceptionHandler} ({@code -1}) and WebFlux's
+ * status handler ({@code 0}). Registered via
+ * {@link dev.bored.common.web.CommonReactiveWebAutoConfiguration}.</p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@Slf4j
+public class CommonWebExceptionHandler implements WebExceptionHandler, Ordered {
+
+    /** Position among the application's {@link WebExceptionHandler}s. */
+    public static final int ORDER = -2;
+
+    /** Path pattern Spring Cloud Gateway's path predicate matched; not a compile-time dependency. */
+    static final String GATEWAY_MATCHED_PATH = "org.springframework.cloud.gateway.support.ServerWebExchangeUtils"
+            + ".gatewayPredicateMatchedPathAttr";
+
+    private final ErrorLogLimiter logLimiter;
+    private final ErrorMetrics metrics;
+
+    /** Creates a handler logging through a limiter with the defaults and no ticker. */
+    public CommonWebExceptionHandler() {
+        this(new ErrorLogLimiter(ErrorLogLimiter.DEFAULT_LIMIT, ErrorLogLimiter.DEFAULT_WINDOW));
+    }
+
+    /**
+     * Creates a handler logging through the given limiter, without metrics.
+     *
+     * @param logLimiter decides which errors are logged
+     */
+    public CommonWebExceptionHandler(ErrorLogLimiter logLimiter) {
+        this(logLimiter, ErrorMetrics.NONE);
+    }
+
+    /**
+     * Creates a handler logging through the given limiter and counting
+     * errors in the given metrics.
+     *
+     * @param logLimiter decides which errors are logged
+     * @param metrics    counts every error
+     */
+    public CommonWebExceptionHandler(ErrorLogLimiter logLimiter, ErrorMetrics metrics) {
+        this.logLimiter = logLimiter;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        String path = exchange.getRequest().getPath().value();
+        ErrorBody body;
+        if (ex instanceof GenericException generic) {
+            if (logLimiter.shouldLog(ex, generic.getStatus().value())) {
+                log.warn("Error [{}]: {}", generic.getStatus().value(), ex.getMessage());
+            }
+            body = ErrorBody.of(generic, path);
+        } else if (ex instanceof ResponseStatusException status) {
+            int code = status.getStatusCode().value();
+            if (logLimiter.shouldLog(ex, code)) {
+                log.warn("Error [{}]: {}", code, ex.getMessage());
+            }
+            HttpStatus resolved = HttpStatus.resolve(code);
+            String reason = resolved != null ? resolved.getReasonPhrase() : null;
+            body = ErrorBody.of(code, reason, status.getReason() != null ? status.getReason() : reason, path);
+            response.getHeaders().addAll(status.getHeaders());
+        } else {
+            if (logLimiter.shouldLog(ex, 500)) {
+                log.error("Unexpected error: {}", ex.getMessage(), ex);
+            }
+            body = ErrorBody.of(500, "Internal Server Error", "An unexpected error occurred", path);
+        }
+        metrics.record(ex, body.status(), route(exchange));
+        return write(response, body);
+    }
+
+    /** The matched handler pattern or gateway path, the same instance on every request to it. */
+    private static Object route(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern : exchange.getAttribute(GATEWAY_MATCHED_PATH);
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, ErrorBody body) {
+        byte[] json = body.toJsonBytes();
+        response.setStatusCode(HttpStatusCode.valueOf(body.status()));
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(json.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(json)));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
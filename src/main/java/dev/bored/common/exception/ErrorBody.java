@@ -0,0 +1,186 @@
+package dev.bored.common.exception;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.bored.common.util.CoarseClock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Typed form of the {@link ErrorResponse} body — same fields, same JSON, in
+ * the documented order — that skips the per-error map and most of the
+ * encoding work.
+ * <p>
+ * Field names are pre-encoded, and the UTF-8 of everything up to the
+ * timestamp — <code>&#123;"status":404,"error":"Not Found","message":"…","timestamp":"</code>
+ * — is cached per status, reason and message, so a frequent error only
+ * splices its timestamp and path into a prebuilt prefix. The cache is
+ * direct-mapped with {@value #CACHE_SLOTS} slots; a colliding error simply
+ * replaces the slot, so messages carrying request data can't grow it.
+ * {@link #toJsonBytes()} writes the body without Jackson; through Jackson,
+ * JSON generators get the same splice, and pretty printing, custom escapes
+ * and binary formats such as Smile fall back to field-by-field writes.
+ * </p>
+ *
+ * @param status    the HTTP status code
+ * @param error     the HTTP status reason ({@code "Unknown"} if null)
+ * @param message   the detail message (a generic one if null)
+ * @param timestamp the ISO-8601 instant (now, per {@link CoarseClock#shared()}, if null)
+ * @param path      the request path ({@code ""} if null)
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@JsonSerialize(using = ErrorBody.Serializer.class)
+public record ErrorBody(int status, String error, String message, String timestamp, String path) {
+
+    /** Number of cached prefixes. */
+    static final int CACHE_SLOTS = 256;
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString PATH = new SerializedString("path");
+    /** Raw JSON between the timestamp and path values. */
+    private static final SerializedString PATH_FIELD = new SerializedString("\",\"path\":\"");
+    private static final SerializedString END = new SerializedString("\"}");
+
+    private static final Prefix[] PREFIXES = new Prefix[CACHE_SLOTS];
+
+    /** A cached prefix; immutable, so a racy slot read always sees a consistent entry. */
+    private record Prefix(int status, String error, String message, SerializedString json) { }
+
+    public ErrorBody {
+        if (error == null) error = "Unknown";
+        if (message == null) message = "An unexpected error occurred";
+        if (timestamp == null) timestamp = CoarseClock.shared().isoNow();
+        if (path == null) path = "";
+    }
+
+    /**
+     * Builds the body for a {@link GenericException}, stamped now.
+     *
+     * @param ex   the exception
+     * @param path the request path (nullable)
+     * @return the body
+     */
+    public static ErrorBody of(GenericException ex, String path) {
+        return new ErrorBody(ex.getStatus().value(), ex.getStatus().getReasonPhrase(), ex.getMessage(), null, path);
+    }
+
+    /**
+     * Builds a body from status code and message, stamped now.
+     *
+     * @param status  the HTTP status code (e.g. 500)
+     * @param error   the HTTP status reason (e.g. "Internal Server Error")
+     * @param message the detail message
+     * @param path    the request path (nullable)
+     * @return the body
+     */
+    public static ErrorBody of(int status, String error, String message, String path) {
+        return new ErrorBody(status, error, message, null, path);
+    }
+
+    /**
+     * Encodes this body as UTF-8 JSON.
+     *
+     * @return the JSON bytes
+     */
+    public byte[] toJsonBytes() {
+        byte[] head = prefix(status, error, message).asUnquotedUTF8();
+        byte[] time = utf8(timestamp);
+        byte[] where = utf8(path);
+        byte[] middle = PATH_FIELD.asUnquotedUTF8();
+        byte[] end = END.asUnquotedUTF8();
+        byte[] json = new byte[head.length + time.length + middle.length + where.length + end.length];
+        int at = append(json, 0, head);
+        at = append(json, at, time);
+        at = append(json, at, middle);
+        at = append(json, at, where);
+        append(json, at, end);
+        return json;
+    }
+
+    private static byte[] utf8(String text) {
+        return isPlain(text) ? text.getBytes(StandardCharsets.UTF_8) : JsonStringEncoder.getInstance().quoteAsUTF8(text);
+    }
+
+    /** Whether JSON leaves {@code text} as is — true of nearly every timestamp and path. */
+    private static boolean isPlain(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') return false;
+        }
+        return true;
+    }
+
+    private static int append(byte[] json, int at, byte[] part) {
+        System.arraycopy(part, 0, json, at, part.length);
+        return at + part.length;
+    }
+
+    /** Returns the cached raw JSON up to and including the opening quote of the timestamp. */
+    static SerializableString prefix(int status, String error, String message) {
+        int slot = (31 * (31 * status + error.hashCode()) + message.hashCode()) & (CACHE_SLOTS - 1);
+        Prefix cached = PREFIXES[slot];
+        if (cached != null && cached.status == status && cached.error.equals(error) && cached.message.equals(message)) {
+            return cached.json;
+        }
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        SerializedString json = new SerializedString("{\"status\":" + status
+                + ",\"error\":\"" + new String(encoder.quoteAsString(error))
+                + "\",\"message\":\"" + new String(encoder.quoteAsString(message))
+                + "\",\"timestamp\":\"");
+        PREFIXES[slot] = new Prefix(status, error, message, json);
+        return json;
+    }
+
+    /** Writes through the cached prefix where the generator allows raw JSON, field by field otherwise. */
+    static final class Serializer extends StdSerializer<ErrorBody> {
+
+        Serializer() {
+            super(ErrorBody.class);
+        }
+
+        @Override
+        public void serialize(ErrorBody body, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (gen instanceof JsonGeneratorImpl json && json.getPrettyPrinter() == null
+                    && json.getCharacterEscapes() == null && json.getHighestEscapedChar() == 0) {
+                gen.writeRawValue(prefix(body.status, body.error, body.message));
+                writeRawText(gen, body.timestamp);
+                gen.writeRaw(PATH_FIELD);
+                writeRawText(gen, body.path);
+                gen.writeRaw(END);
+                return;
+            }
+            gen.writeStartObject(body);
+            gen.writeFieldName(STATUS);
+            gen.writeNumber(body.status);
+            gen.writeFieldName(ERROR);
+            gen.writeString(body.error);
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(body.message);
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeString(body.timestamp);
+            gen.writeFieldName(PATH);
+            gen.writeString(body.path);
+            gen.writeEndObject();
+        }
+
+        private static void writeRawText(JsonGenerator gen, String text) throws IOException {
+            if (isPlain(text)) {
+                gen.writeRaw(text);
+            } else {
+                char[] quoted = JsonStringEncoder.getInstance().quoteAsString(text);
+                gen.writeRaw(quoted, 0, quoted.length);
+            }
+        }
+    }
+}
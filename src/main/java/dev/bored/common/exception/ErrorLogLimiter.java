@@ -0,0 +1,291 @@
+package dev.bored.common.exception;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Samples error logging per kind of error, so an incident repeating one
+ * error thousands of times a second logs a handful of lines instead of
+ * flooding the log pipeline and blocking request threads on appenders.
+ * <p>
+ * Errors are grouped by exception class, HTTP status and message template
+ * — the message up to its first digit, colon or quote, where interpolated
+ * values usually start, so {@code "Profile not found: 42"} and
+ * {@code "Profile not found: 43"} count as one. {@link #shouldLog} lets
+ * the first {@code limit} errors of a group through per window and counts
+ * the rest; when the window ends, one summary line reports how many were
+ * suppressed. Windows roll on the next error of the group or on
+ * {@link #flush()}, which the daemon ticker started by {@link #start()}
+ * calls once per window, so a burst that stops is still reported.
+ * </p>
+ * <p>
+ * The hot path takes no lock and allocates nothing: a cache slot picked
+ * by class, status and the template's characters, compared against the
+ * message in place, then a counter read while the group is under its
+ * limit, or an increment of a striped {@link LongAdder} once it is over.
+ * At most {@value #MAX_GROUPS} groups are tracked; errors beyond that
+ * share one group per class and status.
+ * </p>
+ * <p>
+ * A group that stays quiet for a whole window is retired: dropped from
+ * the map and the cache, so the next error starts a fresh group, but kept
+ * until the following {@link #flush()} so errors from callers that looked
+ * it up just before are still reported.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@Slf4j
+public final class ErrorLogLimiter implements AutoCloseable {
+
+    /** Errors logged per group and window when none is configured. */
+    public static final int DEFAULT_LIMIT = 10;
+
+    /** Window length when none is configured. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+    /** Most groups tracked at once. */
+    static final int MAX_GROUPS = 1024;
+
+    /** Longest message template kept. */
+    private static final int MAX_TEMPLATE = 80;
+
+    /** Number of cached group lookups. */
+    static final int CACHE_SLOTS = 2 * MAX_GROUPS;
+
+    /** A kind of error. */
+    record Key(Class<?> type, int status, String template) {
+        @Override
+        public String toString() {
+            return type.getName() + " [" + status + "] " + template;
+        }
+    }
+
+    /** Receives one summary per group and window with suppressed errors. */
+    @FunctionalInterface
+    interface Reporter {
+        void suppressed(Key key, long count, Duration window);
+    }
+
+    /** A cached lookup; immutable, so a racy slot read always sees a consistent entry. */
+    private record Entry(Class<?> type, int status, String template, Group group) { }
+
+    private final int limit;
+    private final Duration window;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Reporter reporter;
+    private final Map<Key, Group> groups = new ConcurrentHashMap<>();
+    private final Entry[] entries = new Entry[CACHE_SLOTS];
+    /** Groups retired by the last flush, reported once more by the next; guarded by this. */
+    private final List<Group> retired = new ArrayList<>();
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Creates a limiter. Call {@link #start()} to report bursts that stop
+     * mid-window; until then windows roll only on the next error or
+     * {@link #flush()}.
+     *
+     * @param limit  errors logged per group and window
+     * @param window the window length
+     * @throws IllegalArgumentException if limit is negative or window is not positive
+     */
+    public ErrorLogLimiter(int limit, Duration window) {
+        this(limit, window, System::nanoTime, ErrorLogLimiter::report);
+    }
+
+    ErrorLogLimiter(int limit, Duration window, LongSupplier nanoClock, Reporter reporter) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.limit = limit;
+        this.window = window;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Counts an error and returns whether to log it.
+     *
+     * @param error  the error
+     * @param status the HTTP status it maps to
+     * @return {@code true} if the error is among the first {@code limit} of
+     *         its group in the current window
+     */
+    public boolean shouldLog(Throwable error, int status) {
+        Group group = group(error.getClass(), status, error.getMessage());
+        long now = nanoClock.getAsLong();
+        long start = group.windowStart.get();
+        if (now - start >= windowNanos && group.windowStart.compareAndSet(start, now)) {
+            roll(group);
+        }
+        if (group.logged.get() < limit && group.logged.incrementAndGet() <= limit) {
+            return true;
+        }
+        group.suppressed.increment();
+        return false;
+    }
+
+    private Group group(Class<?> type, int status, String message) {
+        int end = templateEnd(message);
+        int hash = 31 * System.identityHashCode(type) + status;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + message.charAt(i);
+        }
+        int slot = (hash ^ hash >>> 16) & (CACHE_SLOTS - 1);
+        Entry cached = entries[slot];
+        if (cached != null && cached.type == type && cached.status == status && !cached.group.retired
+                && cached.template.length() == end && (end == 0
+                || message.regionMatches(0, cached.template, 0, end))) {
+            return cached.group;
+        }
+        String template = end == 0 ? "" : message.substring(0, end);
+        Group group = group(new Key(type, status, template));
+        entries[slot] = new Entry(type, status, template, group);
+        return group;
+    }
+
+    private Group group(Key key) {
+        Group group = groups.get(key);
+        if (group != null) return group;
+        if (groups.size() >= MAX_GROUPS) {
+            key = new Key(key.type, key.status, "*");
+            group = groups.get(key);
+            if (group != null) return group;
+        }
+        Group created = new Group(key, nanoClock.getAsLong());
+        group = groups.putIfAbsent(key, created);
+        return group != null ? group : created;
+    }
+
+    /**
+     * Ends every window that has run its length, reporting suppressed
+     * counts, and retires groups that stayed quiet for a whole window.
+     */
+    public synchronized void flush() {
+        retired.forEach(this::roll);
+        retired.clear();
+        long now = nanoClock.getAsLong();
+        for (Group group : groups.values()) {
+            long start = group.windowStart.get();
+            if (now - start >= windowNanos && group.windowStart.compareAndSet(start, now) && !roll(group)) {
+                group.retired = true;
+                groups.remove(group.key, group);
+                retired.add(group);
+            }
+        }
+    }
+
+    /** Resets a group's window; returns whether the window saw any errors. */
+    private boolean roll(Group group) {
+        int logged = group.logged.getAndSet(0);
+        long suppressed = group.suppressed.sumThenReset();
+        if (suppressed > 0) {
+            reporter.suppressed(group.key, suppressed, window);
+        }
+        return logged > 0 || suppressed > 0;
+    }
+
+    /**
+     * Returns the message template errors with this message are grouped
+     * under.
+     *
+     * @param message the message (nullable)
+     * @return the message up to its first digit, colon or quote, at most 80
+     *         characters
+     */
+    static String template(String message) {
+        if (message == null) return "";
+        int end = templateEnd(message);
+        return end == message.length() ? message : message.substring(0, end);
+    }
+
+    /** Returns the length of {@link #template}'s result, without building it. */
+    private static int templateEnd(String message) {
+        if (message == null) return 0;
+        int end = Math.min(message.length(), MAX_TEMPLATE);
+        for (int i = 0; i < end; i++) {
+            char c = message.charAt(i);
+            if (c == ':' || c == '"' || c == '\'' || c >= '0' && c <= '9') {
+                end = i;
+                break;
+            }
+        }
+        if (end == message.length()) return end;
+        while (end > 0 && Character.isWhitespace(message.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static void report(Key key, long count, Duration window) {
+        if (key.status >= 500) {
+            log.error("Suppressed {} more of {} in the last {}", count, key, window);
+        } else {
+            log.warn("Suppressed {} more of {} in the last {}", count, key, window);
+        }
+    }
+
+    /**
+     * Starts the daemon ticker that calls {@link #flush()} once per window.
+     * Idempotent.
+     *
+     * @return this limiter
+     */
+    public synchronized ErrorLogLimiter start() {
+        if (ticker == null) {
+            ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "bored-error-log-limiter");
+                t.setDaemon(true);
+                return t;
+            });
+            ticker.scheduleAtFixedRate(this::flush, windowNanos, windowNanos, TimeUnit.NANOSECONDS);
+        }
+        return this;
+    }
+
+    /** Stops the ticker, reporting what the current windows suppressed so far. */
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        retired.forEach(this::roll);
+        retired.clear();
+        groups.values().forEach(this::roll);
+    }
+
+    /** Counters of one group for the current window. */
+    private static final class Group {
+
+        final Key key;
+        final AtomicLong windowStart;
+        final AtomicInteger logged = new AtomicInteger();
+        final LongAdder suppressed = new LongAdder();
+        /** Set once the group has left the map; cached lookups then miss. */
+        volatile boolean retired;
+
+        Group(Key key, long windowStart) {
+            this.key = key;
+            this.windowStart = new AtomicLong(windowStart);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.bored.common.exception;
+
+/**
+ * Counts the errors the shared exception handlers translate, by HTTP
+ * status, exception class and route template.
+ * <p>
+ * {@link CommonExceptionHandler} and {@link CommonWebExceptionHandler}
+ * record every error, logged or not. Spring services with Micrometer get
+ * {@link MicrometerErrorMetrics} from
+ * {@link dev.bored.common.CommonLibAutoConfiguration}; without it the
+ * handlers use {@link #NONE}, and no Micrometer type is ever loaded.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ErrorMetrics {
+
+    /** Records nothing. */
+    ErrorMetrics NONE = (error, status, route) -> { };
+
+    /**
+     * Counts one error.
+     *
+     * @param error  the error
+     * @param status the HTTP status it maps to
+     * @param route  the matched route template — the handler mapping's
+     *               pattern, whose {@code toString()} is the template — or
+     *               {@code null} if no route matched. Implementations may
+     *               compare it by identity, so pass the mapping's own
+     *               instance rather than a copy.
+     */
+    void record(Throwable error, int status, Object route);
+}
@@ -1,6 +1,7 @@
 package dev.bored.common.exception;
 
-import java.time.Instant;
+import dev.bored.common.util.CoarseClock;
+
 import java.util.Map;
 
 /**
@@ -14,6 +15,10 @@ import java.util.Map;
  *   "timestamp": "2026-02-15T10:30:00Z",
  *   "path": "/api/v1/experiences/xyz"
  * }</pre>
+ * The timestamp comes from {@link CoarseClock#shared()}, so it has
+ * millisecond resolution and costs no formatting per response.
+ * {@link ErrorBody} is the typed equivalent, encoding the same shape
+ * without building a map.
  * </p>
  *
  * @author Bored Software Developer
@@ -35,7 +40,7 @@ public final class ErrorResponse {
                 "status", ex.getStatus().value(),
                 "error", ex.getStatus().getReasonPhrase(),
                 "message", ex.getMessage(),
-                "timestamp", Instant.now().toString(),
+                "timestamp", CoarseClock.shared().isoNow(),
                 "path", path != null ? path : ""
         );
     }
@@ -54,7 +59,7 @@ public final class ErrorResponse {
                 "status", status,
                 "error", error != null ? error : "Unknown",
                 "message", message != null ? message : "An unexpected error occurred",
-                "timestamp", Instant.now().toString(),
+                "timestamp", CoarseClock.shared().isoNow(),
                 "path", path != null ? path : ""
         );
     }
@@ -12,6 +12,13 @@ import java.io.Serial;
  * appropriate HTTP response.
  * </p>
  *
+ * <p>Whether the stack trace is filled in follows
+ * {@link StackTracePolicy#shared()} — by default 5xx errors keep it and
+ * 4xx errors, which are routine and logged without a trace, skip the cost.
+ * {@link #GenericException(String, HttpStatus, Throwable, boolean)} decides
+ * per instance, and {@link #constant(String, HttpStatus)} builds one
+ * reusable instance for an error whose message never changes.</p>
+ *
  * @author Bored Software Developer
  * @since 2026-02-15
  */
@@ -22,6 +29,10 @@ public class GenericException extends RuntimeException {
 
     private final HttpStatus status;
 
+    /** Whether {@link #initCause} may still set the cause, as for a plain {@code Throwable(String)}. */
+    private boolean causeOpen;
+    private Throwable lateCause;
+
     /**
      * Creates a new exception with a message and HTTP status.
      *
@@ -29,8 +40,9 @@ public class GenericException extends RuntimeException {
      * @param status  the HTTP status to map to the response
      */
     public GenericException(String message, HttpStatus status) {
-        super(message);
+        super(message, null, true, StackTracePolicy.shared().captures(status));
         this.status = status;
+        this.causeOpen = true;
     }
 
     /**
@@ -50,10 +62,70 @@ public class GenericException extends RuntimeException {
      * @param cause   the root cause
      */
     public GenericException(String message, HttpStatus status, Throwable cause) {
-        super(message, cause);
+        this(message, status, cause, StackTracePolicy.shared().captures(status));
+    }
+
+    /**
+     * Creates a new exception, overriding {@link StackTracePolicy} on
+     * whether to fill in the stack trace.
+     *
+     * @param message    the detail message
+     * @param status     the HTTP status
+     * @param cause      the root cause (nullable)
+     * @param stackTrace whether to record the stack trace
+     */
+    public GenericException(String message, HttpStatus status, Throwable cause, boolean stackTrace) {
+        super(message, cause, true, stackTrace);
+        this.status = status;
+    }
+
+    private GenericException(HttpStatus status, String message) {
+        super(message, null, false, false);
         this.status = status;
     }
 
+    /**
+     * Creates a shareable instance for an error whose message never
+     * changes, meant for a {@code static final} field and thrown as often
+     * as needed. It has no stack trace, cause or suppressed exceptions, so
+     * nothing about one throw leaks into the next.
+     *
+     * @param message the detail message
+     * @param status  the HTTP status
+     * @return the exception
+     */
+    public static GenericException constant(String message, HttpStatus status) {
+        return new GenericException(status, message);
+    }
+
+    /**
+     * Sets the cause once, as on any {@code Throwable}, for exceptions
+     * created without one. The stack-trace-choosing JDK constructor always
+     * fixes the cause, so the first one is kept here instead.
+     *
+     * @param cause the cause (nullable)
+     * @return this exception
+     * @throws IllegalStateException if the cause was already set, or
+     *                               given to the constructor
+     */
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if (!causeOpen) {
+            return super.initCause(cause);
+        }
+        if (cause == this) {
+            throw new IllegalArgumentException("Self-causation not permitted", this);
+        }
+        causeOpen = false;
+        lateCause = cause;
+        return this;
+    }
+
+    @Override
+    public synchronized Throwable getCause() {
+        return lateCause != null ? lateCause : super.getCause();
+    }
+
     /**
      * Returns the HTTP status associated with this exception.
      *
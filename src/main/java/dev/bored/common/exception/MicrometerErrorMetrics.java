@@ -0,0 +1,112 @@
+package dev.bored.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ErrorMetrics} as a Micrometer counter, {@value #METER}, tagged
+ * {@code status}, {@code exception} (the class name) and {@code route}.
+ * <p>
+ * Counters are cached in a direct-mapped table of {@value #CACHE_SLOTS}
+ * slots keyed by exception class, status and route instance, all compared
+ * by identity — handler mappings hand out the same pattern instance for
+ * every request to a route — so a repeated error costs an array read,
+ * three reference checks and a counter increment, with no allocation and
+ * no map lookup. A miss builds the tags and registers the counter, which
+ * the registry deduplicates, then takes over the slot.
+ * </p>
+ * <p>
+ * Route tags are bounded: requests no route matched share
+ * {@value #UNMATCHED}, and once {@code maxRoutes} templates have been
+ * tagged, new ones share {@value #OTHER}. Statuses and exception classes
+ * are bounded by the code that throws them.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class MicrometerErrorMetrics implements ErrorMetrics {
+
+    /** Meter name. */
+    public static final String METER = "bored.errors";
+
+    /** Route tag for requests no route matched. */
+    public static final String UNMATCHED = "UNMATCHED";
+
+    /** Route tag once the route limit is reached. */
+    public static final String OTHER = "OTHER";
+
+    /** Distinct route tags when none is configured. */
+    public static final int DEFAULT_MAX_ROUTES = 100;
+
+    /** Number of cached counters. */
+    static final int CACHE_SLOTS = 1024;
+
+    /** A cached counter; immutable, so a racy slot read always sees a consistent entry. */
+    private record Entry(Class<?> type, int status, Object route, Counter counter) { }
+
+    private final MeterRegistry registry;
+    private final int maxRoutes;
+    private final Set<String> routes = ConcurrentHashMap.newKeySet();
+    private final Entry[] entries = new Entry[CACHE_SLOTS];
+
+    private MicrometerErrorMetrics(MeterRegistry registry, int maxRoutes) {
+        this.registry = registry;
+        this.maxRoutes = maxRoutes;
+    }
+
+    /**
+     * Creates metrics registering on the given registry.
+     *
+     * @param registry  the registry
+     * @param maxRoutes distinct route tags before the rest share {@value #OTHER}
+     * @return the metrics
+     * @throws IllegalArgumentException if registry is null or maxRoutes is negative
+     */
+    public static MicrometerErrorMetrics create(MeterRegistry registry, int maxRoutes) {
+        if (registry == null) {
+            throw new IllegalArgumentException("registry must not be null");
+        }
+        if (maxRoutes < 0) {
+            throw new IllegalArgumentException("maxRoutes must not be negative");
+        }
+        return new MicrometerErrorMetrics(registry, maxRoutes);
+    }
+
+    @Override
+    public void record(Throwable error, int status, Object route) {
+        Class<?> type = error.getClass();
+        Object key = route != null ? route : UNMATCHED;
+        int slot = (31 * (31 * System.identityHashCode(type) + status) + System.identityHashCode(key))
+                & (CACHE_SLOTS - 1);
+        Entry cached = entries[slot];
+        if (cached != null && cached.type == type && cached.status == status && cached.route == key) {
+            cached.counter.increment();
+            return;
+        }
+        Counter counter = Counter.builder(METER)
+                .description("Errors translated by the shared exception handlers")
+                .tag("status", Integer.toString(status))
+                .tag("exception", type.getName())
+                .tag("route", routeTag(key.toString()))
+                .register(registry);
+        entries[slot] = new Entry(type, status, key, counter);
+        counter.increment();
+    }
+
+    private String routeTag(String template) {
+        if (template.equals(UNMATCHED) || routes.contains(template)) {
+            return template;
+        }
+        synchronized (routes) {
+            if (routes.size() < maxRoutes) {
+                routes.add(template);
+                return template;
+            }
+        }
+        return OTHER;
+    }
+}
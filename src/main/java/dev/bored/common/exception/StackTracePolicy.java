@@ -0,0 +1,106 @@
+package dev.bored.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Decides, per HTTP status, whether a new {@link GenericException} records
+ * its stack trace.
+ * <p>
+ * Filling in a trace walks every frame of the throwing thread, which is
+ * most of the cost of a throw — wasted on routine 4xx errors that
+ * {@link CommonExceptionHandler} logs without a trace anyway. The default,
+ * {@link Mode#SERVER_ERRORS}, keeps traces for 5xx only; per-status
+ * overrides refine a mode, e.g. keep them for {@code 409} too.
+ * </p>
+ *
+ * <p>{@link GenericException} reads {@link #shared()}. Spring services get
+ * it from {@link dev.bored.common.CommonLibAutoConfiguration}, configured by
+ * {@code bored.exceptions.stack-traces} and
+ * {@code bored.exceptions.stack-trace-statuses}.</p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class StackTracePolicy {
+
+    /** Traces for 5xx only. */
+    public static final StackTracePolicy DEFAULT = of(Mode.SERVER_ERRORS, Map.of());
+
+    private static volatile StackTracePolicy shared = DEFAULT;
+
+    /** Which statuses keep their trace before overrides apply. */
+    public enum Mode {
+        /** Every status — the JDK's behavior. */
+        ALWAYS,
+        /** 5xx only. */
+        SERVER_ERRORS,
+        /** None. */
+        NEVER
+    }
+
+    /** Indexed by status code. */
+    private final boolean[] byCode = new boolean[600];
+
+    private StackTracePolicy(Mode mode, Map<Integer, Boolean> overrides) {
+        for (int code = 100; code < byCode.length; code++) {
+            byCode[code] = mode == Mode.ALWAYS || mode == Mode.SERVER_ERRORS && code >= 500;
+        }
+        overrides.forEach((code, keep) -> byCode[code] = keep);
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param mode      which statuses keep their trace
+     * @param overrides per-status exceptions to the mode — status code to
+     *                  whether its trace is kept
+     * @return the policy
+     * @throws IllegalArgumentException if mode is null or an override is
+     *                                  not a status code between 100 and 599
+     */
+    public static StackTracePolicy of(Mode mode, Map<Integer, Boolean> overrides) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode must not be null");
+        }
+        Map<Integer, Boolean> checked = overrides == null ? Map.of() : overrides;
+        checked.forEach((code, keep) -> {
+            if (code == null || code < 100 || code > 599 || keep == null) {
+                throw new IllegalArgumentException("Invalid stack trace override: " + code + "=" + keep);
+            }
+        });
+        return new StackTracePolicy(mode, checked);
+    }
+
+    /**
+     * Returns whether exceptions with this status record a stack trace.
+     *
+     * @param status the HTTP status (null counts as 500)
+     * @return {@code true} to fill in the trace
+     */
+    public boolean captures(HttpStatus status) {
+        return byCode[status != null ? status.value() : 500];
+    }
+
+    /**
+     * Returns the policy {@link GenericException} follows.
+     *
+     * @return the shared policy, {@link #DEFAULT} unless replaced
+     */
+    public static StackTracePolicy shared() {
+        return shared;
+    }
+
+    /**
+     * Replaces the policy returned by {@link #shared()}.
+     *
+     * @param policy the new policy, or {@code null} to restore {@link #DEFAULT}
+     * @return the previous policy
+     */
+    public static StackTracePolicy setShared(StackTracePolicy policy) {
+        StackTracePolicy previous = shared;
+        shared = policy != null ? policy : DEFAULT;
+        return previous;
+    }
+}
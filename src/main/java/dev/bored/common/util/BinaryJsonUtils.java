@@ -0,0 +1,283 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Binary counterpart of {@link JsonUtils} for service-to-service traffic:
+ * the same data model, encoded as Smile or CBOR.
+ * <p>
+ * Each format's mapper is a copy of {@link JsonUtils#mapper()} on a binary
+ * factory, so modules, features and the buffer pool match the JSON side —
+ * including Spring's mapper once it is installed. Readers and writers are
+ * cached per type, as in {@link JsonUtils}. Numbers stay binary in both
+ * formats; Smile also back-references repeated field names, so lists of
+ * DTOs shrink the most with it.
+ * </p>
+ * <p>
+ * Both formats are optional: a service opts in by adding
+ * {@code jackson-dataformat-smile} or {@code jackson-dataformat-cbor},
+ * and {@link Format#isAvailable()} tells which ones it has. Using a
+ * format without its jar fails with an {@link IllegalStateException}.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@Slf4j
+public final class BinaryJsonUtils {
+
+    /** Supported binary formats. */
+    public enum Format {
+        /** Jackson's binary JSON, with shared field names. */
+        SMILE("application/x-jackson-smile", "com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+        /** RFC 8949 Concise Binary Object Representation. */
+        CBOR("application/cbor", "com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+        private final String mediaType;
+        private final boolean available;
+
+        Format(String mediaType, String factoryClass) {
+            this.mediaType = mediaType;
+            this.available = isPresent(factoryClass);
+        }
+
+        /**
+         * Returns the HTTP media type for this format.
+         *
+         * @return the media type, e.g. {@code application/cbor}
+         */
+        public String mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Tells whether this format's Jackson dataformat module is on the
+         * classpath.
+         *
+         * @return {@code true} if the format can be used
+         */
+        public boolean isAvailable() {
+            return available;
+        }
+
+        private void requireAvailable() {
+            if (!available) {
+                throw missingJar(this);
+            }
+        }
+
+        private JsonFactory newFactory(JsonFactory json) {
+            // One holder per format, so only the jar in use is ever loaded.
+            return switch (this) {
+                case SMILE -> SmileFactories.newFactory(json);
+                case CBOR -> CborFactories.newFactory(json);
+            };
+        }
+
+        // Here rather than on BinaryJsonUtils, whose initialization needs the constants.
+        static boolean isPresent(String className) {
+            try {
+                Class.forName(className, false, Format.class.getClassLoader());
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class SmileFactories {
+        static JsonFactory newFactory(JsonFactory json) {
+            return SmileFactory.builder().recyclerPool(json._getRecyclerPool()).build();
+        }
+    }
+
+    private static final class CborFactories {
+        static JsonFactory newFactory(JsonFactory json) {
+            return CBORFactory.builder().recyclerPool(json._getRecyclerPool()).build();
+        }
+    }
+
+    /**
+     * Codecs derived from one {@link JsonUtils#mapper()} configuration,
+     * replaced when that changes; {@code null} for a format without its jar.
+     */
+    private record Codecs(JsonUtils.Codec source, JsonUtils.Codec smile, JsonUtils.Codec cbor) {
+
+        static Codecs of(JsonUtils.Codec source) {
+            return new Codecs(source, of(source, Format.SMILE), of(source, Format.CBOR));
+        }
+
+        private static JsonUtils.Codec of(JsonUtils.Codec source, Format format) {
+            return format.isAvailable() ? new JsonUtils.Codec(newMapper(source.mapper, format)) : null;
+        }
+    }
+
+    private static volatile Codecs codecs = Codecs.of(JsonUtils.codec());
+
+    private BinaryJsonUtils() { }
+
+    static IllegalStateException missingJar(Format format) {
+        return new IllegalStateException(format + " needs com.fasterxml.jackson.dataformat:jackson-dataformat-"
+                + format.name().toLowerCase(Locale.ROOT) + " on the classpath");
+    }
+
+    /**
+     * Copies a JSON mapper's configuration onto a binary format, e.g. for
+     * Spring's message converters.
+     * <p>
+     * Jackson only copies plain {@link ObjectMapper}s onto another factory.
+     * For a subclass such as {@code JsonMapper} this logs a warning and
+     * derives the mapper from the built-in {@link JsonUtils} configuration
+     * instead.
+     * </p>
+     *
+     * @param json   the JSON mapper to copy
+     * @param format the target format
+     * @return a new mapper for the format
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static ObjectMapper newMapper(ObjectMapper json, Format format) {
+        format.requireAvailable();
+        try {
+            return json.copyWith(format.newFactory(json.getFactory()));
+        } catch (IllegalStateException e) {
+            log.warn("Cannot copy a {} onto {}; using the built-in JsonUtils configuration for it instead",
+                    json.getClass().getName(), format);
+            ObjectMapper builtIn = JsonUtils.builtInMapper();
+            return builtIn.copyWith(format.newFactory(builtIn.getFactory()));
+        }
+    }
+
+    /**
+     * Creates a factory for a format that recycles buffers through the same
+     * pool as a JSON factory, e.g. for Spring's {@code Jackson2ObjectMapperBuilder}.
+     *
+     * @param json   the JSON factory whose buffer pool to share
+     * @param format the target format
+     * @return a new factory for the format
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static JsonFactory newFactory(JsonFactory json, Format format) {
+        format.requireAvailable();
+        return format.newFactory(json);
+    }
+
+    /**
+     * Returns the mapper for a format, derived from the current
+     * {@link JsonUtils#mapper()}.
+     *
+     * @param format the format
+     * @return the mapper
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static ObjectMapper mapper(Format format) {
+        return codec(format).mapper;
+    }
+
+    /**
+     * Serializes an object.
+     *
+     * @param obj    the object (may be null)
+     * @param format the format
+     * @return the encoded bytes
+     * @throws IllegalArgumentException if serialization fails
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static byte[] toBytes(Object obj, Format format) {
+        try {
+            return writerFor(obj, format).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize to " + format, e);
+        }
+    }
+
+    /**
+     * Serializes an object straight to a stream, which is left open.
+     *
+     * @param obj    the object (may be null)
+     * @param out    the target stream
+     * @param format the format
+     * @throws IllegalArgumentException if serialization fails
+     * @throws UncheckedIOException if writing to the stream fails
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static void write(Object obj, OutputStream out, Format format) {
+        try {
+            writerFor(obj, format).writeValue(out, obj);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize to " + format, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + format, e);
+        }
+    }
+
+    /**
+     * Deserializes bytes into an object.
+     *
+     * @param data   the encoded bytes
+     * @param clazz  the target class
+     * @param format the format
+     * @param <T>    the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static <T> T fromBytes(byte[] data, Class<T> clazz, Format format) {
+        try {
+            return codec(format).readers.get(clazz).readValue(data);
+        } catch (IOException e) {
+            // Nothing to do I/O on in a byte[] — every failure here is bad input.
+            throw new IllegalArgumentException("Failed to deserialize " + format, e);
+        }
+    }
+
+    /**
+     * Deserializes a stream into an object. The stream is left open.
+     *
+     * @param data   the encoded stream
+     * @param clazz  the target class
+     * @param format the format
+     * @param <T>    the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     * @throws UncheckedIOException if reading the stream fails
+     * @throws IllegalStateException if the format's jar is missing
+     */
+    public static <T> T fromBytes(InputStream data, Class<T> clazz, Format format) {
+        try {
+            return codec(format).readers.get(clazz).readValue(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize " + format, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + format, e);
+        }
+    }
+
+    private static ObjectWriter writerFor(Object obj, Format format) {
+        JsonUtils.Codec codec = codec(format);
+        return obj == null ? codec.baseWriter : codec.writers.get(obj.getClass());
+    }
+
+    private static JsonUtils.Codec codec(Format format) {
+        JsonUtils.Codec json = JsonUtils.codec();
+        Codecs current = codecs;
+        if (current.source != json) {
+            current = Codecs.of(json);
+            codecs = current;
+        }
+        format.requireAvailable();
+        return format == Format.SMILE ? current.smile : current.cbor;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+
+/**
+ * Registers Jackson Blackbird, which swaps reflective property access for
+ * generated lambdas, on a mapper.
+ * <p>
+ * Only loaded when the module is on the classpath — {@link JsonUtils}
+ * checks for it first, so services without the dependency never touch
+ * this class.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+final class BlackbirdSupport {
+
+    /** Exercised by the probe — a record and a bean cover both accessor styles. */
+    record ProbeRecord(String name, int count) {}
+
+    static final class ProbeBean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private BlackbirdSupport() { }
+
+    /**
+     * Round-trips probe values through a copy of {@code mapper} with the
+     * module, and registers it on {@code mapper} only if that works.
+     *
+     * @return whether the module was registered
+     */
+    static boolean register(ObjectMapper mapper) {
+        ObjectMapper probe = mapper.copy().registerModule(new BlackbirdModule());
+        try {
+            ProbeRecord record = probe.readValue(probe.writeValueAsBytes(new ProbeRecord("probe", 1)), ProbeRecord.class);
+            ProbeBean bean = new ProbeBean();
+            bean.setName("probe");
+            bean = probe.readValue(probe.writeValueAsBytes(bean), ProbeBean.class);
+            if (record.count() != 1 || !"probe".equals(bean.getName())) return false;
+        } catch (IOException e) {
+            return false;
+        }
+        mapper.registerModule(new BlackbirdModule());
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.bored.common.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a dedicated Jackson serializer and deserializer for a record or
+ * bean class at compile time.
+ * <p>
+ * Needs the {@code common-lib-json-processor} annotation processor on the
+ * {@code annotationProcessor} path. For {@code com.example.Order} it emits
+ * {@code com.example.Order_BoredJsonCodec}, a {@link BoredJsonCodec} that
+ * {@link BoredJsonModule} picks up and registers on the shared mapper.
+ * Jackson then builds no reflective property accessors for the type, so
+ * nothing about it has to stay reflectively reachable (native images,
+ * strongly encapsulated modules), and an unsupported shape fails the build
+ * rather than the first request. On HotSpot, cold start and steady-state
+ * throughput are on par with reflective binding — see
+ * {@code BoredJsonBenchmark}.
+ * </p>
+ * <p>
+ * Supported shapes: records, and classes with a no-arg constructor and a
+ * public getter/setter pair per property. {@code @JsonProperty} renames
+ * record components; any other Jackson annotation on the type or its
+ * properties is a compile error — drop {@code @BoredJson} for those types
+ * and let reflection handle them. The same goes for {@link JsonDedup}.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface BoredJson {
+}
@@ -0,0 +1,42 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+/**
+ * A generated serializer/deserializer pair for one {@link BoredJson} type.
+ * <p>
+ * Implementations are written by the annotation processor and listed in
+ * {@code META-INF/services/dev.bored.common.util.BoredJsonCodec}, where
+ * {@link BoredJsonModule} finds them. Not meant to be implemented by hand.
+ * </p>
+ *
+ * @param <T> the type handled
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public interface BoredJsonCodec<T> {
+
+    /**
+     * Returns the type this codec handles.
+     *
+     * @return the type
+     */
+    Class<T> type();
+
+    /**
+     * Creates the serializer. It caches property serializers resolved
+     * against the mapper that uses it, so each mapper needs its own instance.
+     *
+     * @return a new serializer
+     */
+    JsonSerializer<T> serializer();
+
+    /**
+     * Creates the deserializer. It resolves property deserializers against
+     * the mapper that uses it, so each mapper needs its own instance.
+     *
+     * @return a new deserializer
+     */
+    JsonDeserializer<T> deserializer();
+}
@@ -0,0 +1,126 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Registers every {@link BoredJsonCodec} on the class path — the
+ * compile-time (de)serializers generated for {@link BoredJson} types.
+ * <p>
+ * Installed on the {@link JsonUtils} mapper and, through
+ * {@code CommonLibAutoConfiguration}, on Spring's. Generated code assumes
+ * Jackson's defaults for property naming, ordering, inclusion and type
+ * handling; on a mapper configured otherwise (a naming strategy,
+ * {@code NON_NULL} inclusion, a mix-in, default typing, required creator
+ * properties, …) the type falls
+ * back to Jackson's reflective bean (de)serializer, so output never depends
+ * on which path is taken.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class BoredJsonModule extends Module {
+
+    private final Map<Class<?>, BoredJsonCodec<?>> codecs;
+
+    /**
+     * Loads codecs through the context class loader, or this class's own
+     * when there is none.
+     */
+    public BoredJsonModule() {
+        this(defaultClassLoader());
+    }
+
+    /**
+     * Loads codecs through the given class loader.
+     *
+     * @param classLoader the loader to search for
+     *                    {@code META-INF/services/dev.bored.common.util.BoredJsonCodec}
+     */
+    public BoredJsonModule(ClassLoader classLoader) {
+        Map<Class<?>, BoredJsonCodec<?>> found = new LinkedHashMap<>();
+        for (BoredJsonCodec<?> codec : ServiceLoader.load(BoredJsonCodec.class, classLoader)) {
+            found.putIfAbsent(codec.type(), codec);
+        }
+        this.codecs = Collections.unmodifiableMap(found);
+    }
+
+    private static ClassLoader defaultClassLoader() {
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return context != null ? context : BoredJsonModule.class.getClassLoader();
+    }
+
+    /**
+     * Returns the types with a generated codec.
+     *
+     * @return the types, in class-path order
+     */
+    public Set<Class<?>> types() {
+        return codecs.keySet();
+    }
+
+    @Override
+    public String getModuleName() {
+        return "BoredJsonModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        if (codecs.isEmpty()) return;
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                BoredJsonCodec<?> codec = codecs.get(type.getRawClass());
+                return codec != null && usesDefaults(config, type) ? codec.serializer() : null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                                                            BeanDescription beanDesc) {
+                BoredJsonCodec<?> codec = codecs.get(type.getRawClass());
+                return codec != null && usesDefaults(config, type)
+                        && !config.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)
+                        ? codec.deserializer() : null;
+            }
+        });
+    }
+
+    /** Whether {@code config} binds {@code type} the way the generated code does. */
+    static boolean usesDefaults(MapperConfig<?> config, JavaType type) {
+        if (config.getPropertyNamingStrategy() != null
+                || config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                || config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                || config.findMixInClassFor(type.getRawClass()) != null
+                || config.getDefaultTyper(type) != null) {
+            return false;
+        }
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type.getRawClass()).getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+}
@@ -0,0 +1,177 @@
+package dev.bored.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Low-resolution clock that keeps a preformatted ISO-8601 timestamp.
+ * <p>
+ * A daemon ticker refreshes the snapshot once per tick (1 ms by default),
+ * so readers such as {@link dev.bored.common.exception.ErrorResponse} pay
+ * a single volatile load instead of a clock read plus formatting per call.
+ * Timestamps are truncated to milliseconds.
+ * </p>
+ *
+ * <p>Library code reads {@link #shared()}. Spring services get a shared
+ * instance from {@link dev.bored.common.CommonLibAutoConfiguration} with the
+ * tick taken from {@code bored.clock.tick}; tests can freeze time with
+ * {@link #fixed(Instant)} and {@link #setShared(CoarseClock)}.</p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class CoarseClock implements AutoCloseable {
+
+    /** Default refresh interval. */
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(1);
+
+    private static final AtomicReference<CoarseClock> SHARED = new AtomicReference<>();
+
+    private final Clock source;
+    private final Duration tick;
+    private boolean lazyDefault;
+    private volatile Snapshot current;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Creates a clock reading from {@code source}. Call {@link #start()} to
+     * begin ticking — until then the snapshot only moves on {@link #refresh()}.
+     *
+     * @param source the underlying clock
+     * @param tick   the refresh interval
+     * @throws IllegalArgumentException if tick is not positive
+     */
+    public CoarseClock(Clock source, Duration tick) {
+        if (tick == null || tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        this.source = source;
+        this.tick = tick;
+        refresh();
+    }
+
+    /**
+     * Creates a clock frozen at the given instant — never ticks.
+     *
+     * @param instant the instant to report
+     * @return a fixed clock
+     */
+    public static CoarseClock fixed(Instant instant) {
+        return new CoarseClock(Clock.fixed(instant, ZoneOffset.UTC), DEFAULT_TICK);
+    }
+
+    /**
+     * Returns the clock used by library code, starting a system UTC clock
+     * with {@link #DEFAULT_TICK} on first use if none was set.
+     *
+     * @return the shared clock
+     */
+    public static CoarseClock shared() {
+        CoarseClock clock = SHARED.get();
+        if (clock != null) return clock;
+        CoarseClock created = new CoarseClock(Clock.systemUTC(), DEFAULT_TICK);
+        created.lazyDefault = true;
+        if (SHARED.compareAndSet(null, created)) {
+            return created.start();
+        }
+        return SHARED.get();
+    }
+
+    /**
+     * Replaces the clock returned by {@link #shared()}. The previous clock
+     * is returned, not closed.
+     *
+     * @param clock the new shared clock, or {@code null} to fall back to the default
+     * @return the previous shared clock, or {@code null}
+     */
+    public static CoarseClock setShared(CoarseClock clock) {
+        return SHARED.getAndSet(clock);
+    }
+
+    /**
+     * Returns whether {@link #shared()} created this clock on first use —
+     * nobody else holds it, so whoever replaces it should close it.
+     *
+     * @return {@code true} for the lazily started default clock
+     */
+    public boolean isLazyDefault() {
+        return lazyDefault;
+    }
+
+    /**
+     * Starts the daemon ticker. Idempotent.
+     *
+     * @return this clock
+     */
+    public synchronized CoarseClock start() {
+        if (ticker == null) {
+            ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "bored-coarse-clock");
+                t.setDaemon(true);
+                return t;
+            });
+            long nanos = tick.toNanos();
+            ticker.scheduleAtFixedRate(this::refresh, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Re-reads the underlying clock and republishes the snapshot.
+     */
+    public void refresh() {
+        Instant now = source.instant().truncatedTo(ChronoUnit.MILLIS);
+        Snapshot snapshot = current;
+        if (snapshot == null || !snapshot.instant().equals(now)) {
+            current = new Snapshot(now, now.toString());
+        }
+    }
+
+    /**
+     * Returns the instant as of the last tick.
+     *
+     * @return the cached instant
+     */
+    public Instant instant() {
+        return current.instant();
+    }
+
+    /**
+     * Returns the ISO-8601 form of {@link #instant()}, e.g.
+     * {@code 2026-02-15T10:30:00.123Z}.
+     *
+     * @return the cached timestamp string
+     */
+    public String isoNow() {
+        return current.iso();
+    }
+
+    /**
+     * Returns the refresh interval.
+     *
+     * @return the tick
+     */
+    public Duration tick() {
+        return tick;
+    }
+
+    /** Stops the ticker and, if this is the shared clock, clears it. */
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        SHARED.compareAndSet(this, null);
+    }
+
+    /** Instant and its string published together, so readers never see a mismatched pair. */
+    private record Snapshot(Instant instant, String iso) { }
+}
@@ -0,0 +1,78 @@
+package dev.bored.common.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Bounded cache of formatted date strings keyed by epoch-day.
+ * <p>
+ * Meant for hot paths that format the same few thousand dates over and
+ * over (e.g. {@link DateUtils#MONTH_YEAR} labels in JSON responses) — a
+ * hit returns the cached {@code String} without allocating. The table is
+ * direct-mapped: each epoch-day owns one slot and a colliding date simply
+ * replaces it, so memory stays fixed at {@code capacity} entries. Lock-free
+ * and thread-safe; concurrent misses on the same slot may format twice.
+ * </p>
+ *
+ * <pre>
+ * private static final DateFormatCache MONTH_YEAR =
+ *         new DateFormatCache(DateUtils.MONTH_YEAR, 4096);
+ * String label = MONTH_YEAR.format(experience.startDate());
+ * </pre>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class DateFormatCache {
+
+    private final DateTimeFormatter formatter;
+    private final Entry[] table;
+    private final int mask;
+
+    /**
+     * Creates a cache for the given formatter.
+     *
+     * @param formatter the formatter used on a miss
+     * @param capacity  the number of slots, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public DateFormatCache(DateTimeFormatter formatter, int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        this.formatter = formatter;
+        this.table = new Entry[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        this.mask = table.length - 1;
+    }
+
+    /**
+     * Formats a date, reusing the cached string when the date was seen before.
+     *
+     * @param date the date to format
+     * @return the formatted string, or {@code null} if date is null
+     */
+    public String format(LocalDate date) {
+        if (date == null) return null;
+        long epochDay = date.toEpochDay();
+        int slot = (int) (epochDay ^ (epochDay >>> 32)) & mask;
+        Entry entry = table[slot];
+        if (entry != null && entry.epochDay == epochDay) {
+            return entry.text;
+        }
+        String text = date.format(formatter);
+        table[slot] = new Entry(epochDay, text);
+        return text;
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the capacity after rounding
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    /** Immutable, so a racy slot read always sees a consistent pair. */
+    private record Entry(long epochDay, String text) { }
+}
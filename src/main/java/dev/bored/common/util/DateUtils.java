@@ -1,10 +1,21 @@
 package dev.bored.common.util;
 
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
  * Date parsing and formatting utilities.
@@ -36,10 +47,35 @@ public final class DateUtils {
 
     private static final List<DateTimeFormatter> DATE_PARSERS = List.of(ISO, US, EU);
 
+    /** Length of every unsigned, 4-digit-year date the formatters accept. */
+    static final int DATE_LENGTH = 10;
+
+    static final int LAYOUT_NONE = -1;
+    static final int LAYOUT_ISO = 0;
+    static final int LAYOUT_US = 1;
+    static final int LAYOUT_EU = 2;
+
+    /** Length of {@link #ISO_DT} output without a fraction: {@code yyyy-MM-ddTHH:mm:ss}. */
+    private static final int DATE_TIME_LENGTH = 19;
+
+    /** Longest {@link #ISO_DT} output for a 4-digit year — nine fraction digits plus the dot. */
+    private static final int MAX_DATE_TIME_LENGTH = DATE_TIME_LENGTH + 10;
+
+    /** Rows per fork-join leaf in the bulk API — a multiple of 64 so leaves never share a bitmap word. */
+    private static final int BULK_CHUNK = 4_096;
+
+    /** Days from {@code 0000-01-01} to {@code 1970-01-01}. */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
     private DateUtils() { }
 
     /**
      * Parses a date string by trying ISO, US, and EU formats in order.
+     * <p>
+     * The layout is picked from the separator positions in a single pass, so
+     * US and EU dates no longer pay for a failed ISO attempt. Results are the
+     * same as running {@link #ISO}, {@link #US} and {@link #EU} in sequence.
+     * </p>
      *
      * @param text the date string to parse
      * @return the parsed {@link LocalDate}
@@ -51,14 +87,285 @@ public final class DateUtils {
             throw new IllegalArgumentException("Date text must not be null or blank");
         }
         String trimmed = text.trim();
+        LocalDate date = parseTrimmed(trimmed);
+        if (date == null) {
+            throw new DateTimeParseException("Unable to parse date: " + trimmed, trimmed, 0);
+        }
+        return date;
+    }
+
+    /**
+     * Exception-free variant of {@link #parseDate(String)}.
+     *
+     * @param text the date string to parse
+     * @return the parsed {@link LocalDate}, or {@code null} if text is null,
+     *         blank, or matches none of the formats
+     */
+    public static LocalDate tryParseDate(String text) {
+        if (text == null || text.isBlank()) return null;
+        return parseTrimmed(text.trim());
+    }
+
+    private static LocalDate parseTrimmed(String text) {
+        if (text.length() == DATE_LENGTH) {
+            int packed = parsePacked(text, 0, layoutOf(text, 0));
+            return packed < 0 ? null
+                    : LocalDate.of(packed / 10_000, packed / 100 % 100, packed % 100);
+        }
+        return hasSignedYear(text, 0, text.length()) ? parseWithFormatters(text) : null;
+    }
+
+    /**
+     * Only signed, extended years ({@code +10000-01-01}, {@code 01/01/+10000})
+     * can match with a length other than {@link #DATE_LENGTH} — those are
+     * left to the formatters.
+     */
+    private static boolean hasSignedYear(CharSequence text, int start, int end) {
+        if (end - start <= DATE_LENGTH) return false;
+        char first = text.charAt(start);
+        char year = text.charAt(start + 6);
+        return first == '+' || first == '-' || year == '+' || year == '-';
+    }
+
+    private static LocalDate parseWithFormatters(String text) {
         for (DateTimeFormatter fmt : DATE_PARSERS) {
             try {
-                return LocalDate.parse(trimmed, fmt);
+                return LocalDate.parse(text, fmt);
             } catch (DateTimeParseException ignored) {
                 // try next format
             }
         }
-        throw new DateTimeParseException("Unable to parse date: " + trimmed, trimmed, 0);
+        return null;
+    }
+
+    /**
+     * Identifies the layout of the 10-character window starting at
+     * {@code off} from its separators alone.
+     */
+    static int layoutOf(CharSequence text, int off) {
+        if (hasSeparators(text, off, LAYOUT_ISO)) return LAYOUT_ISO;
+        if (hasSeparators(text, off, LAYOUT_US)) return LAYOUT_US;
+        if (hasSeparators(text, off, LAYOUT_EU)) return LAYOUT_EU;
+        return LAYOUT_NONE;
+    }
+
+    private static boolean hasSeparators(CharSequence text, int off, int layout) {
+        return switch (layout) {
+            case LAYOUT_ISO -> text.charAt(off + 4) == '-' && text.charAt(off + 7) == '-';
+            case LAYOUT_US -> text.charAt(off + 2) == '/' && text.charAt(off + 5) == '/';
+            case LAYOUT_EU -> text.charAt(off + 2) == '-' && text.charAt(off + 5) == '-';
+            default -> false;
+        };
+    }
+
+    /**
+     * Parses the 10-character window starting at {@code off} using the given
+     * layout, mirroring the resolver rules of the matching formatter.
+     * <p>
+     * {@link #ISO} resolves strictly, so an out-of-range day fails. {@link #US}
+     * and {@link #EU} resolve smartly: any day up to 31 is clamped to the end
+     * of the month, and year {@code 0000} is rejected because {@code yyyy} is
+     * year-of-era.
+     * </p>
+     *
+     * @return the date packed as {@code yyyyMMdd}, or {@code -1} if it doesn't match
+     */
+    static int parsePacked(CharSequence text, int off, int layout) {
+        int year;
+        int month;
+        int day;
+        switch (layout) {
+            case LAYOUT_ISO -> {
+                year = digits4(text, off);
+                month = digits2(text, off + 5);
+                day = digits2(text, off + 8);
+            }
+            case LAYOUT_US -> {
+                month = digits2(text, off);
+                day = digits2(text, off + 3);
+                year = digits4(text, off + 6);
+            }
+            case LAYOUT_EU -> {
+                day = digits2(text, off);
+                month = digits2(text, off + 3);
+                year = digits4(text, off + 6);
+            }
+            default -> {
+                return -1;
+            }
+        }
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) return -1;
+        int monthLength = monthLength(year, month);
+        if (layout == LAYOUT_ISO) {
+            if (day > monthLength) return -1;
+        } else {
+            if (year == 0) return -1;
+            day = Math.min(day, monthLength);
+        }
+        return year * 10_000 + month * 100 + day;
+    }
+
+    private static int digits2(CharSequence text, int off) {
+        int d1 = text.charAt(off) - '0';
+        int d2 = text.charAt(off + 1) - '0';
+        if ((d1 | d2) < 0 || d1 > 9 || d2 > 9) return -1;
+        return d1 * 10 + d2;
+    }
+
+    private static int digits4(CharSequence text, int off) {
+        int hi = digits2(text, off);
+        int lo = digits2(text, off + 2);
+        return (hi | lo) < 0 ? -1 : hi * 100 + lo;
+    }
+
+    private static int monthLength(int year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    // ── Bulk parsing ──────────────────────────────────────────
+
+    /**
+     * Parses a column of dates into epoch-days without creating a
+     * {@link LocalDate} per row.
+     * <p>
+     * Accepts the same inputs as {@link #parseDate(String)}. Rows that are
+     * null, blank, or unparseable are flagged in the returned bitmap and left
+     * as {@code 0} in {@code epochDays}. Columns larger than
+     * 4,096 rows are split across the common fork-join pool.
+     * Once a row parses, its layout is tried first for the rows after it, so
+     * single-format columns skip layout detection.
+     * </p>
+     *
+     * @param values    the date strings
+     * @param epochDays receives {@link LocalDate#toEpochDay()} for each row;
+     *                  must be at least {@code values.length} long
+     * @return a bitmap with a bit set for every row that failed to parse
+     * @throws IllegalArgumentException if {@code epochDays} is too short
+     */
+    public static BitSet parseEpochDays(CharSequence[] values, int[] epochDays) {
+        return parseEpochDays(Arrays.asList(values), epochDays);
+    }
+
+    /**
+     * List variant of {@link #parseEpochDays(CharSequence[], int[])}.
+     * Lists without {@link RandomAccess} are copied once up front.
+     *
+     * @param values    the date strings
+     * @param epochDays receives the epoch-day of each row
+     * @return a bitmap with a bit set for every row that failed to parse
+     * @throws IllegalArgumentException if {@code epochDays} is too short
+     */
+    public static BitSet parseEpochDays(List<? extends CharSequence> values, int[] epochDays) {
+        int size = values.size();
+        if (epochDays.length < size) {
+            throw new IllegalArgumentException("epochDays must hold at least " + size + " values");
+        }
+        List<? extends CharSequence> rows = values instanceof RandomAccess ? values : new ArrayList<>(values);
+        long[] failures = new long[(size + 63) >>> 6];
+        if (size <= BULK_CHUNK) {
+            parseRange(rows, epochDays, failures, 0, size);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ParseTask(rows, epochDays, failures, 0, size));
+        }
+        return BitSet.valueOf(failures);
+    }
+
+    /**
+     * Stream variant of {@link #parseEpochDays(CharSequence[], int[])}.
+     *
+     * @param values   the date strings
+     * @param failures receives a set bit for every row that failed to parse
+     * @return the epoch-day of each row, in stream order
+     */
+    public static int[] parseEpochDays(Stream<? extends CharSequence> values, BitSet failures) {
+        CharSequence[] rows = values.toArray(CharSequence[]::new);
+        int[] epochDays = new int[rows.length];
+        failures.or(parseEpochDays(rows, epochDays));
+        return epochDays;
+    }
+
+    private static void parseRange(List<? extends CharSequence> rows, int[] epochDays,
+                                   long[] failures, int from, int to) {
+        int pinned = LAYOUT_NONE;
+        for (int i = from; i < to; i++) {
+            CharSequence text = rows.get(i);
+            long epochDay = Long.MIN_VALUE;
+            if (text != null) {
+                int start = 0;
+                int end = text.length();
+                while (start < end && text.charAt(start) <= ' ') start++;
+                while (end > start && text.charAt(end - 1) <= ' ') end--;
+                if (end - start == DATE_LENGTH) {
+                    // Layouts never share both separators, so a hit on the
+                    // pinned one settles the row on its own.
+                    int layout = hasSeparators(text, start, pinned) ? pinned : layoutOf(text, start);
+                    int packed = parsePacked(text, start, layout);
+                    if (packed >= 0) {
+                        epochDay = toEpochDay(packed);
+                        pinned = layout;
+                    }
+                } else if (hasSignedYear(text, start, end)) {
+                    LocalDate date = parseWithFormatters(text.subSequence(start, end).toString());
+                    if (date != null) epochDay = date.toEpochDay();
+                }
+            }
+            if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+                failures[i >>> 6] |= 1L << i;
+                epochDays[i] = 0;
+            } else {
+                epochDays[i] = (int) epochDay;
+            }
+        }
+    }
+
+    /** Same arithmetic as {@link LocalDate#toEpochDay()}, for non-negative years. */
+    private static long toEpochDay(int packed) {
+        int year = packed / 10_000;
+        int month = packed / 100 % 100;
+        int day = packed % 100;
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400
+                + (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= Year.isLeap(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /** Splits a column on {@link #BULK_CHUNK} boundaries so leaves never share a bitmap word. */
+    private static final class ParseTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<? extends CharSequence> rows;
+        private final int[] epochDays;
+        private final long[] failures;
+        private final int from;
+        private final int to;
+
+        ParseTask(List<? extends CharSequence> rows, int[] epochDays, long[] failures, int from, int to) {
+            this.rows = rows;
+            this.epochDays = epochDays;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int length = to - from;
+            if (length <= BULK_CHUNK) {
+                parseRange(rows, epochDays, failures, from, to);
+                return;
+            }
+            int mid = from + Math.max(1, length / 2 / BULK_CHUNK) * BULK_CHUNK;
+            invokeAll(new ParseTask(rows, epochDays, failures, from, mid),
+                    new ParseTask(rows, epochDays, failures, mid, to));
+        }
     }
 
     /**
@@ -83,7 +390,11 @@ public final class DateUtils {
      * @return the formatted string, or {@code null} if date is null
      */
     public static String formatIso(LocalDate date) {
-        return date != null ? date.format(ISO) : null;
+        if (date == null) return null;
+        if (!isFourDigitYear(date.getYear())) return date.format(ISO);
+        byte[] buf = new byte[DATE_LENGTH];
+        writeIso(date, buf, 0);
+        return new String(buf, StandardCharsets.ISO_8859_1);
     }
 
     /**
@@ -93,7 +404,239 @@ public final class DateUtils {
      * @return the formatted string, or {@code null} if dateTime is null
      */
     public static String formatIso(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(ISO_DT) : null;
+        if (dateTime == null) return null;
+        if (!isFourDigitYear(dateTime.getYear())) return dateTime.format(ISO_DT);
+        byte[] buf = new byte[MAX_DATE_TIME_LENGTH];
+        int end = writeIso(dateTime, buf, 0);
+        return new String(buf, 0, end, StandardCharsets.ISO_8859_1);
+    }
+
+    // ── Allocation-free ISO writers ───────────────────────────
+
+    /**
+     * Appends a {@link LocalDate} in ISO format ({@code yyyy-MM-dd}) without
+     * going through {@link DateTimeFormatter}. Appends nothing if date is null.
+     *
+     * @param date the date to append
+     * @param sb   the target builder
+     * @return {@code sb}, for chaining
+     */
+    public static StringBuilder appendIso(LocalDate date, StringBuilder sb) {
+        if (date == null) return sb;
+        if (!isFourDigitYear(date.getYear())) {
+            ISO.formatTo(date, sb);
+            return sb;
+        }
+        append4(sb, date.getYear()).append('-');
+        append2(sb, date.getMonthValue()).append('-');
+        return append2(sb, date.getDayOfMonth());
+    }
+
+    /**
+     * Appends a {@link LocalDateTime} in the same shape as {@link #ISO_DT}.
+     * Appends nothing if dateTime is null.
+     *
+     * @param dateTime the date-time to append
+     * @param sb       the target builder
+     * @return {@code sb}, for chaining
+     */
+    public static StringBuilder appendIso(LocalDateTime dateTime, StringBuilder sb) {
+        if (dateTime == null) return sb;
+        if (!isFourDigitYear(dateTime.getYear())) {
+            ISO_DT.formatTo(dateTime, sb);
+            return sb;
+        }
+        appendIso(dateTime.toLocalDate(), sb).append('T');
+        append2(sb, dateTime.getHour()).append(':');
+        append2(sb, dateTime.getMinute()).append(':');
+        append2(sb, dateTime.getSecond());
+        int nano = dateTime.getNano();
+        if (nano != 0) {
+            sb.append('.');
+            int digits = fractionDigits(nano);
+            for (int i = 0, div = 100_000_000; i < digits; i++, div /= 10) {
+                sb.append((char) ('0' + nano / div % 10));
+            }
+        }
+        return sb;
+    }
+
+    /**
+     * Writes a {@link LocalDate} in ISO format into {@code buf} starting at
+     * {@code off}. Writes nothing if date is null.
+     *
+     * @param date the date to write
+     * @param buf  the target buffer — needs 10 free chars for 4-digit years
+     * @param off  the first index to write
+     * @return the index after the last char written
+     * @throws IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int appendIso(LocalDate date, char[] buf, int off) {
+        if (date == null) return off;
+        if (!isFourDigitYear(date.getYear())) return copy(date.format(ISO), buf, off);
+        Objects.checkFromIndexSize(off, DATE_LENGTH, buf.length);
+        put4(buf, off, date.getYear());
+        buf[off + 4] = '-';
+        put2(buf, off + 5, date.getMonthValue());
+        buf[off + 7] = '-';
+        put2(buf, off + 8, date.getDayOfMonth());
+        return off + DATE_LENGTH;
+    }
+
+    /**
+     * Writes a {@link LocalDateTime} in the same shape as {@link #ISO_DT}
+     * into {@code buf} starting at {@code off}. Writes nothing if dateTime
+     * is null.
+     *
+     * @param dateTime the date-time to write
+     * @param buf      the target buffer — up to 29 chars for 4-digit years
+     * @param off      the first index to write
+     * @return the index after the last char written
+     * @throws IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int appendIso(LocalDateTime dateTime, char[] buf, int off) {
+        if (dateTime == null) return off;
+        if (!isFourDigitYear(dateTime.getYear())) return copy(dateTime.format(ISO_DT), buf, off);
+        int nano = dateTime.getNano();
+        int digits = fractionDigits(nano);
+        Objects.checkFromIndexSize(off, DATE_TIME_LENGTH + (digits > 0 ? digits + 1 : 0), buf.length);
+        int pos = appendIso(dateTime.toLocalDate(), buf, off);
+        buf[pos] = 'T';
+        put2(buf, pos + 1, dateTime.getHour());
+        buf[pos + 3] = ':';
+        put2(buf, pos + 4, dateTime.getMinute());
+        buf[pos + 6] = ':';
+        put2(buf, pos + 7, dateTime.getSecond());
+        pos += 9;
+        if (digits > 0) {
+            buf[pos++] = '.';
+            for (int i = 0, div = 100_000_000; i < digits; i++, div /= 10) {
+                buf[pos++] = (char) ('0' + nano / div % 10);
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Writes a {@link LocalDate} in ISO format as ASCII bytes into
+     * {@code buf} starting at {@code off}. Writes nothing if date is null.
+     *
+     * @param date the date to write
+     * @param buf  the target buffer — needs 10 free bytes for 4-digit years
+     * @param off  the first index to write
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int appendIso(LocalDate date, byte[] buf, int off) {
+        if (date == null) return off;
+        if (!isFourDigitYear(date.getYear())) return copy(date.format(ISO), buf, off);
+        return writeIso(date, buf, off);
+    }
+
+    /**
+     * Writes a {@link LocalDateTime} in the same shape as {@link #ISO_DT} as
+     * ASCII bytes into {@code buf} starting at {@code off}. Writes nothing if
+     * dateTime is null.
+     *
+     * @param dateTime the date-time to write
+     * @param buf      the target buffer — up to 29 bytes for 4-digit years
+     * @param off      the first index to write
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the buffer is too small
+     */
+    public static int appendIso(LocalDateTime dateTime, byte[] buf, int off) {
+        if (dateTime == null) return off;
+        if (!isFourDigitYear(dateTime.getYear())) return copy(dateTime.format(ISO_DT), buf, off);
+        return writeIso(dateTime, buf, off);
+    }
+
+    private static int writeIso(LocalDate date, byte[] buf, int off) {
+        Objects.checkFromIndexSize(off, DATE_LENGTH, buf.length);
+        put4(buf, off, date.getYear());
+        buf[off + 4] = '-';
+        put2(buf, off + 5, date.getMonthValue());
+        buf[off + 7] = '-';
+        put2(buf, off + 8, date.getDayOfMonth());
+        return off + DATE_LENGTH;
+    }
+
+    private static int writeIso(LocalDateTime dateTime, byte[] buf, int off) {
+        int nano = dateTime.getNano();
+        int digits = fractionDigits(nano);
+        Objects.checkFromIndexSize(off, DATE_TIME_LENGTH + (digits > 0 ? digits + 1 : 0), buf.length);
+        int pos = writeIso(dateTime.toLocalDate(), buf, off);
+        buf[pos] = 'T';
+        put2(buf, pos + 1, dateTime.getHour());
+        buf[pos + 3] = ':';
+        put2(buf, pos + 4, dateTime.getMinute());
+        buf[pos + 6] = ':';
+        put2(buf, pos + 7, dateTime.getSecond());
+        pos += 9;
+        if (digits > 0) {
+            buf[pos++] = '.';
+            for (int i = 0, div = 100_000_000; i < digits; i++, div /= 10) {
+                buf[pos++] = (byte) ('0' + nano / div % 10);
+            }
+        }
+        return pos;
+    }
+
+    /** The hand-rolled writers cover {@code 0000}–{@code 9999}; other years need a sign. */
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    /** Digits {@link #ISO_DT} prints for a nano-of-second — 0 to 9, trailing zeros dropped. */
+    private static int fractionDigits(int nano) {
+        if (nano == 0) return 0;
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        return digits;
+    }
+
+    private static StringBuilder append2(StringBuilder sb, int value) {
+        return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static StringBuilder append4(StringBuilder sb, int value) {
+        return append2(append2(sb, value / 100), value % 100);
+    }
+
+    private static void put2(char[] buf, int off, int value) {
+        buf[off] = (char) ('0' + value / 10);
+        buf[off + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void put4(char[] buf, int off, int value) {
+        put2(buf, off, value / 100);
+        put2(buf, off + 2, value % 100);
+    }
+
+    private static void put2(byte[] buf, int off, int value) {
+        buf[off] = (byte) ('0' + value / 10);
+        buf[off + 1] = (byte) ('0' + value % 10);
+    }
+
+    private static void put4(byte[] buf, int off, int value) {
+        put2(buf, off, value / 100);
+        put2(buf, off + 2, value % 100);
+    }
+
+    private static int copy(String text, char[] buf, int off) {
+        Objects.checkFromIndexSize(off, text.length(), buf.length);
+        text.getChars(0, text.length(), buf, off);
+        return off + text.length();
+    }
+
+    private static int copy(String text, byte[] buf, int off) {
+        Objects.checkFromIndexSize(off, text.length(), buf.length);
+        for (int i = 0; i < text.length(); i++) {
+            buf[off + i] = (byte) text.charAt(i);
+        }
+        return off + text.length();
     }
 
     /**
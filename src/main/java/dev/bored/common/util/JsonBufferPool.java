@@ -0,0 +1,190 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+import java.lang.ref.SoftReference;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jackson {@link RecyclerPool} for the {@link BufferRecycler}s behind every
+ * parser and generator, with hit and miss counters.
+ * <p>
+ * Jackson's default keeps one recycler per thread, which only pays off for
+ * long-lived platform threads — every new virtual thread starts cold. The
+ * {@link Strategy#CONCURRENT_DEQUE} and {@link Strategy#BOUNDED} strategies
+ * share recyclers across threads instead. A <em>hit</em> is an acquire
+ * served by a recycled instance, a <em>miss</em> one that had to allocate.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class JsonBufferPool implements RecyclerPool<BufferRecycler> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Capacity of a {@link Strategy#BOUNDED} pool when none is configured. */
+    public static final int DEFAULT_SIZE = 100;
+
+    /** How recyclers are kept between uses. */
+    public enum Strategy {
+        /** Unbounded lock-free deque shared by all threads. Works for platform and virtual threads alike. */
+        CONCURRENT_DEQUE,
+        /** Shared queue holding at most {@code size} idle recyclers; extras are dropped on release. */
+        BOUNDED,
+        /** One softly-referenced recycler per thread — Jackson's classic behavior. */
+        THREAD_LOCAL;
+
+        /**
+         * Parses a property value such as {@code concurrent-deque} or
+         * {@code BOUNDED}.
+         *
+         * @param value the value (blank means {@code defaultStrategy})
+         * @param defaultStrategy the strategy for a blank value
+         * @return the strategy
+         * @throws IllegalArgumentException if the value names no strategy
+         */
+        public static Strategy parse(String value, Strategy defaultStrategy) {
+            if (StringUtils.isBlank(value)) return defaultStrategy;
+            String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+            for (Strategy strategy : values()) {
+                if (strategy.name().equals(name)) return strategy;
+            }
+            throw new IllegalArgumentException("Unknown JSON buffer pool strategy: " + value);
+        }
+    }
+
+    private final Strategy strategy;
+    private final int size;
+    /** Idle recyclers, most recently released first so warm buffers are reused. */
+    private final transient Deque<BufferRecycler> idle;
+    private final transient ThreadLocal<SoftReference<BufferRecycler>> perThread;
+    private final transient LongAdder hits = new LongAdder();
+    private final transient LongAdder misses = new LongAdder();
+
+    private JsonBufferPool(Strategy strategy, int size) {
+        this.strategy = strategy;
+        this.size = size;
+        this.idle = switch (strategy) {
+            case CONCURRENT_DEQUE -> new ConcurrentLinkedDeque<>();
+            case BOUNDED -> new LinkedBlockingDeque<>(size);
+            case THREAD_LOCAL -> null;
+        };
+        this.perThread = strategy == Strategy.THREAD_LOCAL ? new ThreadLocal<>() : null;
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param strategy how recyclers are kept
+     * @param size     the capacity for {@link Strategy#BOUNDED} (must be ≥ 1;
+     *                 ignored by the other strategies)
+     * @return the pool
+     * @throws IllegalArgumentException if strategy is null or size &lt; 1
+     */
+    public static JsonBufferPool create(Strategy strategy, int size) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("strategy must not be null");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        return new JsonBufferPool(strategy, size);
+    }
+
+    /**
+     * Returns the strategy this pool was created with.
+     *
+     * @return the strategy
+     */
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns how many acquires were served by a recycled instance.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many acquires had to allocate a new recycler.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public BufferRecycler acquirePooled() {
+        BufferRecycler recycler = strategy == Strategy.THREAD_LOCAL ? acquireLocal() : idle.pollFirst();
+        if (recycler != null) {
+            hits.increment();
+            return recycler;
+        }
+        misses.increment();
+        recycler = new BufferRecycler();
+        if (perThread != null) {
+            perThread.set(new SoftReference<>(recycler));
+        }
+        return recycler;
+    }
+
+    private BufferRecycler acquireLocal() {
+        SoftReference<BufferRecycler> ref = perThread.get();
+        return ref != null ? ref.get() : null;
+    }
+
+    /** Thread-local recyclers stay with their thread, so they are never linked to (or returned to) the pool. */
+    @Override
+    public BufferRecycler acquireAndLinkPooled() {
+        return strategy == Strategy.THREAD_LOCAL ? acquirePooled() : RecyclerPool.super.acquireAndLinkPooled();
+    }
+
+    @Override
+    public void releasePooled(BufferRecycler recycler) {
+        if (idle != null) {
+            idle.offerFirst(recycler);
+        }
+    }
+
+    /**
+     * Returns how many idle recyclers the pool holds, or {@code -1} for
+     * {@link Strategy#THREAD_LOCAL}, which can't tell.
+     */
+    @Override
+    public int pooledCount() {
+        return idle != null ? idle.size() : -1;
+    }
+
+    /** Drops idle recyclers (the calling thread's own, for {@link Strategy#THREAD_LOCAL}). */
+    @Override
+    public boolean clear() {
+        if (idle != null) {
+            idle.clear();
+        } else {
+            perThread.remove();
+        }
+        return true;
+    }
+
+    /** Deserializes (e.g. with a serialized {@code ObjectMapper}) to a fresh, empty pool. */
+    private Object readResolve() {
+        return new JsonBufferPool(strategy, size);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonBufferPool[" + strategy + (strategy == Strategy.BOUNDED ? ", size=" + size : "")
+                + ", hits=" + hits() + ", misses=" + misses() + "]";
+    }
+}
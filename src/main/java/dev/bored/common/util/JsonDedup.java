@@ -0,0 +1,31 @@
+package dev.bored.common.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code String} property — or a collection, array or map of
+ * strings — whose values repeat across documents, such as company names,
+ * tags or country codes. A {@link StringDedupModule} in
+ * {@link StringDedupModule.Scope#ANNOTATED} scope reads those values through
+ * its canonicalization table, so equal values share one instance.
+ * <p>
+ * Put it on a record component, field, getter or setter. Map keys are
+ * field names, which Jackson already canonicalizes.
+ * </p>
+ *
+ * <pre>
+ * public record Profile(String bio, &#64;JsonDedup String company, &#64;JsonDedup List&lt;String&gt; skills) {}
+ * </pre>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface JsonDedup {
+}
@@ -0,0 +1,134 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming walk behind {@link JsonUtils#extract(byte[], JsonPointer...)}.
+ * <p>
+ * Follows the parser token by token, carrying only the pointers whose
+ * path still matches the current position. Subtrees no pointer leads into
+ * are skipped with {@link JsonParser#skipChildren()}, which tokenizes but
+ * builds nothing; a value a pointer ends at is read as a tree, and any
+ * longer pointers through it are resolved on that tree. The walk returns
+ * as soon as every pointer has a value, leaving the rest of the input
+ * unread.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+final class JsonPointerExtractor {
+
+    /** A requested pointer and the part of it still ahead of the current position. */
+    private record Match(JsonPointer target, JsonPointer rest) {}
+
+    private final ObjectReader reader;
+    private final int wanted;
+    private final Map<JsonPointer, JsonNode> found = new HashMap<>();
+
+    private JsonPointerExtractor(ObjectReader reader, int wanted) {
+        this.reader = reader;
+        this.wanted = wanted;
+    }
+
+    /**
+     * Resolves pointers against the document {@code parser} is about to read.
+     *
+     * @param reader   binds matched values to trees
+     * @param parser   a parser positioned before the document
+     * @param pointers the pointers (duplicates are resolved once)
+     * @return the values found, in the order the pointers were given
+     * @throws IOException if reading fails
+     */
+    static Map<JsonPointer, JsonNode> extract(ObjectReader reader, JsonParser parser, JsonPointer... pointers)
+            throws IOException {
+        Set<JsonPointer> distinct = new LinkedHashSet<>();
+        for (JsonPointer pointer : pointers) {
+            if (pointer == null) {
+                throw new IllegalArgumentException("pointers must not contain null");
+            }
+            distinct.add(pointer);
+        }
+        JsonPointerExtractor extractor = new JsonPointerExtractor(reader, distinct.size());
+        if (!distinct.isEmpty() && parser.nextToken() != null) {
+            List<Match> candidates = new ArrayList<>(distinct.size());
+            for (JsonPointer pointer : distinct) {
+                candidates.add(new Match(pointer, pointer));
+            }
+            extractor.value(parser, candidates);
+        }
+        Map<JsonPointer, JsonNode> result = new LinkedHashMap<>();
+        for (JsonPointer pointer : distinct) {
+            JsonNode node = extractor.found.get(pointer);
+            if (node != null) result.put(pointer, node);
+        }
+        return result;
+    }
+
+    /** Walks the value at the current token; returns {@code true} once every pointer is resolved. */
+    private boolean value(JsonParser parser, List<Match> candidates) throws IOException {
+        for (Match match : candidates) {
+            if (match.rest.matches()) {
+                return capture(parser, candidates);
+            }
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                List<Match> next = new ArrayList<>(1);
+                for (Match match : candidates) {
+                    if (!found.containsKey(match.target) && match.rest.matchesProperty(name)) {
+                        next.add(new Match(match.target, match.rest.tail()));
+                    }
+                }
+                parser.nextToken();
+                if (next.isEmpty()) {
+                    parser.skipChildren();
+                } else if (value(parser, next)) {
+                    return true;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+                List<Match> next = new ArrayList<>(1);
+                for (Match match : candidates) {
+                    if (!found.containsKey(match.target) && match.rest.matchesElement(index)) {
+                        next.add(new Match(match.target, match.rest.tail()));
+                    }
+                }
+                if (next.isEmpty()) {
+                    parser.skipChildren();
+                } else if (value(parser, next)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Reads the current value as a tree and resolves every candidate on it. */
+    private boolean capture(JsonParser parser, List<Match> candidates) throws IOException {
+        JsonNode node = reader.readTree(parser);
+        for (Match match : candidates) {
+            JsonNode hit = node.at(match.rest);
+            if (!hit.isMissingNode()) {
+                found.putIfAbsent(match.target, hit);
+            }
+        }
+        return found.size() == wanted;
+    }
+}
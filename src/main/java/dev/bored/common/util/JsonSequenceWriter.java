@@ -0,0 +1,177 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a sequence of values as one JSON array or as NDJSON (one value
+ * per line) straight to an {@link OutputStream}, one element at a time.
+ * <p>
+ * The counterpart of {@link JsonUtils#stream(java.io.InputStream, Class)}
+ * for exports: memory stays flat however many elements are written. Output
+ * is flushed every {@code batchSize} elements rather than after each one,
+ * and once more on {@link #close()}, which also ends the array. The
+ * underlying stream is never closed. Not thread-safe.
+ * </p>
+ *
+ * <pre>
+ * try (JsonSequenceWriter writer = JsonSequenceWriter.ndjson(out, 500)) {
+ *     repository.streamAll().forEach(writer::write);
+ * }
+ * </pre>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class JsonSequenceWriter implements Flushable, AutoCloseable {
+
+    /** Elements written between flushes when no batch size is given. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final OutputStream out;
+    private final SequenceWriter values;
+    private final boolean ndjson;
+    private final int batchSize;
+    private long count;
+    private boolean closed;
+
+    private JsonSequenceWriter(OutputStream out, boolean ndjson, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        ObjectWriter writer = JsonUtils.baseWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (ndjson) {
+            writer = writer.withRootValueSeparator("\n");
+        }
+        this.out = out;
+        this.ndjson = ndjson;
+        this.batchSize = batchSize;
+        try {
+            this.values = writer.writeValues(out).init(!ndjson);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON", e);
+        }
+    }
+
+    /**
+     * Opens a writer that wraps the elements in a single JSON array.
+     *
+     * @param out       the target stream
+     * @param batchSize elements written between flushes (must be ≥ 1)
+     * @return the writer
+     * @throws IllegalArgumentException if batchSize &lt; 1
+     * @throws UncheckedIOException if writing the opening bracket fails
+     */
+    public static JsonSequenceWriter array(OutputStream out, int batchSize) {
+        return new JsonSequenceWriter(out, false, batchSize);
+    }
+
+    /**
+     * {@link #array(OutputStream, int)} with {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @param out the target stream
+     * @return the writer
+     */
+    public static JsonSequenceWriter array(OutputStream out) {
+        return array(out, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Opens a writer that emits newline-delimited JSON, one element per line.
+     *
+     * @param out       the target stream
+     * @param batchSize elements written between flushes (must be ≥ 1)
+     * @return the writer
+     * @throws IllegalArgumentException if batchSize &lt; 1
+     */
+    public static JsonSequenceWriter ndjson(OutputStream out, int batchSize) {
+        return new JsonSequenceWriter(out, true, batchSize);
+    }
+
+    /**
+     * {@link #ndjson(OutputStream, int)} with {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @param out the target stream
+     * @return the writer
+     */
+    public static JsonSequenceWriter ndjson(OutputStream out) {
+        return ndjson(out, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Writes one element, flushing if it completes a batch.
+     *
+     * @param value the element (may be null)
+     * @return this writer, for chaining
+     * @throws IllegalArgumentException if serialization fails
+     * @throws IllegalStateException if the writer is closed
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public JsonSequenceWriter write(Object value) {
+        if (closed) {
+            throw new IllegalStateException("JsonSequenceWriter is closed");
+        }
+        try {
+            values.write(value);
+            if (++count % batchSize == 0) {
+                values.flush();
+            }
+            return this;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize to JSON", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON", e);
+        }
+    }
+
+    /**
+     * Returns how many elements have been written.
+     *
+     * @return the element count
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Flushes buffered output to the stream.
+     *
+     * @throws UncheckedIOException if flushing fails
+     */
+    @Override
+    public void flush() {
+        try {
+            values.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON", e);
+        }
+    }
+
+    /**
+     * Ends the array (or the last NDJSON line) and flushes. The underlying
+     * stream stays open. Calling this more than once has no effect.
+     *
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            values.close();
+            if (ndjson && count > 0) {
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON", e);
+        }
+    }
+}
@@ -1,31 +1,186 @@
 package dev.bored.common.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Lightweight JSON serialization/deserialization helper.
  * <p>
  * Uses a pre-configured {@link ObjectMapper} with Java-time support and
- * lenient unknown-property handling. For heavy use, prefer injecting
- * Spring's {@code ObjectMapper} bean instead.
+ * lenient unknown-property handling. In Spring services,
+ * {@link dev.bored.common.CommonLibAutoConfiguration} applies the same
+ * settings to Spring's {@code ObjectMapper} bean and installs it here with
+ * {@link #setMapper(ObjectMapper)} once the context is up, so both share
+ * one set of serializer caches. Outside Spring the built-in mapper is used.
  * </p>
  *
+ * <p>Byte and stream overloads read and write UTF-8 directly, skipping the
+ * {@code String} round trip for HTTP bodies, Kafka records and cache
+ * values. They never close the caller's streams. For documents too big to
+ * hold in memory, {@link #stream(InputStream, Class)} reads elements one at
+ * a time and {@link JsonSequenceWriter} writes them incrementally. When
+ * only a field or two is needed, {@link #extract(byte[], JsonPointer...)}
+ * pulls them out without binding the rest.</p>
+ *
+ * <p>Readers and writers are built once per target type and reused, so the
+ * root (de)serializer lookup happens on first use only. Generic targets go
+ * through {@link #fromJson(String, TypeReference)} or
+ * {@link #fromJson(String, JavaType)}; readers and writers with a view or
+ * extra features can be registered by name at startup with
+ * {@link #registerReader(String, ObjectReader)} and
+ * {@link #registerWriter(String, ObjectWriter)}.</p>
+ *
+ * <p>Opt-in generated accessors: with {@code -Dbored.json.blackbird=true}
+ * and {@code jackson-module-blackbird} on the classpath, the shared mapper
+ * binds DTOs through generated lambdas instead of reflection. If the
+ * module is missing or fails a startup probe, the mapper stays on
+ * reflection; {@link #blackbird()} reports which one is active. Types
+ * annotated with {@link BoredJson} skip both: {@link BoredJsonModule}
+ * binds them through codecs generated at compile time.</p>
+ *
+ * <p>Parser and generator buffers come from a {@link JsonBufferPool} shared
+ * across threads, so virtual threads reuse them too. Pick the strategy with
+ * {@code -Dbored.json.buffer-pool.strategy=concurrent-deque|bounded|thread-local}
+ * (default concurrent-deque) and the bounded capacity with
+ * {@code -Dbored.json.buffer-pool.size}; {@link #bufferPool()} exposes the
+ * hit and miss counters.</p>
+ *
+ * <p>String values of properties marked {@link JsonDedup} are read through
+ * a {@link StringDedupModule}, so cached payloads keep one instance per
+ * distinct company name, tag or country code. Extend that to every string
+ * with {@code -Dbored.json.dedup.scope=all} and size the table with
+ * {@code -Dbored.json.dedup.size}; {@link #stringDedup()} exposes the hit
+ * rate.</p>
+ *
  * @author Bored Software Developer
  * @since 2026-02-15
  */
 public final class JsonUtils {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    /** System property that opts the shared mapper into Blackbird. */
+    public static final String BLACKBIRD_PROPERTY = "bored.json.blackbird";
+
+    static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    /** System property naming the {@link JsonBufferPool.Strategy} of the shared mapper. */
+    public static final String BUFFER_POOL_PROPERTY = "bored.json.buffer-pool.strategy";
+
+    /** System property sizing a {@link JsonBufferPool.Strategy#BOUNDED} pool. */
+    public static final String BUFFER_POOL_SIZE_PROPERTY = "bored.json.buffer-pool.size";
+
+    /** System property naming the {@link StringDedupModule.Scope} of the shared mapper. */
+    public static final String DEDUP_SCOPE_PROPERTY = "bored.json.dedup.scope";
+
+    /** System property sizing the shared mapper's {@link StringDedupModule} table. */
+    public static final String DEDUP_SIZE_PROPERTY = "bored.json.dedup.size";
+
+    private static final StringDedupModule STRING_DEDUP = StringDedupModule.create(
+            StringDedupModule.Scope.parse(System.getProperty(DEDUP_SCOPE_PROPERTY), StringDedupModule.Scope.ANNOTATED),
+            Integer.getInteger(DEDUP_SIZE_PROPERTY, StringDedupModule.DEFAULT_SIZE));
+
+    private static final JsonBufferPool BUFFER_POOL = JsonBufferPool.create(
+            JsonBufferPool.Strategy.parse(System.getProperty(BUFFER_POOL_PROPERTY), JsonBufferPool.Strategy.CONCURRENT_DEQUE),
+            Integer.getInteger(BUFFER_POOL_SIZE_PROPERTY, JsonBufferPool.DEFAULT_SIZE));
+
+    /** The built-in mapper, used outside Spring and until {@link #setMapper(ObjectMapper)} is called. */
+    private static final Codec FALLBACK = new Codec(
+            newMapper(BUFFER_POOL, Boolean.getBoolean(BLACKBIRD_PROPERTY), BLACKBIRD_MODULE));
+
+    private static volatile Codec codec = FALLBACK;
+
+    private static final Map<String, ObjectReader> NAMED_READERS = new ConcurrentHashMap<>();
+    private static final Map<String, ObjectWriter> NAMED_WRITERS = new ConcurrentHashMap<>();
 
     private JsonUtils() { }
 
+    /**
+     * A mapper with the readers and writers cached for it; also used by
+     * {@link BinaryJsonUtils}. Readers and writers snapshot the mapper's
+     * configuration, so the codec remembers which configuration it was
+     * built from and {@link #codec()} rebuilds it once that is replaced.
+     */
+    static final class Codec {
+
+        final ObjectMapper mapper;
+
+        // What configure(), registerModule() and friends swap out on the mapper.
+        private final SerializationConfig serializationConfig;
+        private final DeserializationConfig deserializationConfig;
+        private final SerializerFactory serializerFactory;
+        private final DeserializationContext deserializationContext;
+
+        /**
+         * Base of every cached reader and writer. Stream variants leave
+         * closing to the caller, who owns the stream; for strings and byte
+         * arrays the flag has no effect.
+         */
+        final ObjectReader baseReader;
+        final ObjectWriter baseWriter;
+
+        final ClassValue<ObjectReader> readers = new ClassValue<>() {
+            @Override
+            protected ObjectReader computeValue(Class<?> type) {
+                return baseReader.forType(type);
+            }
+        };
+        final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+            @Override
+            protected ObjectWriter computeValue(Class<?> type) {
+                return baseWriter.forType(type);
+            }
+        };
+        final Map<JavaType, ObjectReader> genericReaders = new ConcurrentHashMap<>();
+
+        Codec(ObjectMapper mapper) {
+            this.mapper = mapper;
+            this.serializationConfig = mapper.getSerializationConfig();
+            this.deserializationConfig = mapper.getDeserializationConfig();
+            this.serializerFactory = mapper.getSerializerFactory();
+            this.deserializationContext = mapper.getDeserializationContext();
+            this.baseReader = mapper.reader().without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            this.baseWriter = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        /** Whether the mapper still has the configuration the cached readers and writers were built from. */
+        boolean isCurrent() {
+            return mapper.getSerializationConfig() == serializationConfig
+                    && mapper.getDeserializationConfig() == deserializationConfig
+                    && mapper.getSerializerFactory() == serializerFactory
+                    && mapper.getDeserializationContext() == deserializationContext;
+        }
+    }
+
     /**
      * Serializes an object to a JSON string.
      *
@@ -35,7 +190,7 @@ public final class JsonUtils {
      */
     public static String toJson(Object obj) {
         try {
-            return MAPPER.writeValueAsString(obj);
+            return writerFor(obj).writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("Failed to serialize to JSON", e);
         }
@@ -52,18 +207,533 @@ public final class JsonUtils {
      */
     public static <T> T fromJson(String json, Class<T> clazz) {
         try {
-            return MAPPER.readValue(json, clazz);
+            return reader(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("Failed to deserialize JSON", e);
         }
     }
 
     /**
-     * Returns the shared, pre-configured {@link ObjectMapper}.
+     * Deserializes a JSON string to a generic type such as
+     * {@code List<Dto>} or {@code Map<String, Dto>}.
+     *
+     * @param json the JSON string
+     * @param type the target type
+     * @param <T>  the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     */
+    public static <T> T fromJson(String json, TypeReference<T> type) {
+        return fromJson(json, mapper().getTypeFactory().constructType(type));
+    }
+
+    /**
+     * Deserializes a JSON string to a type built with the mapper's
+     * {@link com.fasterxml.jackson.databind.type.TypeFactory}.
+     *
+     * @param json the JSON string
+     * @param type the target type
+     * @param <T>  the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     */
+    public static <T> T fromJson(String json, JavaType type) {
+        return read(reader(type), json);
+    }
+
+    /**
+     * Deserializes a JSON string with a reader registered under
+     * {@code readerName}.
+     *
+     * @param json       the JSON string
+     * @param readerName the name given to {@link #registerReader(String, ObjectReader)}
+     * @param <T>        the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if no such reader exists or deserialization fails
+     */
+    public static <T> T fromJsonWith(String json, String readerName) {
+        return read(named(NAMED_READERS, readerName, "reader"), json);
+    }
+
+    /**
+     * Serializes an object with a writer registered under
+     * {@code writerName}.
+     *
+     * @param obj        the object to serialize
+     * @param writerName the name given to {@link #registerWriter(String, ObjectWriter)}
+     * @return the JSON string
+     * @throws IllegalArgumentException if no such writer exists or serialization fails
+     */
+    public static String toJsonWith(Object obj, String writerName) {
+        try {
+            return named(NAMED_WRITERS, writerName, "writer").writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize to JSON", e);
+        }
+    }
+
+    private static <T> T read(ObjectReader reader, String json) {
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize JSON", e);
+        }
+    }
+
+    private static ObjectWriter writerFor(Object obj) {
+        return obj == null ? codec().baseWriter : writer(obj.getClass());
+    }
+
+    /**
+     * Serializes an object to UTF-8 JSON bytes.
+     *
+     * @param obj the object to serialize
+     * @return the JSON bytes
+     * @throws IllegalArgumentException if serialization fails
+     */
+    public static byte[] toJsonBytes(Object obj) {
+        try {
+            return writerFor(obj).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize to JSON", e);
+        }
+    }
+
+    /**
+     * Serializes an object as UTF-8 JSON straight to a stream. The stream is
+     * flushed but not closed.
+     *
+     * @param obj the object to serialize
+     * @param out the target stream
+     * @throws IllegalArgumentException if serialization fails
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public static void writeJson(Object obj, OutputStream out) {
+        try {
+            writerFor(obj).writeValue(out, obj);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize to JSON", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON", e);
+        }
+    }
+
+    /**
+     * Deserializes a slice of UTF-8 JSON bytes to the specified type.
+     *
+     * @param json   the buffer holding the JSON
+     * @param offset the index of the first JSON byte
+     * @param length the number of JSON bytes
+     * @param clazz  the target class
+     * @param <T>    the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     */
+    public static <T> T fromJson(byte[] json, int offset, int length, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(json, offset, length);
+        } catch (IOException e) {
+            // Nothing to do I/O on in a byte[] — every failure here is bad JSON.
+            throw new IllegalArgumentException("Failed to deserialize JSON", e);
+        }
+    }
+
+    /**
+     * Deserializes the remaining bytes of a buffer (UTF-8 JSON) to the
+     * specified type. The buffer's position is left untouched.
+     *
+     * @param json  the buffer holding the JSON between position and limit
+     * @param clazz the target class
+     * @param <T>   the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     */
+    public static <T> T fromJson(ByteBuffer json, Class<T> clazz) {
+        if (json.hasArray()) {
+            return fromJson(json.array(), json.arrayOffset() + json.position(), json.remaining(), clazz);
+        }
+        try {
+            return reader(clazz).readValue(new ByteBufferBackedInputStream(json.duplicate()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to deserialize JSON", e);
+        }
+    }
+
+    /**
+     * Deserializes UTF-8 JSON read from a stream to the specified type. The
+     * stream is not closed.
+     *
+     * @param json  the stream holding the JSON
+     * @param clazz the target class
+     * @param <T>   the target type
+     * @return the deserialized object
+     * @throws IllegalArgumentException if deserialization fails
+     * @throws UncheckedIOException if reading from the stream fails
+     */
+    public static <T> T fromJson(InputStream json, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize JSON", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON", e);
+        }
+    }
+
+    // ── mapper setup ──────────────────────────────────────────
+
+    /**
+     * Builds the shared configuration on {@code pool}, adding Blackbird when
+     * requested and {@code moduleClass} is loadable and passes the probe.
+     */
+    static ObjectMapper newMapper(JsonBufferPool pool, boolean blackbird, String moduleClass) {
+        ObjectMapper mapper = new ObjectMapper(JsonFactory.builder().recyclerPool(pool).build())
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BoredJsonModule())
+                .registerModule(STRING_DEDUP)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (blackbird && isLoadable(moduleClass)) {
+            try {
+                BlackbirdSupport.register(mapper);
+            } catch (LinkageError | RuntimeException e) {
+                // Unusable in this runtime — stay on reflection.
+            }
+        }
+        return mapper;
+    }
+
+    private static boolean isLoadable(String className) {
+        try {
+            Class.forName(className, false, JsonUtils.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the shared mapper uses Blackbird's generated
+     * accessors.
+     *
+     * @return {@code true} if Blackbird is registered
+     */
+    public static boolean blackbird() {
+        return usesBlackbird(mapper());
+    }
+
+    /**
+     * Returns the buffer pool of the current mapper, for its hit and miss
+     * counters — the built-in one if the mapper recycles buffers some other
+     * way.
+     *
+     * @return the pool
+     */
+    public static JsonBufferPool bufferPool() {
+        return mapper().getFactory()._getRecyclerPool() instanceof JsonBufferPool pool ? pool : BUFFER_POOL;
+    }
+
+    /**
+     * Returns the string dedup module of the current mapper, for its hit
+     * rate — the built-in one if the mapper has none.
+     *
+     * @return the module
+     */
+    public static StringDedupModule stringDedup() {
+        for (Object id : mapper().getRegisteredModuleIds()) {
+            if (id instanceof StringDedupModule module) return module;
+        }
+        return STRING_DEDUP;
+    }
+
+    static boolean usesBlackbird(ObjectMapper mapper) {
+        return mapper.getRegisteredModuleIds().contains(BLACKBIRD_MODULE);
+    }
+
+    // ── streaming ─────────────────────────────────────────────
+
+    /**
+     * Lazily reads the elements of a top-level JSON array, or a sequence of
+     * whitespace-separated values such as NDJSON, from a stream.
+     * <p>
+     * Elements are bound one at a time as the returned stream is consumed,
+     * so memory stays flat however large the document is. A top-level array
+     * is always treated as the container, even if {@code type} is itself a
+     * collection. Close the returned stream (try-with-resources) to release
+     * the parser early; {@code json} itself is never closed.
+     * </p>
+     *
+     * @param json the stream holding the JSON
+     * @param type the element class
+     * @param <T>  the element type
+     * @return a sequential, ordered stream of elements
+     * @throws IllegalArgumentException if the JSON is malformed or an element can't be bound —
+     *                                  thrown while consuming the stream for later elements
+     * @throws UncheckedIOException if reading from {@code json} fails
+     */
+    public static <T> Stream<T> stream(InputStream json, Class<T> type) {
+        MappingIterator<T> values;
+        try {
+            values = reader(type).readValues(json);
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+        Iterator<T> elements = new ElementIterator<>(values);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                .onClose(() -> closeQuietly(values));
+    }
+
+    /**
+     * {@link MappingIterator} with the {@code JsonUtils} error contract —
+     * its own {@code hasNext} wraps every failure in a bare runtime exception.
+     */
+    private static final class ElementIterator<T> implements Iterator<T> {
+
+        private final MappingIterator<T> values;
+
+        ElementIterator(MappingIterator<T> values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return values.hasNextValue();
+            } catch (IOException e) {
+                throw readFailure(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            try {
+                return values.nextValue();
+            } catch (IOException e) {
+                throw readFailure(e);
+            }
+        }
+    }
+
+    /** Releases the parser and its buffers early; {@code json} itself stays open. */
+    private static void closeQuietly(MappingIterator<?> values) {
+        try {
+            values.close();
+        } catch (IOException e) {
+            // Unreachable in practice — closing only releases buffers, the source stays open.
+        }
+    }
+
+    /** Bad JSON is the caller's input error; anything else is the source failing. */
+    private static RuntimeException readFailure(IOException e) {
+        return e instanceof JsonProcessingException
+                ? new IllegalArgumentException("Failed to deserialize JSON", e)
+                : new UncheckedIOException("Failed to read JSON", e);
+    }
+
+    // ── extraction ────────────────────────────────────────────
+
+    /**
+     * Picks individual values out of a document without binding all of it.
+     * <p>
+     * The document is walked with a streaming parser: subtrees no pointer
+     * leads into are skipped without being built, and parsing stops as soon
+     * as every pointer has a value — so an id near the top of a 10 MB body
+     * costs about as much as the bytes before it. Scalars come back as typed
+     * value nodes ({@code IntNode}, {@code TextNode}, …), objects and arrays
+     * as small trees. Pointers that match nothing are absent from the
+     * result. Because reading may stop early, malformed JSON after the last
+     * match goes unnoticed.
+     * </p>
+     *
+     * @param json     the UTF-8 JSON bytes
+     * @param pointers the values to extract, e.g. {@code JsonPointer.compile("/meta/version")}
+     * @return the values found, keyed by pointer in the order given
+     * @throws IllegalArgumentException if the JSON read is malformed or a pointer is null
+     */
+    public static Map<JsonPointer, JsonNode> extract(byte[] json, JsonPointer... pointers) {
+        ObjectReader reader = codec().baseReader;
+        try (JsonParser parser = reader.createParser(json)) {
+            return JsonPointerExtractor.extract(reader, parser, pointers);
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    /**
+     * {@link #extract(byte[], JsonPointer...)} for a JSON string.
+     *
+     * @param json     the JSON string
+     * @param pointers the values to extract
+     * @return the values found, keyed by pointer in the order given
+     * @throws IllegalArgumentException if the JSON read is malformed or a pointer is null
+     */
+    public static Map<JsonPointer, JsonNode> extract(String json, JsonPointer... pointers) {
+        ObjectReader reader = codec().baseReader;
+        try (JsonParser parser = reader.createParser(json)) {
+            return JsonPointerExtractor.extract(reader, parser, pointers);
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    /**
+     * {@link #extract(byte[], JsonPointer...)} for a stream, which is left
+     * open. Once every pointer is resolved, reading stops soon after the
+     * last match; the stream's position afterwards is unspecified.
+     *
+     * @param json     the stream holding the JSON
+     * @param pointers the values to extract
+     * @return the values found, keyed by pointer in the order given
+     * @throws IllegalArgumentException if the JSON read is malformed or a pointer is null
+     * @throws UncheckedIOException if reading from {@code json} fails
+     */
+    public static Map<JsonPointer, JsonNode> extract(InputStream json, JsonPointer... pointers) {
+        ObjectReader reader = codec().baseReader;
+        try (JsonParser parser = reader.createParser(json)) {
+            return JsonPointerExtractor.extract(reader, parser, pointers);
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    // ── readers & writers ─────────────────────────────────────
+
+    /**
+     * Returns the cached reader for {@code type}, built from the shared
+     * mapper on first use.
+     *
+     * @param type the target class
+     * @return the reader
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return codec().readers.get(type);
+    }
+
+    /**
+     * Returns the cached reader for a generic {@code type}, built from the
+     * shared mapper on first use.
+     *
+     * @param type the target type
+     * @return the reader
+     */
+    public static ObjectReader reader(JavaType type) {
+        Codec current = codec();
+        return current.genericReaders.computeIfAbsent(type, current.baseReader::forType);
+    }
+
+    /**
+     * Returns the cached writer for values of {@code type}, built from the
+     * shared mapper on first use.
+     *
+     * @param type the runtime class of the values
+     * @return the writer
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return codec().writers.get(type);
+    }
+
+    /**
+     * Registers a reader under a name, typically once at startup, for use
+     * with {@link #fromJsonWith(String, String)}. Derive it from
+     * {@link #reader(Class)} to keep the shared configuration, e.g.
+     * {@code reader(Order.class).withView(Views.Public.class)}.
+     *
+     * @param name   the unique name
+     * @param reader the reader, with its target type set
+     * @throws IllegalArgumentException if the name is blank or already taken
+     */
+    public static void registerReader(String name, ObjectReader reader) {
+        register(NAMED_READERS, name, reader, "reader");
+    }
+
+    /**
+     * Registers a writer under a name, typically once at startup, for use
+     * with {@link #toJsonWith(Object, String)}.
+     *
+     * @param name   the unique name
+     * @param writer the writer
+     * @throws IllegalArgumentException if the name is blank or already taken
+     */
+    public static void registerWriter(String name, ObjectWriter writer) {
+        register(NAMED_WRITERS, name, writer, "writer");
+    }
+
+    /** The shared writer with no root type, for {@link JsonSequenceWriter}. */
+    static ObjectWriter baseWriter() {
+        return codec().baseWriter;
+    }
+
+    private static <V> void register(Map<String, V> registry, String name, V value, String kind) {
+        if (StringUtils.isBlank(name)) {
+            throw new IllegalArgumentException("JSON " + kind + " name must not be blank");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("JSON " + kind + " must not be null");
+        }
+        if (registry.putIfAbsent(name, value) != null) {
+            throw new IllegalArgumentException("JSON " + kind + " '" + name + "' is already registered");
+        }
+    }
+
+    private static <V> V named(Map<String, V> registry, String name, String kind) {
+        V value = name != null ? registry.get(name) : null;
+        if (value == null) {
+            throw new IllegalArgumentException("No JSON " + kind + " registered as '" + name + "'");
+        }
+        return value;
+    }
+
+    /**
+     * Returns the shared, pre-configured {@link ObjectMapper} — Spring's bean
+     * once installed, otherwise the built-in one.
+     * <p>
+     * Changes made to it with {@code configure}, {@code registerModule} and
+     * the like take effect here as they do on the mapper itself: the next
+     * call notices the new configuration and rebuilds the cached readers and
+     * writers, which costs a warm-up per type. Serializers Jackson already
+     * built for a type stay, as always, so configure the mapper fully before
+     * first use, or install a configured one with {@link #setMapper(ObjectMapper)}.
+     * </p>
      *
      * @return the object mapper instance
      */
     public static ObjectMapper mapper() {
-        return MAPPER;
+        return codec.mapper;
+    }
+
+    /** The built-in mapper, whatever is installed. */
+    static ObjectMapper builtInMapper() {
+        return FALLBACK.mapper;
+    }
+
+    /** The codec for the installed mapper, rebuilt if the mapper was reconfigured since it was cached. */
+    static Codec codec() {
+        Codec current = codec;
+        return current.isCurrent() ? current : refresh(current);
+    }
+
+    private static synchronized Codec refresh(Codec stale) {
+        if (codec == stale) {
+            codec = new Codec(stale.mapper);
+        }
+        return codec;
+    }
+
+    /**
+     * Replaces the mapper behind every {@code JsonUtils} method. Readers and
+     * writers are cached afresh for the new mapper; ones already registered
+     * by name keep the mapper they were derived from.
+     *
+     * @param mapper the new mapper, or {@code null} to fall back to the built-in one
+     * @return the previous mapper
+     */
+    public static synchronized ObjectMapper setMapper(ObjectMapper mapper) {
+        ObjectMapper previous = codec.mapper;
+        if (mapper == null || mapper == FALLBACK.mapper) {
+            codec = FALLBACK;
+        } else if (mapper != previous) {
+            codec = new Codec(mapper);
+        }
+        return previous;
     }
 }
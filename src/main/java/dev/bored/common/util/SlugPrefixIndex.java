@@ -0,0 +1,461 @@
+package dev.bored.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, read-optimized prefix index over {@link StringUtils#slugify(String)}
+ * keys, for autocomplete without a {@code LIKE 'prefix%'} query per keystroke.
+ * <p>
+ * Slugs are sorted and front-coded in blocks of {@value #BLOCK}: each block
+ * starts with a full key and every other key stores only the length it
+ * shares with its predecessor plus the remaining bytes. Payload ids and
+ * weights live in parallel primitive arrays. A lookup binary-searches the
+ * block heads and decodes forward, so cost is {@code O(log n + matches)}.
+ * </p>
+ * <p>
+ * The matches of a prefix are one contiguous range, found by two such
+ * searches — for the prefix and for its successor. {@link #top} then
+ * selects from {@code weights} over that range without decoding keys,
+ * skipping any run of {@value #BLOCK} or {@value #SUPER_BLOCK} entries
+ * whose precomputed maximum can't beat the weakest of the k kept so far,
+ * and decodes only the k winners.
+ * </p>
+ *
+ * <p>Instances never change — rebuild with {@link #builder()} and swap the
+ * reference (e.g. a {@code volatile} field), so readers never block:</p>
+ * <pre>
+ * SlugPrefixIndex.Builder builder = SlugPrefixIndex.builder();
+ * experiences.forEach(e -&gt; builder.add(e.title(), e.id(), e.views()));
+ * this.index = builder.build();
+ * List&lt;SlugPrefixIndex.Match&gt; hits = index.top("deloitte con", 10);
+ * </pre>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class SlugPrefixIndex {
+
+    /** Keys per front-coded block — one full key, then {@code BLOCK - 1} deltas. */
+    static final int BLOCK = 16;
+
+    /** Entries per super-block — the coarser level of weight maxima. */
+    static final int SUPER_BLOCK = 256;
+
+    private static final SlugPrefixIndex EMPTY = new SlugPrefixIndex(new byte[0], new int[0], new long[0], new int[0]);
+
+    private final byte[] data;
+    private final int[] blockOffsets;
+    private final long[] ids;
+    private final int[] weights;
+    /** Heaviest weight of each block and each super-block. */
+    private final int[] blockMax;
+    private final int[] superMax;
+
+    private SlugPrefixIndex(byte[] data, int[] blockOffsets, long[] ids, int[] weights) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.ids = ids;
+        this.weights = weights;
+        this.blockMax = maxima(weights, BLOCK);
+        this.superMax = maxima(weights, SUPER_BLOCK);
+    }
+
+    private static int[] maxima(int[] weights, int run) {
+        int[] max = new int[(weights.length + run - 1) / run];
+        Arrays.fill(max, Integer.MIN_VALUE);
+        for (int i = 0; i < weights.length; i++) {
+            max[i / run] = Math.max(max[i / run], weights[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Starts a new index.
+     *
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of indexed entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns up to {@code limit} entries whose slug starts with the slug of
+     * {@code prefix}, in slug order.
+     *
+     * @param prefix the typed text — slugified before matching; null matches everything
+     * @param limit  the maximum number of results
+     * @return the matches, never null
+     */
+    public List<Match> find(String prefix, int limit) {
+        List<Match> matches = new ArrayList<>(Math.min(Math.max(limit, 0), 16));
+        if (limit <= 0 || ids.length == 0) return matches;
+        Cursor cursor = seek(prefixBytes(prefix));
+        while (cursor.matches() && matches.size() < limit) {
+            matches.add(cursor.match());
+            cursor.next();
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the {@code k} highest-weight entries whose slug starts with the
+     * slug of {@code prefix}, heaviest first; ties keep slug order.
+     *
+     * @param prefix the typed text — slugified before matching; null matches everything
+     * @param k      the maximum number of results
+     * @return the matches, never null
+     */
+    public List<Match> top(String prefix, int k) {
+        if (k <= 0 || ids.length == 0) return new ArrayList<>(0);
+        byte[] bytes = prefixBytes(prefix);
+        int from = seek(bytes).entry;
+        int to = bytes.length == 0 ? ids.length : seek(successor(bytes)).entry;
+        if (to <= from) return new ArrayList<>(0);
+        // Min-heap of entry indices keyed by (weight, -index): the root is the weakest kept entry.
+        // Entries arrive in index order, so a later entry only wins on a strictly greater weight.
+        int[] heap = new int[Math.min(k, to - from)];
+        int count = 0;
+        int entry = from;
+        while (entry < to) {
+            if (count == heap.length) {
+                int floor = weights[heap[0]];
+                if (entry % SUPER_BLOCK == 0 && entry + SUPER_BLOCK <= to && superMax[entry / SUPER_BLOCK] <= floor) {
+                    entry += SUPER_BLOCK;
+                    continue;
+                }
+                if (entry % BLOCK == 0 && entry + BLOCK <= to && blockMax[entry / BLOCK] <= floor) {
+                    entry += BLOCK;
+                    continue;
+                }
+                if (weights[entry] > floor) {
+                    heap[0] = entry;
+                    siftDown(heap, count);
+                }
+            } else {
+                heap[count] = entry;
+                siftUp(heap, count++);
+            }
+            entry++;
+        }
+        Match[] ranked = new Match[count];
+        for (int i = count - 1; i >= 0; i--) {
+            ranked[i] = decode(heap[0]);
+            heap[0] = heap[i];
+            siftDown(heap, i);
+        }
+        return new ArrayList<>(Arrays.asList(ranked));
+    }
+
+    /**
+     * Returns the approximate heap used by this index's arrays, in bytes.
+     *
+     * @return the footprint
+     */
+    public long footprintBytes() {
+        final int arrayHeader = 16;
+        return 6L * arrayHeader + 40
+                + data.length
+                + 4L * blockOffsets.length
+                + 8L * ids.length
+                + 4L * weights.length
+                + 4L * blockMax.length
+                + 4L * superMax.length;
+    }
+
+    /**
+     * Returns {@link #footprintBytes()} scaled to one million entries, for
+     * capacity planning.
+     *
+     * @return bytes per million entries, or {@code 0} for an empty index
+     */
+    public long footprintPerMillionEntries() {
+        return ids.length == 0 ? 0 : Math.round(footprintBytes() * (1_000_000.0 / ids.length));
+    }
+
+    // ── Search ────────────────────────────────────────────────
+
+    private static byte[] prefixBytes(String prefix) {
+        if (prefix == null) return new byte[0];
+        return StringUtils.slugify(prefix).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /** The smallest key above every key starting with {@code prefix}; slugs are ASCII, so no byte overflows. */
+    private static byte[] successor(byte[] prefix) {
+        byte[] next = prefix.clone();
+        next[next.length - 1]++;
+        return next;
+    }
+
+    /** Positions a cursor on the first key {@code >= prefix}. */
+    private Cursor seek(byte[] prefix) {
+        // Last block whose head sorts before the prefix — the first match is in it or after it.
+        int lo = 0;
+        int hi = blockOffsets.length - 1;
+        int block = 0;
+        Cursor cursor = new Cursor(prefix);
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            cursor.load(mid * BLOCK, blockOffsets[mid]);
+            if (cursor.compareToPrefix() < 0) {
+                block = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        cursor.load(block * BLOCK, blockOffsets[block]);
+        while (cursor.valid() && cursor.compareToPrefix() < 0) {
+            cursor.next();
+        }
+        return cursor;
+    }
+
+    private Match decode(int entry) {
+        Cursor cursor = new Cursor(new byte[0]);
+        int block = entry / BLOCK;
+        cursor.load(block * BLOCK, blockOffsets[block]);
+        while (cursor.entry < entry) cursor.next();
+        return cursor.match();
+    }
+
+    /** Whether entry {@code a} ranks below entry {@code b}. */
+    private boolean weaker(int a, int b) {
+        return weights[a] != weights[b] ? weights[a] < weights[b] : a > b;
+    }
+
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!weaker(heap[i], heap[parent])) return;
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int weakest = left + 1 < size && weaker(heap[left + 1], heap[left]) ? left + 1 : left;
+            if (!weaker(heap[weakest], heap[i])) return;
+            swap(heap, i, weakest);
+            i = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    /** Forward decoder over the front-coded keys. */
+    private final class Cursor {
+
+        private final byte[] prefix;
+        private byte[] key = new byte[64];
+        private int keyLength;
+        private int entry;
+        private int nextOffset;
+
+        Cursor(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        void load(int entry, int offset) {
+            this.entry = entry;
+            this.nextOffset = offset;
+            this.keyLength = 0;
+            readKey();
+        }
+
+        boolean valid() {
+            return entry < ids.length;
+        }
+
+        void next() {
+            entry++;
+            if (valid()) readKey();
+        }
+
+        boolean matches() {
+            if (!valid() || keyLength < prefix.length) return false;
+            for (int i = 0; i < prefix.length; i++) {
+                if (key[i] != prefix[i]) return false;
+            }
+            return true;
+        }
+
+        int compareToPrefix() {
+            return Arrays.compareUnsigned(key, 0, keyLength, prefix, 0, prefix.length);
+        }
+
+        Match match() {
+            return new Match(new String(key, 0, keyLength, StandardCharsets.US_ASCII), ids[entry], weights[entry]);
+        }
+
+        private void readKey() {
+            int shared = entry % BLOCK == 0 ? 0 : readVarInt();
+            int suffix = readVarInt();
+            if (shared + suffix > key.length) {
+                key = Arrays.copyOf(key, Math.max(key.length * 2, shared + suffix));
+            }
+            System.arraycopy(data, nextOffset, key, shared, suffix);
+            nextOffset += suffix;
+            keyLength = shared + suffix;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[nextOffset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    /**
+     * One autocomplete hit.
+     *
+     * @param slug   the indexed slug
+     * @param id     the payload id
+     * @param weight the ranking weight given at build time
+     */
+    public record Match(String slug, long id, int weight) { }
+
+    /** Collects entries and builds an immutable {@link SlugPrefixIndex}. Not thread-safe. */
+    public static final class Builder {
+
+        private final List<Pending> pending = new ArrayList<>();
+
+        private Builder() { }
+
+        /**
+         * Adds an entry with weight {@code 0}.
+         *
+         * @param name the human-readable name — slugified to form the key
+         * @param id   the payload id
+         * @return this builder
+         * @throws IllegalArgumentException if the name has no slug characters
+         */
+        public Builder add(String name, long id) {
+            return add(name, id, 0);
+        }
+
+        /**
+         * Adds an entry.
+         *
+         * @param name   the human-readable name — slugified to form the key
+         * @param id     the payload id
+         * @param weight the ranking weight for {@link SlugPrefixIndex#top(String, int)}
+         * @return this builder
+         * @throws IllegalArgumentException if the name has no slug characters
+         */
+        public Builder add(String name, long id, int weight) {
+            String slug = StringUtils.slugify(name);
+            if (slug == null || slug.isEmpty()) {
+                throw new IllegalArgumentException("Cannot derive a slug from: " + name);
+            }
+            pending.add(new Pending(slug.getBytes(StandardCharsets.US_ASCII), id, weight));
+            return this;
+        }
+
+        /**
+         * Sorts and front-codes the collected entries.
+         *
+         * @return the index
+         */
+        public SlugPrefixIndex build() {
+            int size = pending.size();
+            if (size == 0) return EMPTY;
+            Pending[] sorted = pending.toArray(new Pending[0]);
+            Arrays.sort(sorted, (a, b) -> {
+                int cmp = Arrays.compareUnsigned(a.key, b.key);
+                return cmp != 0 ? cmp : Long.compare(a.id, b.id);
+            });
+
+            long[] ids = new long[size];
+            int[] weights = new int[size];
+            int[] blockOffsets = new int[(size + BLOCK - 1) / BLOCK];
+            VarIntBuffer out = new VarIntBuffer(size * 8);
+            byte[] previous = null;
+            for (int i = 0; i < size; i++) {
+                Pending p = sorted[i];
+                ids[i] = p.id;
+                weights[i] = p.weight;
+                if (i % BLOCK == 0) {
+                    blockOffsets[i / BLOCK] = out.length;
+                    out.writeVarInt(p.key.length);
+                    out.write(p.key, 0, p.key.length);
+                } else {
+                    int shared = Arrays.mismatch(previous, p.key);
+                    if (shared < 0) shared = p.key.length;   // duplicate slug
+                    out.writeVarInt(shared);
+                    out.writeVarInt(p.key.length - shared);
+                    out.write(p.key, shared, p.key.length - shared);
+                }
+                previous = p.key;
+            }
+            return new SlugPrefixIndex(out.toArray(), blockOffsets, ids, weights);
+        }
+
+        private record Pending(byte[] key, long id, int weight) { }
+    }
+
+    /** Growable byte buffer with LEB128 var-ints. */
+    private static final class VarIntBuffer {
+
+        private byte[] bytes;
+        private int length;
+
+        VarIntBuffer(int capacity) {
+            bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        void write(byte[] src, int off, int len) {
+            ensure(len);
+            System.arraycopy(src, off, bytes, length, len);
+            length += len;
+        }
+
+        private void writeByte(int b) {
+            ensure(1);
+            bytes[length++] = (byte) b;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+}
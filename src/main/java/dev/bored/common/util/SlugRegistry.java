@@ -0,0 +1,148 @@
+package dev.bored.common.util;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory registry that hands out unique slugs built on
+ * {@link StringUtils#slugify(String)}.
+ * <p>
+ * The first claim for a name gets the bare slug ({@code acme}); later
+ * claims get {@code acme-2}, {@code acme-3}, … from a per-base atomic
+ * counter. Released suffixed slugs are queued and handed out again before
+ * the counter moves on. Everything sits in concurrent maps and queues, so
+ * concurrent creates never block each other or hit the database to find a
+ * free suffix.
+ * </p>
+ *
+ * <pre>
+ * SlugRegistry slugs = new SlugRegistry();
+ * slugs.seed(experienceRepository.findAllSlugs());   // at startup
+ * String slug = slugs.claim(request.title());         // per create
+ * </pre>
+ *
+ * <p>Seeded slugs ending in {@code -<digits>} are treated as suffixed, so
+ * the counter for their base starts past them.</p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class SlugRegistry {
+
+    /** Claimed slug → the base slug it was derived from. */
+    private final ConcurrentHashMap<String, String> claimed = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * Claims a unique slug for the given name.
+     *
+     * @param name the human-readable name
+     * @return a slug nobody else holds
+     * @throws IllegalArgumentException if the name has no slug characters
+     */
+    public String claim(String name) {
+        String base = StringUtils.slugify(name);
+        if (base == null || base.isEmpty()) {
+            throw new IllegalArgumentException("Cannot derive a slug from: " + name);
+        }
+        if (claimed.putIfAbsent(base, base) == null) return base;
+
+        Family family = family(base);
+        String freed;
+        while ((freed = family.freed.poll()) != null) {
+            if (claimed.putIfAbsent(freed, base) == null) return freed;
+        }
+        while (true) {
+            String candidate = base + '-' + family.next.incrementAndGet();
+            if (claimed.putIfAbsent(candidate, base) == null) return candidate;
+        }
+    }
+
+    /**
+     * Releases a slug so it can be handed out again.
+     *
+     * @param slug the slug to release
+     * @return {@code true} if the slug was held
+     */
+    public boolean release(String slug) {
+        if (slug == null) return false;
+        String base = claimed.remove(slug);
+        if (base == null) return false;
+        if (!base.equals(slug)) {
+            family(base).freed.offer(slug);
+        }
+        return true;
+    }
+
+    /**
+     * Marks existing slugs as taken — typically everything already in the
+     * database, loaded once at startup.
+     *
+     * @param slugs the slugs already in use
+     */
+    public void seed(Collection<String> slugs) {
+        for (String slug : slugs) {
+            if (slug == null || slug.isEmpty()) continue;
+            int dash = suffixStart(slug);
+            if (dash < 0) {
+                claimed.putIfAbsent(slug, slug);
+                continue;
+            }
+            String base = slug.substring(0, dash);
+            claimed.putIfAbsent(slug, base);
+            int suffix = parseSuffix(slug, dash + 1);
+            family(base).next.accumulateAndGet(suffix, Math::max);
+        }
+    }
+
+    /**
+     * Returns whether a slug is currently held.
+     *
+     * @param slug the slug to check
+     * @return {@code true} if claimed or seeded and not released
+     */
+    public boolean isTaken(String slug) {
+        return slug != null && claimed.containsKey(slug);
+    }
+
+    /**
+     * Returns the number of slugs currently held.
+     *
+     * @return the count
+     */
+    public int size() {
+        return claimed.size();
+    }
+
+    private Family family(String base) {
+        Family family = families.get(base);
+        return family != null ? family : families.computeIfAbsent(base, k -> new Family());
+    }
+
+    /** Index of the dash before a numeric suffix, or -1 if there isn't one. */
+    private static int suffixStart(String slug) {
+        int i = slug.length() - 1;
+        while (i >= 0 && slug.charAt(i) >= '0' && slug.charAt(i) <= '9') i--;
+        boolean hasDigits = i < slug.length() - 1;
+        // Suffixes that overflow an int are not ours — treat the slug as a base.
+        return hasDigits && i > 0 && slug.charAt(i) == '-' && slug.length() - 1 - i <= 9 ? i : -1;
+    }
+
+    private static int parseSuffix(String slug, int from) {
+        int value = 0;
+        for (int i = from; i < slug.length(); i++) {
+            value = value * 10 + (slug.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /** Suffix state shared by every slug derived from one base. */
+    private static final class Family {
+        /** Last suffix handed out; starts at 1 so the first suffix is {@code -2}. */
+        final AtomicInteger next = new AtomicInteger(1);
+        final Queue<String> freed = new ConcurrentLinkedQueue<>();
+    }
+}
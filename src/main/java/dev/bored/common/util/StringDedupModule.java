@@ -0,0 +1,300 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jackson module that deduplicates string values while they are read, so
+ * payloads cached after deserialization keep one {@code String} per
+ * distinct value instead of one per occurrence.
+ * <p>
+ * Values go through a bounded canonicalization table: a hit returns the
+ * instance already in the table without allocating, a miss creates the
+ * string and keeps it. The table is two-way set-associative with one LRU
+ * bit per set — a new value evicts the less recently used string of its
+ * set — so memory stays fixed at {@code size} entries however many
+ * distinct values flow through. Lock-free and thread-safe; racing misses
+ * may keep either of two equal instances. Strings longer than
+ * {@value #MAX_LENGTH} characters (bios, descriptions) rarely repeat and
+ * bypass the table.
+ * </p>
+ * <p>
+ * In {@link Scope#ANNOTATED} scope only properties marked {@link JsonDedup}
+ * are deduplicated; in {@link Scope#ALL} every string value is. Types bound
+ * by a {@link BoredJson} codec read their strings directly and are never
+ * deduplicated. {@link #hits()}, {@link #misses()} and {@link #hitRate()}
+ * tell whether the table is sized for the traffic.
+ * </p>
+ *
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper()
+ *         .registerModule(StringDedupModule.create(StringDedupModule.Scope.ALL, 16_384));
+ * </pre>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class StringDedupModule extends Module {
+
+    /** Table size when none is configured. */
+    public static final int DEFAULT_SIZE = 16_384;
+
+    /** Longest string that goes through the table. */
+    public static final int MAX_LENGTH = 64;
+
+    /** Which string values are deduplicated. */
+    public enum Scope {
+        /** Only properties marked {@link JsonDedup}. */
+        ANNOTATED,
+        /** Every string value. */
+        ALL;
+
+        /**
+         * Parses a property value such as {@code annotated} or {@code ALL}.
+         *
+         * @param value        the value (blank means {@code defaultScope})
+         * @param defaultScope the scope for a blank value
+         * @return the scope
+         * @throws IllegalArgumentException if the value names no scope
+         */
+        public static Scope parse(String value, Scope defaultScope) {
+            if (StringUtils.isBlank(value)) return defaultScope;
+            String name = value.trim().toUpperCase(Locale.ROOT);
+            for (Scope scope : values()) {
+                if (scope.name().equals(name)) return scope;
+            }
+            throw new IllegalArgumentException("Unknown string dedup scope: " + value);
+        }
+    }
+
+    private final Scope scope;
+    /** Sets of two slots; the more recently used string of a set sits in its even slot. */
+    private final String[] table;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private StringDedupModule(Scope scope, int size) {
+        this.scope = scope;
+        this.table = new String[Math.max(2, Integer.highestOneBit(size - 1) << 1)];
+        this.mask = table.length - 2;
+    }
+
+    /**
+     * Creates a module.
+     *
+     * @param scope which values are deduplicated
+     * @param size  the number of strings the table holds, rounded up to a
+     *              power of two
+     * @return the module
+     * @throws IllegalArgumentException if scope is null or size is not
+     *                                  between 1 and 2^30
+     */
+    public static StringDedupModule create(Scope scope, int size) {
+        if (scope == null) {
+            throw new IllegalArgumentException("scope must not be null");
+        }
+        if (size <= 0 || size > 1 << 30) {
+            throw new IllegalArgumentException("size must be between 1 and 2^30");
+        }
+        return new StringDedupModule(scope, size);
+    }
+
+    /**
+     * Returns which values this module deduplicates.
+     *
+     * @return the scope
+     */
+    public Scope scope() {
+        return scope;
+    }
+
+    /**
+     * Returns the number of strings the table holds.
+     *
+     * @return the capacity after rounding
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Returns how many values were served by an instance already in the
+     * table.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many values were not in the table and were added.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of looked-up values that were hits.
+     *
+     * @return hits / (hits + misses), or 0 before the first lookup
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, adding
+     * {@code value} itself on a miss. Useful for strings that don't come
+     * through Jackson.
+     *
+     * @param value the string (may be null)
+     * @return an equal string from the table, or {@code value} if it is
+     *         null or longer than {@value #MAX_LENGTH} characters
+     */
+    public String dedup(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_LENGTH) return value;
+        int hash = value.hashCode();
+        int set = set(hash);
+        String first = table[set];
+        if (first != null && first.hashCode() == hash && first.equals(value)) {
+            hits.increment();
+            return first;
+        }
+        String second = table[set + 1];
+        if (second != null && second.hashCode() == hash && second.equals(value)) {
+            return promote(set, first, second);
+        }
+        return insert(set, first, value);
+    }
+
+    /**
+     * Like {@link #dedup(String)} for text in a parser buffer; a hit
+     * allocates nothing.
+     */
+    String dedup(char[] chars, int offset, int length) {
+        if (length == 0) return "";
+        if (length > MAX_LENGTH) return new String(chars, offset, length);
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int set = set(hash);
+        String first = table[set];
+        if (matches(first, hash, chars, offset, length)) {
+            hits.increment();
+            return first;
+        }
+        String second = table[set + 1];
+        if (matches(second, hash, chars, offset, length)) {
+            return promote(set, first, second);
+        }
+        return insert(set, first, new String(chars, offset, length));
+    }
+
+    private int set(int hash) {
+        return (hash ^ (hash >>> 16)) << 1 & mask;
+    }
+
+    private static boolean matches(String candidate, int hash, char[] chars, int offset, int length) {
+        if (candidate == null || candidate.length() != length || candidate.hashCode() != hash) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+
+    /** Records a hit in the odd slot and swaps the set so it becomes the recently used one. */
+    private String promote(int set, String first, String second) {
+        hits.increment();
+        table[set] = second;
+        table[set + 1] = first;
+        return second;
+    }
+
+    /** Records a miss; the set's recently used string moves over, evicting the other. */
+    private String insert(int set, String first, String value) {
+        misses.increment();
+        table[set + 1] = first;
+        table[set] = value;
+        return value;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "StringDedupModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    /**
+     * Identifies this instance, so {@link JsonUtils#stringDedup()} can find
+     * it among a mapper's modules.
+     */
+    @Override
+    public Object getTypeId() {
+        return this;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        SimpleDeserializers deserializers = new SimpleDeserializers();
+        deserializers.addDeserializer(String.class, new DedupDeserializer(this));
+        context.addDeserializers(deserializers);
+    }
+
+    /**
+     * Jackson's {@link StringDeserializer} with the table in front of plain
+     * string tokens; other tokens (numbers, embedded values, coercions) keep
+     * Jackson's handling. Contextual, so in {@link Scope#ANNOTATED} scope
+     * unmarked properties get Jackson's own deserializer back — and with it
+     * the fast paths Jackson takes for default string handling.
+     */
+    private static final class DedupDeserializer extends StringDeserializer implements ContextualDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient StringDedupModule module;
+
+        DedupDeserializer(StringDedupModule module) {
+            this.module = module;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+            boolean active = module.scope == Scope.ALL
+                    || property != null && property.getAnnotation(JsonDedup.class) != null;
+            return active ? this : StringDeserializer.instance;
+        }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return p.hasTextCharacters()
+                        ? module.dedup(p.getTextCharacters(), p.getTextOffset(), p.getTextLength())
+                        : module.dedup(p.getText());
+            }
+            return super.deserialize(p, ctxt);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package dev.bored.common.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.Normalizer;
 import java.util.Locale;
 import java.util.regex.Pattern;
@@ -16,9 +18,14 @@ import java.util.regex.Pattern;
  */
 public final class StringUtils {
 
+    private static final Pattern COMBINING_MARKS = Pattern.compile("[\\p{InCombiningDiacriticalMarks}]");
     private static final Pattern NON_ALPHA_NUM = Pattern.compile("[^a-z0-9]+");
     private static final Pattern LEADING_TRAILING_DASH = Pattern.compile("^-|-$");
 
+    /** Marks a char that vanishes from the slug (a combining diacritic). */
+    private static final char SLUG_DROP = '\0';
+    private static final char[] SLUG_TABLE = buildSlugTable();
+
     private StringUtils() { }
 
     /**
@@ -29,15 +36,103 @@ public final class StringUtils {
      *
      * @param text the input string
      * @return the slugified string, or {@code null} if text is null
+     * @see #slugify(CharSequence, Appendable)
      */
     public static String slugify(String text) {
         if (text == null) return null;
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
-                .replaceAll("[\\p{InCombiningDiacriticalMarks}]", "");
+        return slugify(text, new StringBuilder(text.length())).toString();
+    }
+
+    /**
+     * Appends the slug of {@code text} to {@code out} without building
+     * intermediate strings.
+     * <p>
+     * Runs in a single pass over {@link #SLUG_TABLE} when every char is below
+     * {@code U+0370} (ASCII, Latin-1, Latin Extended, combining marks); any
+     * other char sends the whole input through the {@link Normalizer} path.
+     * Both paths produce identical output.
+     * </p>
+     *
+     * @param text the input (appends nothing if null)
+     * @param out  the target
+     * @param <A>  the target type
+     * @return {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} throws
+     */
+    public static <A extends Appendable> A slugify(CharSequence text, A out) {
+        if (text == null) return out;
+        try {
+            if (!isSlugTableOnly(text)) {
+                out.append(slugifyNormalized(text.toString()));
+                return out;
+            }
+            boolean pendingDash = false;
+            boolean started = false;
+            for (int i = 0, len = text.length(); i < len; i++) {
+                char mapped = SLUG_TABLE[text.charAt(i)];
+                if (mapped == SLUG_DROP) continue;
+                if (mapped == '-') {
+                    pendingDash = started;
+                } else {
+                    if (pendingDash) {
+                        out.append('-');
+                        pendingDash = false;
+                    }
+                    out.append(mapped);
+                    started = true;
+                }
+            }
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** One scalar pass, no copy — ASCII is a subset of the table's range. */
+    private static boolean isSlugTableOnly(CharSequence text) {
+        for (int i = 0, len = text.length(); i < len; i++) {
+            if (text.charAt(i) >= SLUG_TABLE.length) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Normalizer-based slugify — decompose, strip combining marks, lower-case,
+     * collapse everything else to dashes. The reference behavior for
+     * {@link #SLUG_TABLE}.
+     */
+    static String slugifyNormalized(String text) {
+        String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
         String slug = NON_ALPHA_NUM.matcher(normalized.toLowerCase(Locale.ENGLISH)).replaceAll("-");
         return LEADING_TRAILING_DASH.matcher(slug).replaceAll("");
     }
 
+    /**
+     * Per-char slug output below {@code U+0370}: the lower-case letter or
+     * digit left after stripping diacritics, {@code '-'} for a separator, or
+     * {@link #SLUG_DROP} for a combining mark. Built with the same steps as
+     * {@link #slugifyNormalized(String)} so the two paths can't drift.
+     */
+    private static char[] buildSlugTable() {
+        char[] table = new char[0x370];
+        for (char c = 0; c < table.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            String mapped = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ENGLISH);
+            if (mapped.isEmpty()) {
+                table[c] = SLUG_DROP;
+            } else if (mapped.length() == 1 && isSlugChar(mapped.charAt(0))) {
+                table[c] = mapped.charAt(0);
+            } else {
+                table[c] = '-';
+            }
+        }
+        return table;
+    }
+
+    private static boolean isSlugChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
     /**
      * Truncates a string to the specified max length, appending an ellipsis
      * if truncation occurs.
@@ -48,11 +143,42 @@ public final class StringUtils {
      * @throws IllegalArgumentException if maxLength &lt; 3
      */
     public static String truncate(String text, int maxLength) {
+        checkMaxLength(maxLength);
+        if (text == null || text.length() <= maxLength) return text;
+        return truncate(text, maxLength, new StringBuilder(maxLength)).toString();
+    }
+
+    /**
+     * Appends {@code text} to {@code out}, cut to {@code maxLength} chars
+     * with a trailing ellipsis if it is longer.
+     *
+     * @param text      the input (appends nothing if null)
+     * @param maxLength the maximum length (must be ≥ 3)
+     * @param out       the target
+     * @param <A>       the target type
+     * @return {@code out}, for chaining
+     * @throws IllegalArgumentException if maxLength &lt; 3
+     * @throws UncheckedIOException if {@code out} throws
+     */
+    public static <A extends Appendable> A truncate(CharSequence text, int maxLength, A out) {
+        checkMaxLength(maxLength);
+        if (text == null) return out;
+        try {
+            if (text.length() <= maxLength) {
+                out.append(text);
+            } else {
+                out.append(text, 0, maxLength - 3).append("...");
+            }
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void checkMaxLength(int maxLength) {
         if (maxLength < 3) {
             throw new IllegalArgumentException("maxLength must be at least 3");
         }
-        if (text == null || text.length() <= maxLength) return text;
-        return text.substring(0, maxLength - 3) + "...";
     }
 
     /**
@@ -65,6 +191,16 @@ public final class StringUtils {
         return text == null || text.isBlank();
     }
 
+    /** {@link String#isBlank()} for any {@link CharSequence}. */
+    private static boolean isAllWhitespace(CharSequence text) {
+        for (int i = 0, len = text.length(); i < len; ) {
+            int cp = Character.codePointAt(text, i);
+            if (!Character.isWhitespace(cp)) return false;
+            i += Character.charCount(cp);
+        }
+        return true;
+    }
+
     /**
      * Returns {@code true} if the string is non-null and contains at least one
      * non-whitespace character.
@@ -84,18 +220,77 @@ public final class StringUtils {
      *
      * @param text the input string
      * @return the title-cased string, or {@code null} if text is null
+     * @see #toTitleCase(CharSequence, Appendable)
      */
     public static String toTitleCase(String text) {
         if (text == null) return null;
         if (text.isBlank()) return text;
-        String[] words = text.trim().split("\\s+");
-        StringBuilder sb = new StringBuilder();
-        for (String word : words) {
-            if (!sb.isEmpty()) sb.append(' ');
-            sb.append(Character.toUpperCase(word.charAt(0)));
-            if (word.length() > 1) sb.append(word.substring(1).toLowerCase(Locale.ENGLISH));
+        return toTitleCase(text, new StringBuilder(text.length())).toString();
+    }
+
+    /**
+     * Appends {@code text} to {@code out} in title case, in one pass and
+     * without regex.
+     * <p>
+     * Words are runs of non-whitespace (as in regex {@code \s}) inside the
+     * trimmed input and are joined by a single space. Blank input is appended
+     * unchanged.
+     * </p>
+     *
+     * @param text the input (appends nothing if null)
+     * @param out  the target
+     * @param <A>  the target type
+     * @return {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} throws
+     */
+    public static <A extends Appendable> A toTitleCase(CharSequence text, A out) {
+        if (text == null) return out;
+        try {
+            if (isAllWhitespace(text)) {
+                out.append(text);
+                return out;
+            }
+            int end = trimEnd(text);
+            int i = trimStart(text, end);
+            boolean first = true;
+            while (i < end) {
+                while (i < end && isRegexSpace(text.charAt(i))) i++;
+                if (i == end) break;
+                int wordStart = i;
+                while (i < end && !isRegexSpace(text.charAt(i))) i++;
+                if (!first) out.append(' ');
+                first = false;
+                out.append(Character.toUpperCase(text.charAt(wordStart)));
+                appendLowerCase(text, wordStart + 1, i, out);
+            }
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return sb.toString();
+    }
+
+    /**
+     * Lower-cases {@code [from, to)} like {@link String#toLowerCase(Locale)}
+     * with {@link Locale#ENGLISH}. ASCII is mapped char by char; anything else
+     * goes through {@code String} so special casing (final sigma, dotted I)
+     * stays identical.
+     */
+    private static void appendLowerCase(CharSequence text, int from, int to, Appendable out) throws IOException {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) >= 0x80) {
+                out.append(text.subSequence(from, to).toString().toLowerCase(Locale.ENGLISH));
+                return;
+            }
+        }
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+    }
+
+    /** Whitespace as matched by regex {@code \s}: space, tab, newline, VT, form feed, CR. */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
     }
 
     /**
@@ -105,9 +300,43 @@ public final class StringUtils {
      * @return the trimmed string
      */
     public static String trimSafe(String text) {
+        // String.trim already returns the same instance when there is nothing to trim.
         return text != null ? text.trim() : null;
     }
 
+    /**
+     * Appends {@code text} to {@code out} with leading and trailing chars
+     * {@code <= ' '} removed, matching {@link String#trim()}.
+     *
+     * @param text the input (appends nothing if null)
+     * @param out  the target
+     * @param <A>  the target type
+     * @return {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} throws
+     */
+    public static <A extends Appendable> A trimSafe(CharSequence text, A out) {
+        if (text == null) return out;
+        try {
+            int end = trimEnd(text);
+            out.append(text, trimStart(text, end), end);
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int trimEnd(CharSequence text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) <= ' ') end--;
+        return end;
+    }
+
+    private static int trimStart(CharSequence text, int end) {
+        int start = 0;
+        while (start < end && text.charAt(start) <= ' ') start++;
+        return start;
+    }
+
     /**
      * Returns a default value if the input is blank.
      *
@@ -0,0 +1,295 @@
+package dev.bored.common.util;
+
+import java.util.Objects;
+
+/**
+ * Bulk text scans — whitespace and ASCII classification — for large
+ * payloads such as request bodies and transcripts.
+ * <p>
+ * Opt-in SIMD: when the JVM runs with {@code --add-modules jdk.incubator.vector},
+ * {@code char[]} and {@code byte[]} ranges of {@value #VECTOR_THRESHOLD}
+ * elements or more are scanned with the Vector API; otherwise (or with
+ * {@code -Dbored.simd=false}) the same methods fall back to scalar loops.
+ * Both paths return identical results. The vector kernels live in their own
+ * source set, the only code compiled against the incubator module, and are
+ * looked up by name. {@link CharSequence} input is always scanned in place
+ * by a scalar loop — copying a {@link String} out to feed the vectors costs
+ * an allocation and loses to the JDK's own scans of its compact Latin-1
+ * bytes, which is also why {@link StringUtils}' {@code String} methods don't
+ * come through here.
+ * </p>
+ *
+ * <p>"Blank" follows {@link String#isBlank()} ({@link Character#isWhitespace(char)}).
+ * For {@code byte[]} input the bytes are treated as ASCII-compatible text
+ * (ASCII, Latin-1, UTF-8): only ASCII whitespace counts as blank and bytes
+ * {@code >= 0x80} count as content.</p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class TextScan {
+
+    /** Shortest input handed to the vector kernels — below this the setup costs more than it saves. */
+    public static final int VECTOR_THRESHOLD = 64;
+
+    /** Implemented by {@code VectorTextScan}; each method takes a checked range. */
+    interface Kernels {
+        boolean isAscii(char[] a, int from, int to);
+
+        boolean isAscii(byte[] a, int from, int to);
+
+        int firstNonBlank(char[] a, int from, int to);
+
+        int firstNonBlank(byte[] a, int from, int to);
+
+        int lastNonBlank(char[] a, int from, int to);
+
+        int lastNonBlank(byte[] a, int from, int to);
+    }
+
+    private static final Kernels VECTOR = loadVectorKernels();
+
+    private TextScan() { }
+
+    /**
+     * Returns whether the Vector API path is active in this JVM.
+     *
+     * @return {@code true} if {@code jdk.incubator.vector} is enabled and usable
+     */
+    public static boolean vectorized() {
+        return VECTOR != null;
+    }
+
+    /** The vector kernels, or {@code null} when {@link #vectorized()} is false; for benchmarks. */
+    static Kernels vectorKernels() {
+        return VECTOR;
+    }
+
+    // ── isAscii ───────────────────────────────────────────────
+
+    /**
+     * Returns whether every char in {@code [from, to)} is below {@code U+0080}.
+     *
+     * @param a    the chars
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return {@code true} if the range is pure ASCII (including empty)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static boolean isAscii(char[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        return useVectors(to - from) ? VECTOR.isAscii(a, from, to) : isAsciiScalar(a, from, to);
+    }
+
+    /**
+     * Returns whether every byte in {@code [from, to)} is below {@code 0x80}.
+     *
+     * @param a    the bytes
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return {@code true} if the range is pure ASCII (including empty)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static boolean isAscii(byte[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        return useVectors(to - from) ? VECTOR.isAscii(a, from, to) : isAsciiScalar(a, from, to);
+    }
+
+    /**
+     * Returns whether every char of {@code text} is below {@code U+0080}.
+     *
+     * @param text the text
+     * @return {@code true} if pure ASCII (including empty)
+     */
+    public static boolean isAscii(CharSequence text) {
+        for (int i = 0, len = text.length(); i < len; i++) {
+            if (text.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    // ── Blank scans ───────────────────────────────────────────
+
+    /**
+     * Returns whether {@code [from, to)} holds only whitespace.
+     *
+     * @param a    the chars
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return {@code true} if blank (including empty)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static boolean isBlank(char[] a, int from, int to) {
+        return firstNonBlank(a, from, to) < 0;
+    }
+
+    /**
+     * Returns whether {@code [from, to)} holds only ASCII whitespace.
+     *
+     * @param a    the bytes
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return {@code true} if blank (including empty)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static boolean isBlank(byte[] a, int from, int to) {
+        return firstNonBlank(a, from, to) < 0;
+    }
+
+    /**
+     * Returns whether {@code text} holds only whitespace — same answer as
+     * {@link String#isBlank()}.
+     *
+     * @param text the text
+     * @return {@code true} if blank (including empty)
+     */
+    public static boolean isBlank(CharSequence text) {
+        return firstNonBlank(text) < 0;
+    }
+
+    /**
+     * Returns the index of the first non-whitespace char in {@code [from, to)}.
+     *
+     * @param a    the chars
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return the index, or {@code -1} if the range is blank
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int firstNonBlank(char[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        return useVectors(to - from) ? VECTOR.firstNonBlank(a, from, to) : firstNonBlankScalar(a, from, to);
+    }
+
+    /**
+     * Returns the index of the first non-whitespace byte in {@code [from, to)}.
+     *
+     * @param a    the bytes
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return the index, or {@code -1} if the range is blank
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int firstNonBlank(byte[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        return useVectors(to - from) ? VECTOR.firstNonBlank(a, from, to) : firstNonBlankScalar(a, from, to);
+    }
+
+    /**
+     * Returns the index of the first non-whitespace char of {@code text}.
+     *
+     * @param text the text
+     * @return the index, or {@code -1} if the text is blank
+     */
+    public static int firstNonBlank(CharSequence text) {
+        for (int i = 0, len = text.length(); i < len; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last non-whitespace char in {@code [from, to)}.
+     *
+     * @param a    the chars
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return the index, or {@code -1} if the range is blank
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int lastNonBlank(char[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        return useVectors(to - from) ? VECTOR.lastNonBlank(a, from, to) : lastNonBlankScalar(a, from, to);
+    }
+
+    /**
+     * Returns the index of the last non-whitespace byte in {@code [from, to)}.
+     *
+     * @param a    the bytes
+     * @param from the first index, inclusive
+     * @param to   the last index, exclusive
+     * @return the index, or {@code -1} if the range is blank
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int lastNonBlank(byte[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        return useVectors(to - from) ? VECTOR.lastNonBlank(a, from, to) : lastNonBlankScalar(a, from, to);
+    }
+
+    /**
+     * Returns the index of the last non-whitespace char of {@code text}.
+     *
+     * @param text the text
+     * @return the index, or {@code -1} if the text is blank
+     */
+    public static int lastNonBlank(CharSequence text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (!Character.isWhitespace(text.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    // ── Scalar kernels (also the vector tails) ────────────────
+
+    static boolean isAsciiScalar(char[] a, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (a[i] >= 0x80) return false;
+        }
+        return true;
+    }
+
+    static boolean isAsciiScalar(byte[] a, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (a[i] < 0) return false;
+        }
+        return true;
+    }
+
+    static int firstNonBlankScalar(char[] a, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(a[i])) return i;
+        }
+        return -1;
+    }
+
+    static int lastNonBlankScalar(char[] a, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (!Character.isWhitespace(a[i])) return i;
+        }
+        return -1;
+    }
+
+    static int firstNonBlankScalar(byte[] a, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (a[i] < 0 || !Character.isWhitespace(a[i])) return i;
+        }
+        return -1;
+    }
+
+    static int lastNonBlankScalar(byte[] a, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] < 0 || !Character.isWhitespace(a[i])) return i;
+        }
+        return -1;
+    }
+
+    // ── Plumbing ──────────────────────────────────────────────
+
+    private static boolean useVectors(int length) {
+        return VECTOR != null && length >= VECTOR_THRESHOLD;
+    }
+
+    private static Kernels loadVectorKernels() {
+        if ("false".equalsIgnoreCase(System.getProperty("bored.simd"))) return null;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            Kernels kernels = (Kernels) Class.forName("dev.bored.common.util.VectorTextScan")
+                    .getDeclaredConstructor().newInstance();
+            // Touch both species so a broken vector runtime fails here, not mid-request.
+            return kernels.isAscii(new char[VECTOR_THRESHOLD], 0, VECTOR_THRESHOLD)
+                    && kernels.isAscii(new byte[VECTOR_THRESHOLD], 0, VECTOR_THRESHOLD) ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+}
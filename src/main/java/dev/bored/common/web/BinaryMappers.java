@@ -0,0 +1,34 @@
+package dev.bored.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bored.common.util.BinaryJsonUtils;
+import dev.bored.common.util.JsonUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Builds the Smile and CBOR mappers behind the servlet converters and the
+ * reactive codecs.
+ * <p>
+ * With Spring Boot's {@link Jackson2ObjectMapperBuilder} they are built the
+ * way Boot builds its JSON mapper — same modules, features and customizers
+ * — on the binary factory, whatever type the service's own
+ * {@code ObjectMapper} bean is. Without one they are copied from that bean
+ * through {@link BinaryJsonUtils#newMapper(ObjectMapper, BinaryJsonUtils.Format)}.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+final class BinaryMappers {
+
+    private BinaryMappers() { }
+
+    static ObjectMapper create(BinaryJsonUtils.Format format, ObjectProvider<Jackson2ObjectMapperBuilder> builder,
+                               ObjectProvider<ObjectMapper> mapper) {
+        ObjectMapper json = mapper.getIfUnique(JsonUtils::mapper);
+        Jackson2ObjectMapperBuilder configured = builder.getIfAvailable();
+        return configured == null ? BinaryJsonUtils.newMapper(json, format)
+                : configured.factory(BinaryJsonUtils.newFactory(json.getFactory(), format)).build();
+    }
+}
@@ -1,11 +1,19 @@
 package dev.bored.common.web;
 
+import dev.bored.common.exception.ErrorLogLimiter;
+import dev.bored.common.exception.MicrometerErrorMetrics;
+import dev.bored.common.exception.StackTracePolicy;
+import dev.bored.common.util.CoarseClock;
+import dev.bored.common.util.JsonBufferPool;
+import dev.bored.common.util.StringDedupModule;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Configuration properties for shared CORS and web settings.
+ * Configuration properties for shared CORS, web, and runtime settings.
  * <p>
  * Bind with the prefix {@code bored} in {@code application.yml}:
  * <pre>
@@ -16,20 +24,49 @@ import java.util.List;
  *       - https://boredsoftwaredeveloper.xyz
  *     allow-credentials: true
  *     max-age: 3600
+ *   clock:
+ *     tick: 1ms
+ *   json:
+ *     blackbird: false
+ *     buffer-pool:
+ *       strategy: concurrent-deque
+ *       size: 100
+ *     dedup:
+ *       scope: annotated
+ *       size: 16384
+ *   exceptions:
+ *     stack-traces: server-errors
+ *     stack-trace-statuses:
+ *       409: true
+ *     log-limit: 10
+ *     log-window: 1m
+ *     metrics-routes: 100
  * </pre>
  * </p>
  *
- * @param cors the CORS settings
+ * @param cors       the CORS settings
+ * @param clock      the shared coarse clock settings
+ * @param json       the shared JSON mapper settings
+ * @param exceptions the shared exception settings
  * @author Bored Software Developer
  * @since 2026-04-18
  */
 @ConfigurationProperties(prefix = "bored")
-public record BoredProperties(Cors cors) {
+public record BoredProperties(Cors cors, Clock clock, Json json, Exceptions exceptions) {
 
     public BoredProperties {
         if (cors == null) {
             cors = Cors.defaults();
         }
+        if (clock == null) {
+            clock = Clock.defaults();
+        }
+        if (json == null) {
+            json = Json.defaults();
+        }
+        if (exceptions == null) {
+            exceptions = Exceptions.defaults();
+        }
     }
 
     /**
@@ -74,4 +111,124 @@ public record BoredProperties(Cors cors) {
             );
         }
     }
+
+    /**
+     * Settings for the shared {@link dev.bored.common.util.CoarseClock}.
+     *
+     * @param tick how often the cached timestamp is refreshed
+     */
+    public record Clock(Duration tick) {
+        /** One-millisecond tick. */
+        public static Clock defaults() {
+            return new Clock(CoarseClock.DEFAULT_TICK);
+        }
+
+        /** Apply defaults for a missing or non-positive tick. */
+        public Clock withDefaults() {
+            return tick == null || tick.isNegative() || tick.isZero() ? defaults() : this;
+        }
+    }
+
+    /**
+     * Settings for the JSON mappers the library configures.
+     *
+     * @param blackbird  register Jackson Blackbird (generated accessors) on the
+     *                   Spring {@code ObjectMapper}; needs
+     *                   {@code jackson-module-blackbird} on the classpath.
+     *                   {@code JsonUtils} reads the same key as a system property.
+     * @param bufferPool how the Spring {@code ObjectMapper} recycles parser and
+     *                   generator buffers
+     * @param dedup      which string values the Spring {@code ObjectMapper}
+     *                   deduplicates
+     */
+    public record Json(boolean blackbird, BufferPool bufferPool, Dedup dedup) {
+        /** Reflection accessors, shared concurrent-deque buffer pool, dedup on {@code @JsonDedup} only. */
+        public static Json defaults() {
+            return new Json(false, BufferPool.defaults(), Dedup.defaults());
+        }
+
+        /** Apply defaults for a missing buffer pool or dedup setting. */
+        public Json withDefaults() {
+            return new Json(blackbird,
+                    bufferPool == null ? BufferPool.defaults() : bufferPool.withDefaults(),
+                    dedup == null ? Dedup.defaults() : dedup.withDefaults());
+        }
+    }
+
+    /**
+     * Settings for a {@link JsonBufferPool}. {@code JsonUtils} reads the same
+     * keys as system properties.
+     *
+     * @param strategy how buffers are kept between uses
+     * @param size     the capacity of a {@code bounded} pool
+     */
+    public record BufferPool(JsonBufferPool.Strategy strategy, int size) {
+        /** Concurrent deque, which suits both platform and virtual threads. */
+        public static BufferPool defaults() {
+            return new BufferPool(JsonBufferPool.Strategy.CONCURRENT_DEQUE, JsonBufferPool.DEFAULT_SIZE);
+        }
+
+        /** Apply defaults for a missing strategy or non-positive size. */
+        public BufferPool withDefaults() {
+            return new BufferPool(
+                    strategy == null ? defaults().strategy() : strategy,
+                    size <= 0 ? defaults().size() : size
+            );
+        }
+    }
+
+    /**
+     * Settings for a {@link StringDedupModule}. {@code JsonUtils} reads the
+     * same keys as system properties.
+     *
+     * @param scope which string values are deduplicated
+     * @param size  the number of strings the table holds
+     */
+    public record Dedup(StringDedupModule.Scope scope, int size) {
+        /** Properties marked {@code @JsonDedup} only, default table size. */
+        public static Dedup defaults() {
+            return new Dedup(StringDedupModule.Scope.ANNOTATED, StringDedupModule.DEFAULT_SIZE);
+        }
+
+        /** Apply defaults for a missing scope or non-positive size. */
+        public Dedup withDefaults() {
+            return new Dedup(
+                    scope == null ? defaults().scope() : scope,
+                    size <= 0 ? defaults().size() : size
+            );
+        }
+    }
+
+    /**
+     * Settings for {@link dev.bored.common.exception.GenericException}.
+     *
+     * @param stackTraces        which statuses fill in a stack trace
+     * @param stackTraceStatuses per-status overrides — status code to whether
+     *                           its trace is kept
+     * @param logLimit           errors of one kind the exception handler logs
+     *                           per window before summarizing the rest
+     * @param logWindow          the window for {@code logLimit}
+     * @param metricsRoutes      distinct route templates the error counters
+     *                           are tagged with before the rest share one tag
+     */
+    public record Exceptions(StackTracePolicy.Mode stackTraces, Map<Integer, Boolean> stackTraceStatuses,
+                             Integer logLimit, Duration logWindow, Integer metricsRoutes) {
+        /** Traces for 5xx only, no overrides, 10 errors of a kind per minute, 100 routes. */
+        public static Exceptions defaults() {
+            return new Exceptions(StackTracePolicy.Mode.SERVER_ERRORS, Map.of(),
+                    ErrorLogLimiter.DEFAULT_LIMIT, ErrorLogLimiter.DEFAULT_WINDOW,
+                    MicrometerErrorMetrics.DEFAULT_MAX_ROUTES);
+        }
+
+        /** Apply defaults for a missing mode, overrides, limit, window or route count. */
+        public Exceptions withDefaults() {
+            return new Exceptions(
+                    stackTraces == null ? defaults().stackTraces() : stackTraces,
+                    stackTraceStatuses == null ? defaults().stackTraceStatuses() : stackTraceStatuses,
+                    logLimit == null || logLimit < 0 ? defaults().logLimit() : logLimit,
+                    logWindow == null || logWindow.isNegative() || logWindow.isZero() ? defaults().logWindow() : logWindow,
+                    metricsRoutes == null || metricsRoutes < 0 ? defaults().metricsRoutes() : metricsRoutes
+            );
+        }
+    }
 }
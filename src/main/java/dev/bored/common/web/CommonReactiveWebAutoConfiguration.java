@@ -1,10 +1,26 @@
 package dev.bored.common.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bored.common.exception.CommonWebExceptionHandler;
+import dev.bored.common.exception.ErrorLogLimiter;
+import dev.bored.common.exception.ErrorMetrics;
+import dev.bored.common.util.BinaryJsonUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsConfigurationSource;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
@@ -13,6 +29,18 @@ import org.springframework.web.reactive.config.WebFluxConfigurer;
 /**
  * Auto-configures a shared reactive CORS policy for WebFlux services
  * (api-gateway).
+ * <p>
+ * Also registers Smile and CBOR codecs configured like the JSON one (see
+ * {@link BinaryJsonUtils}), for WebFlux handlers and {@code WebClient}
+ * alike, each only when the service has that format's Jackson dataformat
+ * jar. JSON stays the default: Smile sits after the JSON codecs, and CBOR
+ * is only written for an explicit {@code application/cbor} (see
+ * {@code CborConfiguration}).
+ * </p>
+ * <p>
+ * Reactive web applications also get {@link CommonWebExceptionHandler},
+ * so errors come back in the same JSON shape as from servlet services.
+ * </p>
  *
  * @author Bored Software Developer
  * @since 2026-04-18
@@ -42,4 +70,77 @@ public class CommonReactiveWebAutoConfiguration {
         source.registerCorsConfiguration("/**", config);
         return source;
     }
+
+    /**
+     * Reactive counterpart of the servlet {@code CommonExceptionHandler},
+     * sharing its {@link ErrorLogLimiter} and {@link ErrorMetrics}. Only
+     * for reactive applications — servlet services that pull in WebFlux
+     * for {@code WebClient} don't need it.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnMissingBean
+    public CommonWebExceptionHandler commonWebExceptionHandler(ErrorLogLimiter errorLogLimiter,
+                                                               ObjectProvider<ErrorMetrics> errorMetrics) {
+        return new CommonWebExceptionHandler(errorLogLimiter, errorMetrics.getIfAvailable(() -> ErrorMetrics.NONE));
+    }
+
+    /**
+     * Replaces the default Smile codecs with ones on a mapper configured
+     * like Spring's {@code ObjectMapper} (see {@link BinaryMappers}), when
+     * Smile is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+    static class SmileConfiguration {
+
+        @Bean
+        public CodecCustomizer boredSmileCodecCustomizer(ObjectProvider<Jackson2ObjectMapperBuilder> builder,
+                                                         ObjectProvider<ObjectMapper> mapper) {
+            return configurer -> {
+                ObjectMapper smile = BinaryMappers.create(BinaryJsonUtils.Format.SMILE, builder, mapper);
+                MimeType smileType = MimeType.valueOf(BinaryJsonUtils.Format.SMILE.mediaType());
+                configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, smileType));
+                configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile, smileType));
+            };
+        }
+    }
+
+    /**
+     * Adds CBOR codecs on a mapper configured like Spring's
+     * {@code ObjectMapper} (see {@link BinaryMappers}), when CBOR is on the
+     * classpath. WebFlux tries custom codecs before the default JSON one and
+     * has no default CBOR slot, so the encoder only answers an explicit
+     * {@code application/cbor} — a {@code WebClient} body with that content
+     * type, or a handler that {@code produces} it — and JSON stays the
+     * answer for {@code Accept: *}{@code /*} and untyped bodies.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+    static class CborConfiguration {
+
+        @Bean
+        public CodecCustomizer boredCborCodecCustomizer(ObjectProvider<Jackson2ObjectMapperBuilder> builder,
+                                                        ObjectProvider<ObjectMapper> mapper) {
+            return configurer -> {
+                ObjectMapper cbor = BinaryMappers.create(BinaryJsonUtils.Format.CBOR, builder, mapper);
+                MimeType cborType = MimeType.valueOf(BinaryJsonUtils.Format.CBOR.mediaType());
+                configurer.customCodecs().register(new ExplicitCborEncoder(cbor, cborType));
+                configurer.customCodecs().register(new Jackson2CborDecoder(cbor, cborType));
+            };
+        }
+    }
+
+    /** CBOR encoder that never answers a missing or wildcard media type. */
+    static final class ExplicitCborEncoder extends Jackson2CborEncoder {
+
+        ExplicitCborEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+            super(mapper, mimeTypes);
+        }
+
+        @Override
+        public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+            return mimeType != null && mimeType.isConcrete() && super.canEncode(elementType, mimeType);
+        }
+    }
 }
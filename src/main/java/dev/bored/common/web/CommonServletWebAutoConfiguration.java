@@ -1,10 +1,17 @@
 package dev.bored.common.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bored.common.util.BinaryJsonUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -18,6 +25,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * {@link CorsConfigurationSource} bean, which Spring Security picks up
  * automatically when services call {@code .cors(Customizer.withDefaults())}.
  * </p>
+ * <p>
+ * Also registers Smile and CBOR message converters configured like the
+ * JSON one (see {@link BinaryJsonUtils}), each only when the service has
+ * that format's Jackson dataformat jar. Boot slots them in after the
+ * JSON converter, so they are only chosen when a caller asks for them in
+ * {@code Accept} or {@code Content-Type}; browsers keep getting JSON.
+ * </p>
  *
  * @author Bored Software Developer
  * @since 2026-04-18
@@ -46,4 +60,32 @@ public class CommonServletWebAutoConfiguration {
         source.registerCorsConfiguration("/**", config);
         return source;
     }
+
+    /** Smile converter configured like Spring's {@code ObjectMapper}, when Smile is on the classpath. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+    static class SmileConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> builder, ObjectProvider<ObjectMapper> mapper) {
+            return new MappingJackson2SmileHttpMessageConverter(
+                    BinaryMappers.create(BinaryJsonUtils.Format.SMILE, builder, mapper));
+        }
+    }
+
+    /** CBOR converter configured like Spring's {@code ObjectMapper}, when CBOR is on the classpath. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+    static class CborConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> builder, ObjectProvider<ObjectMapper> mapper) {
+            return new MappingJackson2CborHttpMessageConverter(
+                    BinaryMappers.create(BinaryJsonUtils.Format.CBOR, builder, mapper));
+        }
+    }
 }
@@ -0,0 +1,267 @@
+package dev.bored.common.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import dev.bored.common.util.JsonUtils;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reactive counterpart of {@link JsonUtils} for WebFlux services
+ * (api-gateway): streams JSON bodies element by element instead of
+ * collecting them first.
+ * <p>
+ * {@link #decode(Publisher, Class)} feeds each incoming {@link DataBuffer}
+ * to Jackson's non-blocking parser and emits every element as soon as its
+ * last byte arrives, so memory is bounded by the largest element, not the
+ * body. The {@code encode*} methods emit one buffer per element as a JSON
+ * array or as NDJSON. Both honor downstream demand and release every
+ * buffer they consume, including on cancel and error. Uses the shared
+ * {@link JsonUtils#mapper()} configuration.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+public final class ReactiveJsonUtils {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+
+    private ReactiveJsonUtils() { }
+
+    /**
+     * Decodes a top-level JSON array, or whitespace-separated values such as
+     * NDJSON, into a stream of elements.
+     * <p>
+     * A top-level array is always treated as the container, even if
+     * {@code type} is itself a collection. JSON {@code null} elements are
+     * skipped, since a flux can't carry them. Malformed or truncated JSON
+     * terminates the flux with an {@link IllegalArgumentException}. Body
+     * buffers are requested one at a time as elements are consumed.
+     * </p>
+     *
+     * @param body the raw body, e.g. {@code request.getBody()}
+     * @param type the element class
+     * @param <T>  the element type
+     * @return the elements, in document order
+     */
+    public static <T> Flux<T> decode(Publisher<DataBuffer> body, Class<T> type) {
+        ObjectReader reader = JsonUtils.reader(type);
+        return Flux.defer(() -> {
+            Tokenizer<T> tokenizer = new Tokenizer<>(reader);
+            return Flux.from(body)
+                    .concatMapIterable(tokenizer::feed, 1)
+                    .concatWith(Flux.defer(tokenizer::endOfInput))
+                    .doFinally(signal -> tokenizer.close());
+        }).doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Encodes elements as one JSON array, written one element per buffer.
+     *
+     * @param values  the elements
+     * @param factory the buffer factory, e.g. {@code response.bufferFactory()}
+     * @return the body buffers
+     */
+    public static Flux<DataBuffer> encodeArray(Publisher<?> values, DataBufferFactory factory) {
+        Flux<DataBuffer> elements = Flux.from(values)
+                .index()
+                .map(indexed -> wrap(factory, indexed.getT1() == 0 ? null : (byte) ',',
+                        JsonUtils.toJsonBytes(indexed.getT2()), null));
+        return Flux.concat(
+                        Mono.fromCallable(() -> factory.wrap(ARRAY_START)),
+                        elements,
+                        Mono.fromCallable(() -> factory.wrap(ARRAY_END)))
+                .doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Encodes elements as newline-delimited JSON, one line per buffer.
+     *
+     * @param values  the elements
+     * @param factory the buffer factory, e.g. {@code response.bufferFactory()}
+     * @return the body buffers
+     */
+    public static Flux<DataBuffer> encodeNdjson(Publisher<?> values, DataBufferFactory factory) {
+        return Flux.from(values)
+                .map(value -> wrap(factory, null, JsonUtils.toJsonBytes(value), (byte) '\n'))
+                .doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+    }
+
+    private static DataBuffer wrap(DataBufferFactory factory, Byte prefix, byte[] json, Byte suffix) {
+        int size = json.length + (prefix != null ? 1 : 0) + (suffix != null ? 1 : 0);
+        DataBuffer buffer = factory.allocateBuffer(size);
+        if (prefix != null) buffer.write(prefix);
+        buffer.write(json);
+        if (suffix != null) buffer.write(suffix);
+        return buffer;
+    }
+
+    // ── tokenizer ─────────────────────────────────────────────
+
+    /**
+     * Per-subscription parser state. Tokens of the element in progress are
+     * copied into a {@link TokenBuffer}; when its depth returns to zero the
+     * buffer is bound with the cached reader.
+     * <p>
+     * A cancel can call {@link #close()} on another thread while a buffer is
+     * being parsed. Closing hands the parser's buffers back to the recycler
+     * pool, where another parser could pick them up, so the parser is only
+     * closed when idle: otherwise the close is left to the parsing thread,
+     * and nothing is parsed after it.
+     * </p>
+     */
+    private static final class Tokenizer<T> {
+
+        private static final int IDLE = 0;
+        private static final int PARSING = 1;
+        private static final int CLOSE_PENDING = 2;
+        private static final int CLOSED = 3;
+
+        private final ObjectReader reader;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+
+        private boolean started;
+        private boolean inArray;
+        private boolean arrayClosed;
+        private int depth;
+        private TokenBuffer element;
+
+        Tokenizer(ObjectReader reader) {
+            this.reader = reader;
+            try {
+                this.parser = JsonUtils.mapper().getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read JSON", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        /** Consumes and releases one buffer; returns the elements it completed. */
+        List<T> feed(DataBuffer buffer) {
+            if (!state.compareAndSet(IDLE, PARSING)) {
+                DataBufferUtils.release(buffer);
+                return List.of();
+            }
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw readFailure(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+                idle();
+            }
+        }
+
+        /** Flushes the parser at end of body; the parser fails if an element was cut off. */
+        Flux<T> endOfInput() {
+            if (!state.compareAndSet(IDLE, PARSING)) {
+                return Flux.empty();
+            }
+            try {
+                feeder.endOfInput();
+                return Flux.fromIterable(drain());
+            } catch (IOException e) {
+                throw readFailure(e);
+            } finally {
+                idle();
+            }
+        }
+
+        /** Ends a parse, running a close that arrived meanwhile. */
+        private void idle() {
+            if (!state.compareAndSet(PARSING, IDLE)) {
+                state.set(CLOSED);
+                closeParser();
+            }
+        }
+
+        private List<T> drain() throws IOException {
+            List<T> done = new ArrayList<>(1);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (!started) {
+                    started = true;
+                    if (token == JsonToken.START_ARRAY) {
+                        inArray = true;
+                        continue;
+                    }
+                }
+                if (arrayClosed) {
+                    throw new IllegalArgumentException("Failed to deserialize JSON: content after top-level array");
+                }
+                if (inArray && depth == 0 && token == JsonToken.END_ARRAY) {
+                    arrayClosed = true;
+                    continue;
+                }
+                if (element == null) {
+                    element = new TokenBuffer(parser);
+                }
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                if (depth == 0) {
+                    try (JsonParser bound = element.asParser()) {
+                        T value = reader.readValue(bound);
+                        if (value != null) done.add(value);
+                    }
+                    element = null;
+                }
+            }
+            return done;
+        }
+
+        /** Closes the parser now if idle, or once the parse in progress ends. */
+        void close() {
+            while (true) {
+                int current = state.get();
+                if (current == IDLE && state.compareAndSet(IDLE, CLOSED)) {
+                    closeParser();
+                    return;
+                }
+                if (current == CLOSE_PENDING || current == CLOSED
+                        || current == PARSING && state.compareAndSet(PARSING, CLOSE_PENDING)) {
+                    return;
+                }
+            }
+        }
+
+        private void closeParser() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                // Nothing to release beyond the parser's own buffers.
+            }
+        }
+    }
+
+    private static RuntimeException readFailure(IOException e) {
+        return e instanceof JsonProcessingException
+                ? new IllegalArgumentException("Failed to deserialize JSON", e)
+                : new UncheckedIOException("Failed to read JSON", e);
+    }
+}
@@ -0,0 +1,159 @@
+package dev.bored.common.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bored.common.util.CoarseClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CommonWebExceptionHandlerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PATH = "/api/v1/profiles/ada";
+
+    private final CommonWebExceptionHandler handler = new CommonWebExceptionHandler();
+    private CoarseClock previousClock;
+
+    @BeforeEach
+    void fixClock() {
+        previousClock = CoarseClock.setShared(CoarseClock.fixed(Instant.parse("2026-02-15T10:30:00Z")));
+    }
+
+    @AfterEach
+    void restoreClock() {
+        CoarseClock.setShared(previousClock);
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH + "?tab=skills"));
+    }
+
+    private MockServerWebExchange handle(Throwable ex) {
+        MockServerWebExchange exchange = exchange();
+        StepVerifier.create(handler.handle(exchange, ex)).verifyComplete();
+        return exchange;
+    }
+
+    private static JsonNode body(MockServerWebExchange exchange) throws Exception {
+        return MAPPER.readTree(exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void genericException_writesTheErrorResponseShape() throws Exception {
+        GenericException ex = new GenericException("Profile not found: ada", HttpStatus.NOT_FOUND);
+
+        MockServerWebExchange exchange = handle(ex);
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(body(exchange)).isEqualTo(MAPPER.valueToTree(ErrorResponse.of(ex, PATH)));
+    }
+
+    @Test
+    void contentLength_matchesTheSingleBuffer() {
+        MockServerWebExchange exchange = handle(new GenericException("gone", HttpStatus.GONE));
+
+        byte[] expected = ErrorBody.of(410, "Gone", "gone", PATH).toJsonBytes();
+        assertThat(exchange.getResponse().getHeaders().getContentLength()).isEqualTo(expected.length);
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(new String(expected));
+    }
+
+    @Test
+    void responseStatusException_keepsStatusReasonAndHeaders() throws Exception {
+        MockServerWebExchange notFound = handle(new ResponseStatusException(HttpStatus.NOT_FOUND));
+        MockServerWebExchange timeout = handle(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Upstream timed out"));
+        MockServerWebExchange method = handle(new MethodNotAllowedException(HttpMethod.DELETE, List.of(HttpMethod.GET)));
+
+        assertThat(body(notFound)).isEqualTo(MAPPER.valueToTree(ErrorResponse.of(404, "Not Found", "Not Found", PATH)));
+        assertThat(timeout.getResponse().getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(body(timeout).get("message").asText()).isEqualTo("Upstream timed out");
+        assertThat(method.getResponse().getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        assertThat(method.getResponse().getHeaders().getAllow()).containsExactly(HttpMethod.GET);
+    }
+
+    @Test
+    void nonStandardStatus_isReportedAsUnknown() throws Exception {
+        MockServerWebExchange exchange = handle(new ResponseStatusException(HttpStatusCode.valueOf(499)));
+
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(499);
+        assertThat(body(exchange).get("error").asText()).isEqualTo("Unknown");
+    }
+
+    @Test
+    void otherErrors_becomeAGeneric500() throws Exception {
+        MockServerWebExchange exchange = handle(new IllegalStateException("pool exhausted: 42 connections"));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(body(exchange)).isEqualTo(MAPPER.valueToTree(Map.of(
+                "status", 500,
+                "error", "Internal Server Error",
+                "message", "An unexpected error occurred",
+                "timestamp", "2026-02-15T10:30:00Z",
+                "path", PATH)));
+    }
+
+    @Test
+    void committedResponse_propagatesTheError() {
+        MockServerWebExchange exchange = exchange();
+        exchange.getResponse().setComplete().block();
+        IllegalStateException ex = new IllegalStateException("late");
+
+        StepVerifier.create(handler.handle(exchange, ex)).verifyErrorMatches(e -> e == ex);
+    }
+
+    @Test
+    void logging_goesThroughTheLimiter() {
+        ErrorLogLimiter limiter = new ErrorLogLimiter(1, Duration.ofMinutes(1));
+        CommonWebExceptionHandler limited = new CommonWebExceptionHandler(limiter);
+        GenericException ex = new GenericException("bad slug", HttpStatus.BAD_REQUEST);
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(limited.handle(exchange(), ex)).verifyComplete();
+        }
+
+        assertThat(limiter.shouldLog(ex, 400)).isFalse();
+        assertThat(limited.getOrder()).isEqualTo(CommonWebExceptionHandler.ORDER).isLessThan(-1);
+    }
+
+    @Test
+    void metrics_recordEveryErrorWithItsRoute() {
+        List<String> recorded = new ArrayList<>();
+        CommonWebExceptionHandler counted = new CommonWebExceptionHandler(new ErrorLogLimiter(0, Duration.ofMinutes(1)),
+                (error, status, route) -> recorded.add(error.getClass().getSimpleName() + " " + status + " " + route));
+        MockServerWebExchange handled = exchange();
+        handled.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                PathPatternParser.defaultInstance.parse("/api/v1/profiles/{slug}"));
+        MockServerWebExchange proxied = exchange();
+        proxied.getAttributes().put(CommonWebExceptionHandler.GATEWAY_MATCHED_PATH, "/api/v1/**");
+
+        StepVerifier.create(counted.handle(handled, new GenericException("gone", HttpStatus.GONE))).verifyComplete();
+        StepVerifier.create(counted.handle(proxied, new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT)))
+                .verifyComplete();
+        StepVerifier.create(counted.handle(exchange(), new IllegalStateException())).verifyComplete();
+
+        assertThat(recorded).containsExactly(
+                "GenericException 410 /api/v1/profiles/{slug}",
+                "ResponseStatusException 504 /api/v1/**",
+                "IllegalStateException 500 null");
+    }
+}
@@ -0,0 +1,108 @@
+package dev.bored.common.exception;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.bored.common.util.BinaryJsonUtils;
+import dev.bored.common.util.CoarseClock;
+import dev.bored.common.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ErrorBodyTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ErrorBody TRICKY = new ErrorBody(400, "Bad Request",
+            "slug \"café\"\n is not\\valid — ✓", "2026-10-17T09:30:00Z", "/api/v1/profiles/café?q=\"x\"");
+
+    private static final String TRICKY_JSON = """
+            {"status":400,"error":"Bad Request","message":"slug \\"café\\"\\n is not\\\\valid — ✓",\
+            "timestamp":"2026-10-17T09:30:00Z","path":"/api/v1/profiles/café?q=\\"x\\""}""";
+
+    /** Today's body: the map {@link ErrorResponse} builds, as Jackson writes it. */
+    private static JsonNode legacy(Map<String, Object> response) {
+        return MAPPER.valueToTree(response);
+    }
+
+    @Test
+    void toJsonBytes_writesTheDocumentedShapeInOrder() {
+        assertThat(new String(TRICKY.toJsonBytes(), StandardCharsets.UTF_8)).isEqualTo(TRICKY_JSON);
+    }
+
+    @Test
+    void serializer_matchesToJsonBytes() {
+        assertThat(JsonUtils.toJson(TRICKY)).isEqualTo(TRICKY_JSON);
+        assertThat(JsonUtils.toJsonBytes(TRICKY)).isEqualTo(TRICKY.toJsonBytes());
+        assertThat(JsonUtils.toJson(Map.of("errors", List.of(TRICKY, TRICKY))))
+                .isEqualTo("{\"errors\":[" + TRICKY_JSON + "," + TRICKY_JSON + "]}");
+    }
+
+    @Test
+    void body_matchesTheErrorResponseMap() throws Exception {
+        CoarseClock previous = CoarseClock.setShared(CoarseClock.fixed(Instant.parse("2026-02-15T10:30:00Z")));
+        try {
+            GenericException ex = new GenericException("not found", HttpStatus.NOT_FOUND);
+
+            assertThat(MAPPER.readTree(ErrorBody.of(ex, "/x").toJsonBytes())).isEqualTo(legacy(ErrorResponse.of(ex, "/x")));
+            assertThat(MAPPER.readTree(ErrorBody.of(500, null, null, null).toJsonBytes()))
+                    .isEqualTo(legacy(ErrorResponse.of(500, null, null, null)));
+        } finally {
+            CoarseClock.setShared(previous);
+        }
+    }
+
+    @Test
+    void serializer_fallsBackForPrettyPrintingEscapesAndBinaryFormats() throws Exception {
+        JsonNode expected = MAPPER.readTree(TRICKY_JSON);
+        ObjectMapper pretty = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        ObjectMapper ascii = JsonMapper.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build();
+
+        String indented = pretty.writeValueAsString(TRICKY);
+        String escaped = ascii.writeValueAsString(TRICKY);
+        byte[] smile = BinaryJsonUtils.toBytes(TRICKY, BinaryJsonUtils.Format.SMILE);
+
+        assertThat(indented).contains("\n  \"status\" : 400");
+        assertThat(MAPPER.readTree(indented)).isEqualTo(expected);
+        assertThat(escaped).contains("caf\\u00E9").isASCII();
+        assertThat(MAPPER.readTree(escaped)).isEqualTo(expected);
+        assertThat(BinaryJsonUtils.mapper(BinaryJsonUtils.Format.SMILE).readTree(smile)).isEqualTo(expected);
+    }
+
+    @Test
+    void prefix_isCachedPerStatusReasonAndMessage() {
+        assertThat(ErrorBody.prefix(404, "Not Found", "gone"))
+                .isSameAs(ErrorBody.prefix(404, "Not Found", new String("gone".toCharArray())))
+                .isNotSameAs(ErrorBody.prefix(410, "Gone", "gone"));
+        assertThat(ErrorBody.prefix(404, "Not Found", "gone").getValue())
+                .isEqualTo("{\"status\":404,\"error\":\"Not Found\",\"message\":\"gone\",\"timestamp\":\"");
+    }
+
+    @Test
+    void prefixCache_staysCorrectWhenSlotsAreReplaced() {
+        for (int i = 0; i < 10 * ErrorBody.CACHE_SLOTS; i++) {
+            ErrorBody body = new ErrorBody(404, "Not Found", "no profile " + i, "t", "/p");
+            assertThat(body.toJsonBytes()).asString(StandardCharsets.UTF_8).contains("\"no profile " + i + "\"");
+        }
+    }
+
+    @Test
+    void constructor_appliesDefaults() {
+        CoarseClock previous = CoarseClock.setShared(CoarseClock.fixed(Instant.parse("2026-02-15T10:30:00Z")));
+        try {
+            assertThat(new ErrorBody(500, null, null, null, null))
+                    .isEqualTo(new ErrorBody(500, "Unknown", "An unexpected error occurred", "2026-02-15T10:30:00Z", ""));
+        } finally {
+            CoarseClock.setShared(previous);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dev.bored.common.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ErrorLogLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<String> summaries = new ArrayList<>();
+    private final ErrorLogLimiter limiter = new ErrorLogLimiter(2, WINDOW, nanos::get,
+            (key, count, window) -> summaries.add(key + " x" + count));
+
+    private static GenericException notFound(int id) {
+        return new GenericException("Profile not found: " + id, HttpStatus.NOT_FOUND);
+    }
+
+    private int logged(int times, int from) {
+        int logged = 0;
+        for (int i = 0; i < times; i++) {
+            if (limiter.shouldLog(notFound(from + i), 404)) logged++;
+        }
+        return logged;
+    }
+
+    @Test
+    void shouldLog_letsTheFirstErrorsOfAWindowThrough() {
+        assertThat(logged(5, 0)).isEqualTo(2);
+        assertThat(summaries).isEmpty();
+
+        nanos.addAndGet(WINDOW.toNanos());
+        assertThat(logged(5, 100)).isEqualTo(2);
+        assertThat(summaries).containsExactly(
+                "dev.bored.common.exception.GenericException [404] Profile not found x3");
+    }
+
+    @Test
+    void shouldLog_groupsByClassStatusAndTemplate() {
+        logged(2, 0);
+
+        assertThat(limiter.shouldLog(notFound(7), 404)).isFalse();
+        assertThat(limiter.shouldLog(notFound(7), 410)).isTrue();
+        assertThat(limiter.shouldLog(new IllegalStateException("Profile not found: 7"), 404)).isTrue();
+        assertThat(limiter.shouldLog(new GenericException("Slug 'x' taken", HttpStatus.CONFLICT), 404)).isTrue();
+    }
+
+    @Test
+    void flush_reportsBurstsThatStopped() {
+        logged(4, 0);
+
+        limiter.flush();
+        assertThat(summaries).isEmpty();
+        nanos.addAndGet(WINDOW.toNanos());
+        limiter.flush();
+        nanos.addAndGet(WINDOW.toNanos());
+        limiter.flush();
+
+        assertThat(summaries).containsExactly(
+                "dev.bored.common.exception.GenericException [404] Profile not found x2");
+        assertThat(logged(2, 0)).isEqualTo(2);
+    }
+
+    @Test
+    void flush_stillReportsErrorsCountedOnAGroupItRetires() {
+        AtomicInteger flushes = new AtomicInteger();
+        ErrorLogLimiter[] racing = new ErrorLogLimiter[1];
+        // The clock is read after the lookup, so a flush there races a caller holding the group.
+        racing[0] = new ErrorLogLimiter(0, WINDOW, () -> {
+            if (flushes.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) racing[0].flush();
+            return nanos.get();
+        }, (key, count, window) -> summaries.add(key + " x" + count));
+
+        assertThat(racing[0].shouldLog(notFound(1), 404)).isFalse();
+        nanos.addAndGet(WINDOW.toNanos());
+        racing[0].flush();
+        nanos.addAndGet(WINDOW.toNanos());
+        flushes.set(1);
+        assertThat(racing[0].shouldLog(notFound(2), 404)).isFalse();
+        assertThat(racing[0].shouldLog(notFound(3), 404)).isFalse();
+        nanos.addAndGet(WINDOW.toNanos());
+        racing[0].flush();
+
+        assertThat(summaries).hasSize(3).allMatch(line -> line.endsWith("Profile not found x1"));
+    }
+
+    @Test
+    void close_reportsTheCurrentWindow() {
+        try (ErrorLogLimiter started = new ErrorLogLimiter(0, WINDOW, nanos::get,
+                (key, count, window) -> summaries.add(key + " x" + count)).start()) {
+            assertThat(started.start()).isSameAs(started);
+            assertThat(started.shouldLog(new IllegalStateException(), 500)).isFalse();
+        }
+        assertThat(summaries).containsExactly("java.lang.IllegalStateException [500]  x1");
+    }
+
+    @Test
+    void close_logsSummariesAtTheErrorsLevel() {
+        ErrorLogLimiter logging = new ErrorLogLimiter(0, WINDOW);
+        assertThat(logging.shouldLog(new IllegalStateException("boom"), 500)).isFalse();
+        assertThat(logging.shouldLog(notFound(1), 404)).isFalse();
+
+        assertThatCode(logging::close).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldLog_sharesOneGroupPerClassAndStatusBeyondTheCap() {
+        // Templates stop at the first digit, so spell the kinds out in letters.
+        for (int i = 0; i < ErrorLogLimiter.MAX_GROUPS; i++) {
+            String kind = "" + (char) ('a' + i % 26) + (char) ('a' + i / 26 % 26) + (char) ('a' + i / 676);
+            limiter.shouldLog(new GenericException("kind " + kind), 500);
+        }
+        assertThat(limiter.shouldLog(new GenericException("overflow one"), 500)).isTrue();
+        assertThat(limiter.shouldLog(new GenericException("overflow two"), 500)).isTrue();
+        assertThat(limiter.shouldLog(new GenericException("overflow three"), 500)).isFalse();
+    }
+
+    @Test
+    void shouldLog_countsEveryErrorUnderContention() throws Exception {
+        AtomicInteger logged = new AtomicInteger();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                int id = i;
+                pool.submit(() -> {
+                    if (limiter.shouldLog(notFound(id), 404)) logged.incrementAndGet();
+                });
+            }
+        }
+        nanos.addAndGet(WINDOW.toNanos());
+        limiter.flush();
+
+        assertThat(logged).hasValue(2);
+        assertThat(summaries).containsExactly(
+                "dev.bored.common.exception.GenericException [404] Profile not found x9998");
+    }
+
+    @Test
+    void template_stopsWhereValuesStart() {
+        assertThat(ErrorLogLimiter.template("Profile not found: 42")).isEqualTo("Profile not found");
+        assertThat(ErrorLogLimiter.template("No experience 42 for user 7")).isEqualTo("No experience");
+        assertThat(ErrorLogLimiter.template("Slug \"x\" taken")).isEqualTo("Slug");
+        assertThat(ErrorLogLimiter.template("Service unavailable")).isEqualTo("Service unavailable");
+        assertThat(ErrorLogLimiter.template("y".repeat(100))).hasSize(80);
+        assertThat(ErrorLogLimiter.template(null)).isEmpty();
+        assertThat(limiter.shouldLog(new IllegalStateException(), 500)).isTrue();
+        assertThat(limiter.shouldLog(new IllegalStateException(""), 500)).isTrue();
+        assertThat(limiter.shouldLog(new IllegalStateException((String) null), 500)).isFalse();
+    }
+
+    @Test
+    void constructor_rejectsBadArguments() {
+        assertThatThrownBy(() -> new ErrorLogLimiter(-1, WINDOW)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ErrorLogLimiter(1, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ErrorLogLimiter(1, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
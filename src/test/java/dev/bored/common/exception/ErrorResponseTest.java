@@ -1,8 +1,10 @@
 package dev.bored.common.exception;
 
+import dev.bored.common.util.CoarseClock;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.time.Instant;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
@@ -46,4 +48,15 @@ class ErrorResponseTest {
         assertThat(response).containsEntry("message", "An unexpected error occurred");
         assertThat(response).containsEntry("path", "");
     }
+
+    @Test
+    void of_usesSharedCoarseClockTimestamp() {
+        CoarseClock previous = CoarseClock.setShared(CoarseClock.fixed(Instant.parse("2026-02-15T10:30:00Z")));
+        try {
+            assertThat(ErrorResponse.of(404, "Not Found", "gone", "/x"))
+                    .containsEntry("timestamp", "2026-02-15T10:30:00Z");
+        } finally {
+            CoarseClock.setShared(previous);
+        }
+    }
 }
@@ -3,6 +3,8 @@ package dev.bored.common.exception;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.*;
 
 class GenericExceptionTest {
@@ -32,4 +34,69 @@ class GenericExceptionTest {
     void isRuntimeException() {
         assertThat(new GenericException("test")).isInstanceOf(RuntimeException.class);
     }
+
+    @Test
+    void stackTrace_followsTheSharedPolicy() {
+        assertThat(new GenericException("gone", HttpStatus.NOT_FOUND).getStackTrace()).isEmpty();
+        assertThat(new GenericException("boom").getStackTrace()).isNotEmpty();
+
+        StackTracePolicy previous = StackTracePolicy.setShared(
+                StackTracePolicy.of(StackTracePolicy.Mode.ALWAYS, Map.of()));
+        try {
+            assertThat(new GenericException("gone", HttpStatus.NOT_FOUND).getStackTrace()).isNotEmpty();
+        } finally {
+            StackTracePolicy.setShared(previous);
+        }
+    }
+
+    @Test
+    void stackTrace_canBeChosenPerInstance() {
+        RuntimeException cause = new RuntimeException("root");
+        GenericException stackless = new GenericException("boom", HttpStatus.BAD_GATEWAY, cause, false);
+
+        assertThat(stackless.getStackTrace()).isEmpty();
+        assertThat(stackless.getCause()).isSameAs(cause);
+        assertThat(new GenericException("gone", HttpStatus.NOT_FOUND, null, true).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void cause_canStillBeInitializedLater() {
+        RuntimeException cause = new RuntimeException("root");
+        GenericException ex = new GenericException("gone", HttpStatus.NOT_FOUND);
+
+        assertThat(ex.initCause(cause)).isSameAs(ex);
+        assertThat(ex.getCause()).isSameAs(cause);
+        assertThat(new GenericException("boom").initCause(cause).getStackTrace()).isNotEmpty();
+        assertThatThrownBy(() -> ex.initCause(new RuntimeException())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new GenericException("x", HttpStatus.GONE).initCause(null).initCause(cause))
+                .isInstanceOf(IllegalStateException.class);
+        GenericException self = new GenericException("self", HttpStatus.GONE);
+        assertThatThrownBy(() -> self.initCause(self)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GenericException("wrapped", HttpStatus.BAD_GATEWAY, null).initCause(cause))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stackTrace_startsAtTheThrowSiteAndCanBeRefilled() {
+        GenericException ex = new GenericException("boom");
+        StackTraceElement top = ex.getStackTrace()[0];
+
+        assertThat(top.getMethodName()).isEqualTo("stackTrace_startsAtTheThrowSiteAndCanBeRefilled");
+        assertThat(ex.fillInStackTrace().getStackTrace()[0].getMethodName()).isEqualTo(top.getMethodName());
+
+        ex.setStackTrace(new StackTraceElement[0]);
+        assertThat(ex.fillInStackTrace().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void constant_isStacklessAndSealed() {
+        GenericException ex = GenericException.constant("Profile not found", HttpStatus.NOT_FOUND);
+        ex.addSuppressed(new IllegalStateException("ignored"));
+
+        assertThat(ex.getMessage()).isEqualTo("Profile not found");
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getSuppressed()).isEmpty();
+        assertThatThrownBy(() -> ex.initCause(new RuntimeException())).isInstanceOf(IllegalStateException.class);
+    }
 }
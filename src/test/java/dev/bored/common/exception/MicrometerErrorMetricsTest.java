@@ -0,0 +1,90 @@
+package dev.bored.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MicrometerErrorMetricsTest {
+
+    private static final GenericException NOT_FOUND = new GenericException("gone", HttpStatus.NOT_FOUND);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private double count(int status, Class<?> type, String route) {
+        Counter counter = registry.find(MicrometerErrorMetrics.METER)
+                .tag("status", Integer.toString(status))
+                .tag("exception", type.getName())
+                .tag("route", route)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void record_countsByStatusExceptionAndRoute() {
+        MicrometerErrorMetrics metrics = MicrometerErrorMetrics.create(registry, 10);
+        PathPattern profile = PathPatternParser.defaultInstance.parse("/api/v1/profiles/{slug}");
+
+        metrics.record(NOT_FOUND, 404, profile);
+        metrics.record(NOT_FOUND, 404, profile);
+        metrics.record(NOT_FOUND, 404, "/api/v1/experiences/{slug}");
+        metrics.record(new IllegalStateException(), 500, profile);
+        metrics.record(NOT_FOUND, 404, null);
+
+        assertThat(count(404, GenericException.class, "/api/v1/profiles/{slug}")).isEqualTo(2);
+        assertThat(count(404, GenericException.class, "/api/v1/experiences/{slug}")).isEqualTo(1);
+        assertThat(count(500, IllegalStateException.class, "/api/v1/profiles/{slug}")).isEqualTo(1);
+        assertThat(count(404, GenericException.class, MicrometerErrorMetrics.UNMATCHED)).isEqualTo(1);
+    }
+
+    @Test
+    void routes_beyondTheLimitShareOneTag() {
+        MicrometerErrorMetrics metrics = MicrometerErrorMetrics.create(registry, 2);
+
+        for (int i = 0; i < 5; i++) {
+            metrics.record(NOT_FOUND, 404, "/r" + i);
+        }
+        metrics.record(NOT_FOUND, 404, new String("/r1".toCharArray()));
+        metrics.record(NOT_FOUND, 404, null);
+
+        assertThat(count(404, GenericException.class, "/r0")).isEqualTo(1);
+        assertThat(count(404, GenericException.class, "/r1")).isEqualTo(2);
+        assertThat(count(404, GenericException.class, MicrometerErrorMetrics.OTHER)).isEqualTo(3);
+        assertThat(count(404, GenericException.class, MicrometerErrorMetrics.UNMATCHED)).isEqualTo(1);
+        assertThat(registry.find(MicrometerErrorMetrics.METER).counters()).hasSize(4);
+    }
+
+    @Test
+    void cache_staysCorrectWhenSlotsAreReplaced() {
+        MicrometerErrorMetrics metrics = MicrometerErrorMetrics.create(registry, 0);
+
+        for (int round = 0; round < 3; round++) {
+            for (int status = 100; status < 600; status++) {
+                metrics.record(NOT_FOUND, status, null);
+                metrics.record(NOT_FOUND, status, "/x");
+            }
+        }
+
+        assertThat(count(418, GenericException.class, MicrometerErrorMetrics.UNMATCHED)).isEqualTo(3);
+        assertThat(count(418, GenericException.class, MicrometerErrorMetrics.OTHER)).isEqualTo(3);
+        assertThat(registry.find(MicrometerErrorMetrics.METER).counters()).hasSize(1000);
+    }
+
+    @Test
+    void create_rejectsBadArguments() {
+        assertThatThrownBy(() -> MicrometerErrorMetrics.create(null, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MicrometerErrorMetrics.create(registry, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void none_recordsNothing() {
+        ErrorMetrics.NONE.record(NOT_FOUND, 404, null);
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
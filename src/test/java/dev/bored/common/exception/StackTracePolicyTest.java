@@ -0,0 +1,56 @@
+package dev.bored.common.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StackTracePolicyTest {
+
+    @Test
+    void default_keepsServerErrorsOnly() {
+        assertThat(StackTracePolicy.DEFAULT.captures(HttpStatus.INTERNAL_SERVER_ERROR)).isTrue();
+        assertThat(StackTracePolicy.DEFAULT.captures(HttpStatus.SERVICE_UNAVAILABLE)).isTrue();
+        assertThat(StackTracePolicy.DEFAULT.captures(null)).isTrue();
+        assertThat(StackTracePolicy.DEFAULT.captures(HttpStatus.NOT_FOUND)).isFalse();
+        assertThat(StackTracePolicy.DEFAULT.captures(HttpStatus.FOUND)).isFalse();
+    }
+
+    @Test
+    void overrides_refineTheMode() {
+        StackTracePolicy policy = StackTracePolicy.of(StackTracePolicy.Mode.NEVER, Map.of(500, true, 409, true));
+        StackTracePolicy always = StackTracePolicy.of(StackTracePolicy.Mode.ALWAYS, Map.of(404, false));
+
+        assertThat(policy.captures(HttpStatus.CONFLICT)).isTrue();
+        assertThat(policy.captures(HttpStatus.INTERNAL_SERVER_ERROR)).isTrue();
+        assertThat(policy.captures(HttpStatus.BAD_GATEWAY)).isFalse();
+        assertThat(always.captures(HttpStatus.NOT_FOUND)).isFalse();
+        assertThat(always.captures(HttpStatus.BAD_REQUEST)).isTrue();
+        assertThat(StackTracePolicy.of(StackTracePolicy.Mode.ALWAYS, null).captures(HttpStatus.OK)).isTrue();
+    }
+
+    @Test
+    void of_rejectsBadArguments() {
+        assertThatThrownBy(() -> StackTracePolicy.of(null, Map.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StackTracePolicy.of(StackTracePolicy.Mode.NEVER, Map.of(600, true)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("600=true");
+        assertThatThrownBy(() -> StackTracePolicy.of(StackTracePolicy.Mode.NEVER, Map.of(99, true)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setShared_restoresTheDefaultOnNull() {
+        StackTracePolicy custom = StackTracePolicy.of(StackTracePolicy.Mode.NEVER, Map.of());
+        StackTracePolicy previous = StackTracePolicy.setShared(custom);
+        try {
+            assertThat(StackTracePolicy.shared()).isSameAs(custom);
+            assertThat(StackTracePolicy.setShared(null)).isSameAs(custom);
+            assertThat(StackTracePolicy.shared()).isSameAs(StackTracePolicy.DEFAULT);
+        } finally {
+            StackTracePolicy.setShared(previous);
+        }
+    }
+}
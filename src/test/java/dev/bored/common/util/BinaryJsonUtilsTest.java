@@ -0,0 +1,175 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static dev.bored.common.util.BinaryJsonUtils.Format.CBOR;
+import static dev.bored.common.util.BinaryJsonUtils.Format.SMILE;
+import static org.assertj.core.api.Assertions.*;
+
+class BinaryJsonUtilsTest {
+
+    record Line(String sku, int quantity) {}
+
+    record Order(String id, LocalDate placed, List<Line> lines) {}
+
+    private static final Order ORDER = new Order("o-1", LocalDate.of(2026, 10, 17),
+            List.of(new Line("SKU-1", 2), new Line("SKU-2", 1), new Line("SKU-3", 5)));
+
+    @ParameterizedTest
+    @EnumSource(BinaryJsonUtils.Format.class)
+    void toBytes_roundTripsAndIsSmallerThanJson(BinaryJsonUtils.Format format) {
+        byte[] bytes = BinaryJsonUtils.toBytes(ORDER, format);
+
+        assertThat(BinaryJsonUtils.fromBytes(bytes, Order.class, format)).isEqualTo(ORDER);
+        assertThat(bytes.length).isLessThan(JsonUtils.toJsonBytes(ORDER).length);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BinaryJsonUtils.Format.class)
+    void format_isAvailableWithItsJarOnTheClasspath(BinaryJsonUtils.Format format) {
+        assertThat(format.isAvailable()).isTrue();
+    }
+
+    @Test
+    void missingFormat_namesTheJarToAdd() {
+        assertThat(BinaryJsonUtils.Format.isPresent("com.fasterxml.jackson.dataformat.ion.IonFactory")).isFalse();
+        assertThat(BinaryJsonUtils.missingJar(CBOR))
+                .hasMessage("CBOR needs com.fasterxml.jackson.dataformat:jackson-dataformat-cbor on the classpath");
+    }
+
+    @Test
+    void toBytes_writesTheFormatsOwnEncoding() {
+        // Smile opens with ":)\n", CBOR with a map header (major type 5).
+        assertThat(BinaryJsonUtils.toBytes(ORDER, SMILE)).startsWith(':', ')', '\n');
+        assertThat(BinaryJsonUtils.toBytes(ORDER, CBOR)[0] & 0xE0).isEqualTo(0xA0);
+        assertThat(BinaryJsonUtils.toBytes(null, CBOR)).containsExactly(0xF6);
+    }
+
+    @Test
+    void mapper_sharesTheJsonSettings() throws IOException {
+        ObjectMapper smile = BinaryJsonUtils.mapper(SMILE);
+        record DateHolder(LocalDate date) {}
+
+        assertThat(smile.getFactory()).isInstanceOf(SmileFactory.class);
+        assertThat(BinaryJsonUtils.mapper(CBOR).getFactory()).isInstanceOf(CBORFactory.class);
+        assertThat(smile.getFactory()._getRecyclerPool()).isSameAs(JsonUtils.bufferPool());
+        // Dates as ISO strings and unknown properties ignored, as in JsonUtils.
+        byte[] bytes = smile.writeValueAsBytes(new DateHolder(LocalDate.of(2026, 2, 15)));
+        assertThat(smile.readTree(bytes).get("date").asText()).isEqualTo("2026-02-15");
+        byte[] extra = smile.writeValueAsBytes(Map.of("sku", "a", "quantity", 1, "extra", true));
+        assertThat(BinaryJsonUtils.fromBytes(extra, Line.class, SMILE)).isEqualTo(new Line("a", 1));
+    }
+
+    @Test
+    void mapper_followsTheInstalledJsonMapper() {
+        ObjectMapper builtIn = BinaryJsonUtils.mapper(CBOR);
+        try {
+            JsonUtils.setMapper(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE));
+            byte[] bytes = BinaryJsonUtils.toBytes(new Line("a", 1), CBOR);
+            assertThat(BinaryJsonUtils.mapper(CBOR)).isNotSameAs(builtIn);
+            assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).contains("Sku").doesNotContain("sku");
+        } finally {
+            JsonUtils.setMapper(null);
+        }
+        assertThat(BinaryJsonUtils.mapper(CBOR)).isNotSameAs(builtIn).isSameAs(BinaryJsonUtils.mapper(CBOR));
+    }
+
+    @Test
+    void newMapper_fallsBackToTheBuiltInConfigurationForMapperSubclasses() {
+        ObjectMapper smile = BinaryJsonUtils.newMapper(JsonMapper.builder().build(), SMILE);
+
+        assertThat(smile.getFactory()).isInstanceOf(SmileFactory.class);
+        assertThat(smile.getRegisteredModuleIds())
+                .containsExactlyInAnyOrderElementsOf(JsonUtils.builtInMapper().getRegisteredModuleIds());
+        assertThat(BinaryJsonUtils.fromBytes(BinaryJsonUtils.toBytes(ORDER, SMILE), Order.class, SMILE)).isEqualTo(ORDER);
+    }
+
+    @Test
+    void format_exposesMediaTypes() {
+        assertThat(SMILE.mediaType()).isEqualTo("application/x-jackson-smile");
+        assertThat(CBOR.mediaType()).isEqualTo("application/cbor");
+    }
+
+    // ── failures ──────────────────────────────────────────────
+
+    @Test
+    void toBytes_throwsOnUnserializable() {
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+
+        assertThatThrownBy(() -> BinaryJsonUtils.toBytes(selfRef, SMILE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to serialize to SMILE");
+    }
+
+    @Test
+    void fromBytes_throwsOnInvalidInput() {
+        assertThatThrownBy(() -> BinaryJsonUtils.fromBytes(new byte[] {(byte) 0xFF, 0x01}, Line.class, CBOR))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize CBOR");
+        assertThatThrownBy(() -> BinaryJsonUtils.fromBytes(new ByteArrayInputStream(new byte[] {(byte) 0xFF, 0x01}), Line.class, CBOR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ── streams ───────────────────────────────────────────────
+
+    @Test
+    void write_roundTripsThroughStreamsLeftOpen() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryJsonUtils.write(ORDER, out, SMILE);
+        BinaryJsonUtils.write(null, out, SMILE);
+
+        assertThat(BinaryJsonUtils.fromBytes(new ByteArrayInputStream(out.toByteArray()), Order.class, SMILE))
+                .isEqualTo(ORDER);
+    }
+
+    @Test
+    void write_wrapsFailures() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+
+        assertThatThrownBy(() -> BinaryJsonUtils.write(ORDER, broken, CBOR))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to write CBOR");
+        assertThatThrownBy(() -> BinaryJsonUtils.write(selfRef, new ByteArrayOutputStream(), CBOR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fromBytes_wrapsStreamFailure() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> BinaryJsonUtils.fromBytes(broken, Line.class, SMILE))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to read SMILE");
+    }
+}
@@ -0,0 +1,273 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Golden tests: each @BoredJson type here is checked against Jackson's
+// reflective binding on an otherwise identical mapper.
+class BoredJsonModuleTest {
+
+    enum Status { OPEN, SHIPPED }
+
+    @BoredJson
+    record Line(String sku, int quantity, long priceCents) {}
+
+    @BoredJson
+    record Order(String id, @JsonProperty("customer_id") String customerId, LocalDate placed, Instant updated,
+                 List<Line> lines, Map<String, String> attributes, Status status, boolean gift, Boolean express,
+                 Integer priority, Long version, double weight, Double discount, float ratio, short bucket,
+                 byte flags, char grade, Character tier, BigDecimal total, int[] slots) {}
+
+    @BoredJson
+    static class Profile {
+        private String handle;
+        private int followers;
+        private boolean verified;
+        private List<String> tags;
+        private String url;
+
+        public String getHandle() { return handle; }
+        public void setHandle(String handle) { this.handle = handle; }
+        public int getFollowers() { return followers; }
+        public void setFollowers(int followers) { this.followers = followers; }
+        public boolean isVerified() { return verified; }
+        public void setVerified(boolean verified) { this.verified = verified; }
+        public List<String> getTags() { return tags; }
+        public void setTags(List<String> tags) { this.tags = tags; }
+        public String getURL() { return url; }
+        public void setURL(String url) { this.url = url; }
+    }
+
+    @BoredJson
+    static class Customer extends Profile {
+        private String email;
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({@JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square")})
+    interface Shape {}
+
+    @BoredJson
+    record Circle(double radius) implements Shape {}
+
+    record Square(double side) implements Shape {}
+
+    @BoredJson
+    record Drawing(String title, Shape shape, List<Shape> layers) {}
+
+    private static final Order ORDER = new Order("o-1", "c-9", LocalDate.of(2026, 10, 17),
+            Instant.parse("2026-10-17T09:30:00Z"), List.of(new Line("SKU-1", 2, 34_900), new Line("SKU-\"2\"", 1, 5)),
+            Map.of("channel", "web"), Status.SHIPPED, true, Boolean.FALSE, 3, 7L, 1.25, 0.1, 0.5f, (short) 4,
+            (byte) -1, 'A', 'é', new BigDecimal("698.00"), new int[] {1, 2});
+    private static final Order EMPTY_ORDER = new Order(null, null, null, null, null, null, null, false, null, null,
+            null, 0, null, 0, (short) 0, (byte) 0, '\0', null, null, null);
+
+    private final ObjectMapper reflection = mapper(false, b -> b);
+    private final ObjectMapper generated = mapper(true, b -> b);
+
+    private static ObjectMapper mapper(boolean generated, UnaryOperator<JsonMapper.Builder> extra) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (generated) builder.addModule(new BoredJsonModule());
+        return extra.apply(builder).build();
+    }
+
+    static Stream<Object> samples() {
+        Customer customer = new Customer();
+        customer.setHandle("ada");
+        customer.setFollowers(12);
+        customer.setVerified(true);
+        customer.setTags(List.of("math", "engines"));
+        customer.setURL("https://example.com");
+        customer.setEmail("ada@example.com");
+        return Stream.of(ORDER, EMPTY_ORDER, new Line("SKU-1", 2, 34_900), new Profile(), customer,
+                new Drawing("d", new Circle(1.5), List.of(new Square(2), new Circle(3))),
+                new Drawing(null, null, null));
+    }
+
+    // ── wiring ────────────────────────────────────────────────
+
+    @Test
+    void module_loadsEveryGeneratedCodec() {
+        assertThat(new BoredJsonModule().types())
+                .contains(Line.class, Order.class, Profile.class, Customer.class, Circle.class, Drawing.class)
+                .doesNotContain(Square.class);
+        assertThat(new BoredJsonModule(new ClassLoader(null) { }).types()).isEmpty();
+    }
+
+    @Test
+    void module_replacesReflectiveBinding() throws IOException {
+        assertThat(serializer(generated, Order.class).getClass().getName()).endsWith("Order_BoredJsonCodec$Serializer");
+        assertThat(deserializer(generated, Order.class).getClass().getName()).endsWith("Order_BoredJsonCodec$Deserializer");
+        assertThat(serializer(generated, Square.class).getClass().getName()).doesNotContain("BoredJsonCodec");
+        assertThat(serializer(reflection, Order.class).getClass().getName()).doesNotContain("BoredJsonCodec");
+    }
+
+    @Test
+    void jsonUtils_usesGeneratedCodecs() throws IOException {
+        assertThat(serializer(JsonUtils.mapper(), Line.class).getClass().getName()).contains("BoredJsonCodec");
+        assertThat(JsonUtils.toJson(ORDER)).isEqualTo(reflection.writeValueAsString(ORDER));
+    }
+
+    // ── golden ────────────────────────────────────────────────
+
+    @ParameterizedTest
+    @MethodSource("samples")
+    void serialize_matchesReflection(Object sample) throws IOException {
+        assertThat(generated.writeValueAsString(sample)).isEqualTo(reflection.writeValueAsString(sample));
+    }
+
+    @ParameterizedTest
+    @MethodSource("samples")
+    void deserialize_matchesReflection(Object sample) throws IOException {
+        String json = reflection.writeValueAsString(sample);
+
+        Object read = generated.readValue(json, sample.getClass());
+
+        assertThat(read).isExactlyInstanceOf(sample.getClass());
+        assertThat(reflection.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    @Test
+    void deserialize_coercesAndIgnoresLikeReflection() throws IOException {
+        String json = """
+                {"unknown":{"deep":[1,{"x":2}]},"id":7,"customer_id":null,"quantity":"3","gift":"true",
+                 "express":1,"priority":"5","version":9,"weight":2,"discount":"0.5","ratio":null,"grade":"Z",
+                 "tier":null,"total":12,"slots":[3],"lines":[{"sku":"a","quantity":"4","priceCents":2.0}],
+                 "status":"OPEN","flags":null,"bucket":"2","id":"last"}""";
+
+        assertSameBinding(json, Order.class);
+        assertSameBinding("{}", Order.class);
+        assertSameBinding("{\"handle\":\"x\",\"URL\":\"ignored\",\"url\":\"u\",\"verified\":\"false\"}", Customer.class);
+        assertThat(generated.readValue("[{\"sku\":\"a\"},null]", new TypeReference<List<Line>>() { }))
+                .isEqualTo(reflection.readValue("[{\"sku\":\"a\"},null]", new TypeReference<List<Line>>() { }));
+    }
+
+    @Test
+    void deserialize_failsLikeReflection() {
+        ObjectMapper strictReflection = reflection.copy()
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+        ObjectMapper strictGenerated = generated.copy()
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+
+        for (ObjectMapper mapper : List.of(strictReflection, strictGenerated)) {
+            assertThatThrownBy(() -> mapper.readValue("{\"sku\":\"a\",\"quantity\":1,\"priceCents\":2,\"nope\":1}", Line.class))
+                    .isInstanceOf(UnrecognizedPropertyException.class);
+            assertThatThrownBy(() -> mapper.readValue("{\"sku\":\"a\"}", Line.class))
+                    .isInstanceOf(MismatchedInputException.class);
+            assertThatThrownBy(() -> mapper.readValue("{\"quantity\":null}", Line.class))
+                    .isInstanceOf(MismatchedInputException.class);
+            assertThatThrownBy(() -> mapper.readValue("[1]", Line.class))
+                    .isInstanceOf(MismatchedInputException.class);
+        }
+        String bad = "{\"lines\":[{\"sku\":\"a\"},{\"quantity\":\"many\"}]}";
+        JsonMappingException expected = catchThrowableOfType(JsonMappingException.class,
+                () -> reflection.readValue(bad, Order.class));
+        JsonMappingException actual = catchThrowableOfType(JsonMappingException.class,
+                () -> generated.readValue(bad, Order.class));
+        assertThat(actual).isExactlyInstanceOf(expected.getClass());
+        assertThat(actual.getPathReference()).isEqualTo(expected.getPathReference());
+    }
+
+    @Test
+    void views_matchReflection() throws IOException {
+        for (boolean defaultInclusion : new boolean[] {true, false}) {
+            ObjectMapper viewReflection = mapper(false, b -> b.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, defaultInclusion));
+            ObjectMapper viewGenerated = mapper(true, b -> b.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, defaultInclusion));
+            String json = reflection.writeValueAsString(ORDER);
+
+            assertThat(viewGenerated.writerWithView(Object.class).writeValueAsString(ORDER))
+                    .isEqualTo(viewReflection.writerWithView(Object.class).writeValueAsString(ORDER));
+            Line line = viewGenerated.readerWithView(Object.class).forType(Line.class).readValue("{\"sku\":\"a\",\"quantity\":2}");
+            assertThat(line).isEqualTo(viewReflection.readerWithView(Object.class).forType(Line.class)
+                    .readValue("{\"sku\":\"a\",\"quantity\":2}"));
+            assertThat(viewGenerated.readValue(json, Order.class).lines()).isEqualTo(ORDER.lines());
+        }
+    }
+
+    // ── fallback ──────────────────────────────────────────────
+
+    @Test
+    void nonDefaultConfig_fallsBackToReflection() throws IOException {
+        List<UnaryOperator<JsonMapper.Builder>> configs = List.of(
+                b -> b.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+                b -> b.defaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, null)),
+                b -> b.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY),
+                b -> b.addMixIn(Line.class, Object.class),
+                b -> b.enable(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES));
+        for (UnaryOperator<JsonMapper.Builder> config : configs) {
+            ObjectMapper plain = mapper(false, config);
+            ObjectMapper withModule = mapper(true, config);
+
+            if (!withModule.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)) {
+                assertThat(serializer(withModule, Line.class).getClass().getName()).doesNotContain("BoredJsonCodec");
+            }
+            assertThat(deserializer(withModule, Line.class).getClass().getName()).doesNotContain("BoredJsonCodec");
+            assertThat(withModule.writeValueAsString(EMPTY_ORDER)).isEqualTo(plain.writeValueAsString(EMPTY_ORDER));
+        }
+    }
+
+    @Test
+    void defaultTyping_fallsBackToReflection() throws IOException {
+        ObjectMapper typed = mapper(true,
+                b -> b.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL));
+
+        assertThat(serializer(typed, Line.class).getClass().getName()).doesNotContain("BoredJsonCodec");
+        assertThat(typed.readValue(typed.writeValueAsString(ORDER.lines().get(0)), Line.class))
+                .isEqualTo(ORDER.lines().get(0));
+    }
+
+    // ── helpers ───────────────────────────────────────────────
+
+    private void assertSameBinding(String json, Class<?> type) throws IOException {
+        assertThat(reflection.writeValueAsString(generated.readValue(json, type)))
+                .isEqualTo(reflection.writeValueAsString(reflection.readValue(json, type)));
+    }
+
+    private static JsonSerializer<Object> serializer(ObjectMapper mapper, Class<?> type) throws IOException {
+        return mapper.getSerializerProviderInstance().findValueSerializer(type);
+    }
+
+    private static JsonDeserializer<Object> deserializer(ObjectMapper mapper, Class<?> type) throws IOException {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), null, null);
+        return ctxt.findRootValueDeserializer(mapper.constructType(type));
+    }
+}
@@ -0,0 +1,112 @@
+package dev.bored.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+class CoarseClockTest {
+
+    @AfterEach
+    void resetShared() {
+        CoarseClock.setShared(null);
+    }
+
+    @Test
+    void fixed_reportsFrozenInstant() {
+        CoarseClock clock = CoarseClock.fixed(Instant.parse("2026-02-15T10:30:00.123456Z"));
+        assertThat(clock.instant()).isEqualTo(Instant.parse("2026-02-15T10:30:00.123Z"));
+        assertThat(clock.isoNow()).isEqualTo("2026-02-15T10:30:00.123Z");
+    }
+
+    @Test
+    void refresh_picksUpSourceChanges() {
+        MutableClock source = new MutableClock(Instant.parse("2026-02-15T10:30:00Z"));
+        CoarseClock clock = new CoarseClock(source, Duration.ofMillis(5));
+
+        source.set(Instant.parse("2026-02-15T10:30:01Z"));
+        assertThat(clock.isoNow()).isEqualTo("2026-02-15T10:30:00Z");
+
+        clock.refresh();
+        assertThat(clock.isoNow()).isEqualTo("2026-02-15T10:30:01Z");
+    }
+
+    @Test
+    void start_ticksInTheBackground() {
+        MutableClock source = new MutableClock(Instant.parse("2026-02-15T10:30:00Z"));
+        try (CoarseClock clock = new CoarseClock(source, Duration.ofMillis(1)).start()) {
+            assertThat(clock.start()).isSameAs(clock);
+            source.set(Instant.parse("2026-02-15T10:30:02Z"));
+            await().atMost(5, TimeUnit.SECONDS)
+                    .until(() -> clock.isoNow().equals("2026-02-15T10:30:02Z"));
+        }
+    }
+
+    @Test
+    void shared_defaultsToRunningSystemClock() {
+        CoarseClock clock = CoarseClock.shared();
+        assertThat(CoarseClock.shared()).isSameAs(clock);
+        assertThat(clock.tick()).isEqualTo(CoarseClock.DEFAULT_TICK);
+        assertThat(clock.instant()).isCloseTo(Instant.now(), within(1, ChronoUnit.SECONDS));
+        assertThat(clock.isLazyDefault()).isTrue();
+        assertThat(CoarseClock.fixed(Instant.EPOCH).isLazyDefault()).isFalse();
+        clock.close();
+    }
+
+    @Test
+    void setShared_replacesAndCloseClears() {
+        CoarseClock frozen = CoarseClock.fixed(Instant.EPOCH);
+        CoarseClock.setShared(frozen);
+        assertThat(CoarseClock.shared().isoNow()).isEqualTo("1970-01-01T00:00:00Z");
+
+        frozen.close();
+        assertThat(CoarseClock.shared()).isNotSameAs(frozen);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveTick() {
+        assertThatThrownBy(() -> new CoarseClock(Clock.systemUTC(), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CoarseClock(Clock.systemUTC(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** Test clock whose instant can be moved by hand. */
+    private static final class MutableClock extends Clock {
+
+        private final AtomicReference<Instant> now;
+
+        MutableClock(Instant start) {
+            this.now = new AtomicReference<>(start);
+        }
+
+        void set(Instant instant) {
+            now.set(instant);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.bored.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DateFormatCacheTest {
+
+    @Test
+    void format_matchesFormatter() {
+        DateFormatCache cache = new DateFormatCache(DateUtils.MONTH_YEAR, 16);
+        assertThat(cache.format(LocalDate.of(2026, 2, 15))).isEqualTo("Feb 2026");
+    }
+
+    @Test
+    void format_returnsSameInstanceOnHit() {
+        DateFormatCache cache = new DateFormatCache(DateUtils.ISO, 16);
+        String first = cache.format(LocalDate.of(2026, 2, 15));
+        assertThat(cache.format(LocalDate.of(2026, 2, 15))).isSameAs(first);
+    }
+
+    @Test
+    void format_replacesCollidingSlot() {
+        DateFormatCache cache = new DateFormatCache(DateUtils.ISO, 1);
+        assertThat(cache.format(LocalDate.of(2026, 2, 15))).isEqualTo("2026-02-15");
+        assertThat(cache.format(LocalDate.of(2026, 2, 16))).isEqualTo("2026-02-16");
+        assertThat(cache.format(LocalDate.of(2026, 2, 15))).isEqualTo("2026-02-15");
+    }
+
+    @Test
+    void format_returnsNullForNull() {
+        assertThat(new DateFormatCache(DateUtils.ISO, 4).format(null)).isNull();
+    }
+
+    @Test
+    void constructor_roundsCapacityToPowerOfTwo() {
+        assertThat(new DateFormatCache(DateUtils.ISO, 1).capacity()).isEqualTo(1);
+        assertThat(new DateFormatCache(DateUtils.ISO, 5).capacity()).isEqualTo(8);
+        assertThat(new DateFormatCache(DateUtils.ISO, 4096).capacity()).isEqualTo(4096);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new DateFormatCache(DateUtils.ISO, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,10 +3,18 @@ package dev.bored.common.util;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -47,6 +55,140 @@ class DateUtilsTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "02/30/2026, 2026-02-28",   // US resolves smartly — day clamped
+            "31-04-2026, 2026-04-30",   // EU resolves smartly — day clamped
+            "02/29/2024, 2024-02-29",
+            "+10000-01-01, +10000-01-01",
+    })
+    void parseDate_matchesFormatterResolution(String input, String expected) {
+        assertThat(DateUtils.parseDate(input)).isEqualTo(LocalDate.parse(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2026-02-30", "2026-13-01", "02/15/0000", "13/01/2026", "00-01-2026",
+            "2026/02/15", "2026-02-1x", "2026-02-15T", "+1234-01-01", "short"})
+    void parseDate_rejectsWhatFormattersReject(String input) {
+        assertThatThrownBy(() -> DateUtils.parseDate(input))
+                .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    void parseDate_agreesWithFormattersOnGeneratedInputs() {
+        Random random = new Random(42);
+        String alphabet = "0123456789-/+ ";
+        for (int i = 0; i < 200_000; i++) {
+            String input;
+            if (i % 2 == 0) {
+                input = String.format("%04d-%02d-%02d", random.nextInt(10_000), random.nextInt(14), random.nextInt(33));
+                if (i % 3 == 0) input = input.substring(5, 7) + "/" + input.substring(8) + "/" + input.substring(0, 4);
+                if (i % 5 == 0) input = input.replace('/', '-');
+            } else {
+                StringBuilder sb = new StringBuilder();
+                int len = 8 + random.nextInt(6);
+                for (int k = 0; k < len; k++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                input = sb.toString();
+            }
+            String trimmed = input.trim();
+            if (trimmed.isEmpty()) continue;
+            assertThat(DateUtils.tryParseDate(input)).as(input).isEqualTo(parseWithFormatters(trimmed));
+        }
+    }
+
+    private static LocalDate parseWithFormatters(String text) {
+        for (DateTimeFormatter fmt : List.of(DateUtils.ISO, DateUtils.US, DateUtils.EU)) {
+            try {
+                return LocalDate.parse(text, fmt);
+            } catch (DateTimeParseException ignored) {
+                // try next format
+            }
+        }
+        return null;
+    }
+
+    // ── tryParseDate ──────────────────────────────────────────
+
+    @Test
+    void tryParseDate_parsesValidDate() {
+        assertThat(DateUtils.tryParseDate(" 15-02-2026 ")).isEqualTo(LocalDate.of(2026, 2, 15));
+    }
+
+    @Test
+    void tryParseDate_returnsNullOnInvalidFormat() {
+        assertThat(DateUtils.tryParseDate("not-a-date")).isNull();
+        assertThat(DateUtils.tryParseDate("+abcd-01-01")).isNull();
+    }
+
+    @Test
+    void tryParseDate_returnsNullForNullOrBlank() {
+        assertThat(DateUtils.tryParseDate(null)).isNull();
+        assertThat(DateUtils.tryParseDate("  ")).isNull();
+    }
+
+    // ── parseEpochDays ────────────────────────────────────────
+
+    @Test
+    void parseEpochDays_writesEpochDaysAndFlagsFailures() {
+        CharSequence[] values = {"2026-02-15", new StringBuilder("02/15/2026"), null, "  ", "junk", " 15-02-2026 "};
+        int[] epochDays = new int[values.length];
+
+        BitSet failures = DateUtils.parseEpochDays(values, epochDays);
+
+        int expected = (int) LocalDate.of(2026, 2, 15).toEpochDay();
+        assertThat(epochDays).containsExactly(expected, expected, 0, 0, 0, expected);
+        assertThat(failures.stream().toArray()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void parseEpochDays_acceptsNonRandomAccessList() {
+        List<String> values = new LinkedList<>(List.of("1970-01-01", "01/02/1970"));
+        int[] epochDays = new int[2];
+        assertThat(DateUtils.parseEpochDays(values, epochDays).isEmpty()).isTrue();
+        assertThat(epochDays).containsExactly(0, 1);
+    }
+
+    @Test
+    void parseEpochDays_parsesStream() {
+        BitSet failures = new BitSet();
+        int[] epochDays = DateUtils.parseEpochDays(Stream.of("bad", "+10000-01-01", "0001-01-01"), failures);
+
+        assertThat(epochDays).containsExactly(0,
+                (int) LocalDate.of(10_000, 1, 1).toEpochDay(),
+                (int) LocalDate.of(1, 1, 1).toEpochDay());
+        assertThat(failures.stream().toArray()).containsExactly(0);
+    }
+
+    @Test
+    void parseEpochDays_throwsWhenTargetTooShort() {
+        assertThatThrownBy(() -> DateUtils.parseEpochDays(new CharSequence[2], new int[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parseEpochDays_largeMixedColumnMatchesTryParseDate() {
+        Random random = new Random(7);
+        String[] values = new String[50_000];
+        for (int i = 0; i < values.length; i++) {
+            String iso = String.format("%04d-%02d-%02d", random.nextInt(10_000), random.nextInt(14), random.nextInt(33));
+            values[i] = switch (i % 4) {
+                case 0 -> iso;
+                case 1 -> iso.substring(5, 7) + "/" + iso.substring(8) + "/" + iso.substring(0, 4);
+                case 2 -> iso.substring(8) + "-" + iso.substring(5, 7) + "-" + iso.substring(0, 4);
+                default -> i % 8 == 3 ? null : "x" + i;
+            };
+        }
+        int[] epochDays = new int[values.length];
+
+        BitSet failures = DateUtils.parseEpochDays(values, epochDays);
+
+        for (int i = 0; i < values.length; i++) {
+            LocalDate expected = DateUtils.tryParseDate(values[i]);
+            assertThat(failures.get(i)).as(values[i]).isEqualTo(expected == null);
+            assertThat(epochDays[i]).as(values[i]).isEqualTo(expected == null ? 0 : (int) expected.toEpochDay());
+        }
+    }
+
     // ── parseDateTime ─────────────────────────────────────────
 
     @Test
@@ -90,6 +232,72 @@ class DateUtilsTest {
         assertThat(DateUtils.formatIso((LocalDateTime) null)).isNull();
     }
 
+    @Test
+    void formatIso_formatsFractionAndSignedYears() {
+        assertThat(DateUtils.formatIso(LocalDateTime.of(2026, 2, 15, 10, 30, 5, 120_000_000)))
+                .isEqualTo("2026-02-15T10:30:05.12");
+        assertThat(DateUtils.formatIso(LocalDate.of(10_000, 1, 1))).isEqualTo("+10000-01-01");
+        assertThat(DateUtils.formatIso(LocalDateTime.of(-1, 1, 1, 0, 0))).isEqualTo("-0001-01-01T00:00:00");
+    }
+
+    // ── appendIso ─────────────────────────────────────────────
+
+    @Test
+    void appendIso_matchesFormattersOnGeneratedValues() {
+        Random random = new Random(11);
+        StringBuilder sb = new StringBuilder();
+        char[] chars = new char[40];
+        byte[] bytes = new byte[40];
+        for (int i = 0; i < 20_000; i++) {
+            int year = i % 500 == 0 ? random.nextInt(30_000) - 10_000 : random.nextInt(10_000);
+            int nano = switch (i % 3) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            LocalDateTime dateTime = LocalDateTime.of(year, 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), nano);
+            LocalDate date = dateTime.toLocalDate();
+            String expectedDateTime = dateTime.format(DateUtils.ISO_DT);
+            String expectedDate = date.format(DateUtils.ISO);
+
+            sb.setLength(0);
+            assertThat(DateUtils.appendIso(dateTime, sb).toString()).isEqualTo(expectedDateTime);
+            sb.setLength(0);
+            assertThat(DateUtils.appendIso(date, sb).toString()).isEqualTo(expectedDate);
+
+            int end = DateUtils.appendIso(dateTime, chars, 3);
+            assertThat(new String(chars, 3, end - 3)).isEqualTo(expectedDateTime);
+            end = DateUtils.appendIso(date, chars, 1);
+            assertThat(new String(chars, 1, end - 1)).isEqualTo(expectedDate);
+
+            end = DateUtils.appendIso(dateTime, bytes, 2);
+            assertThat(new String(bytes, 2, end - 2, StandardCharsets.US_ASCII)).isEqualTo(expectedDateTime);
+            end = DateUtils.appendIso(date, bytes, 0);
+            assertThat(new String(bytes, 0, end, StandardCharsets.US_ASCII)).isEqualTo(expectedDate);
+        }
+    }
+
+    @Test
+    void appendIso_writesNothingForNull() {
+        StringBuilder sb = new StringBuilder("x");
+        assertThat(DateUtils.appendIso((LocalDate) null, sb)).hasToString("x");
+        assertThat(DateUtils.appendIso((LocalDateTime) null, sb)).hasToString("x");
+        assertThat(DateUtils.appendIso((LocalDate) null, new char[0], 0)).isZero();
+        assertThat(DateUtils.appendIso((LocalDateTime) null, new char[0], 0)).isZero();
+        assertThat(DateUtils.appendIso((LocalDate) null, new byte[0], 0)).isZero();
+        assertThat(DateUtils.appendIso((LocalDateTime) null, new byte[0], 0)).isZero();
+    }
+
+    @Test
+    void appendIso_throwsWhenBufferTooSmall() {
+        LocalDate date = LocalDate.of(2026, 2, 15);
+        assertThatThrownBy(() -> DateUtils.appendIso(date, new char[10], 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> DateUtils.appendIso(date.atStartOfDay(), new byte[18], 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
     // ── format with custom formatter ──────────────────────────
 
     @Test
@@ -0,0 +1,174 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonBufferPoolTest {
+
+    private static final Map<String, String> VALUE = Map.of("name", "bored");
+
+    private static ObjectMapper mapperOn(JsonBufferPool pool) {
+        return JsonUtils.newMapper(pool, false, JsonUtils.BLACKBIRD_MODULE);
+    }
+
+    // ── strategies ────────────────────────────────────────────
+
+    @Test
+    void concurrentDeque_reusesRecyclersAcrossCalls() throws Exception {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.CONCURRENT_DEQUE, 1);
+        ObjectMapper mapper = mapperOn(pool);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(mapper.readTree(mapper.writeValueAsString(VALUE)).get("name").asText()).isEqualTo("bored");
+        }
+
+        assertThat(pool.misses()).isEqualTo(1);
+        assertThat(pool.hits()).isEqualTo(19);
+        assertThat(pool.pooledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDeque_servesVirtualThreadsFromTheSharedPool() throws Exception {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.CONCURRENT_DEQUE, 1);
+        ObjectMapper mapper = mapperOn(pool);
+
+        runOnFreshVirtualThreads(mapper, 50);
+
+        assertThat(pool.misses()).isEqualTo(1);
+        assertThat(pool.hits()).isEqualTo(49);
+    }
+
+    @Test
+    void threadLocal_missesOnEveryFreshVirtualThread() throws Exception {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.THREAD_LOCAL, 1);
+        ObjectMapper mapper = mapperOn(pool);
+
+        runOnFreshVirtualThreads(mapper, 50);
+        assertThat(pool.misses()).isEqualTo(50);
+        assertThat(pool.hits()).isZero();
+
+        mapper.writeValueAsString(VALUE);
+        mapper.writeValueAsString(VALUE);
+        assertThat(pool.hits()).isEqualTo(1);
+        assertThat(pool.pooledCount()).isEqualTo(-1);
+    }
+
+    @Test
+    void threadLocal_doesNotLinkRecyclersToThePool() {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.THREAD_LOCAL, 1);
+        BufferRecycler recycler = pool.acquireAndLinkPooled();
+
+        assertThat(recycler.isLinkedWithPool()).isFalse();
+        assertThat(pool.acquireAndLinkPooled()).isSameAs(recycler);
+
+        assertThat(pool.clear()).isTrue();
+        assertThat(pool.acquireAndLinkPooled()).isNotSameAs(recycler);
+    }
+
+    @Test
+    void bounded_dropsRecyclersBeyondItsSize() {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.BOUNDED, 2);
+        BufferRecycler[] held = new BufferRecycler[3];
+        for (int i = 0; i < held.length; i++) held[i] = pool.acquireAndLinkPooled();
+        for (BufferRecycler recycler : held) recycler.releaseToPool();
+
+        assertThat(pool.pooledCount()).isEqualTo(2);
+        assertThat(pool.misses()).isEqualTo(3);
+
+        assertThat(pool.acquirePooled()).isSameAs(held[1]);
+        assertThat(pool.hits()).isEqualTo(1);
+
+        assertThat(pool.clear()).isTrue();
+        assertThat(pool.pooledCount()).isZero();
+    }
+
+    private static void runOnFreshVirtualThreads(ObjectMapper mapper, int count) throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < count; i++) {
+            Thread thread = Thread.ofVirtual().start(() -> {
+                try {
+                    mapper.writeValueAsString(VALUE);
+                } catch (Exception e) {
+                    failure.set(e);
+                }
+            });
+            thread.join();
+        }
+        assertThat(failure.get()).isNull();
+    }
+
+    @Test
+    void concurrentUse_keepsEveryAcquireAccountedFor() throws Exception {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.BOUNDED, 4);
+        ObjectMapper mapper = mapperOn(pool);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.submit(() -> mapper.writeValueAsString(VALUE));
+            }
+        }
+        assertThat(pool.hits() + pool.misses()).isEqualTo(1_000);
+        assertThat(pool.pooledCount()).isLessThanOrEqualTo(4);
+    }
+
+    // ── config ────────────────────────────────────────────────
+
+    @Test
+    void parse_acceptsPropertyStyleNames() {
+        assertThat(JsonBufferPool.Strategy.parse("concurrent-deque", null)).isEqualTo(JsonBufferPool.Strategy.CONCURRENT_DEQUE);
+        assertThat(JsonBufferPool.Strategy.parse(" Thread_Local ", null)).isEqualTo(JsonBufferPool.Strategy.THREAD_LOCAL);
+        assertThat(JsonBufferPool.Strategy.parse(null, JsonBufferPool.Strategy.BOUNDED)).isEqualTo(JsonBufferPool.Strategy.BOUNDED);
+        assertThat(JsonBufferPool.Strategy.parse("", JsonBufferPool.Strategy.BOUNDED)).isEqualTo(JsonBufferPool.Strategy.BOUNDED);
+        assertThatThrownBy(() -> JsonBufferPool.Strategy.parse("lock-free", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("lock-free");
+    }
+
+    @Test
+    void create_rejectsInvalidArguments() {
+        assertThatThrownBy(() -> JsonBufferPool.create(null, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonBufferPool.create(JsonBufferPool.Strategy.BOUNDED, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sharedMapper_usesConcurrentDequeByDefault() {
+        JsonUtils.toJson(VALUE);
+        assertThat(JsonUtils.bufferPool().strategy()).isEqualTo(JsonBufferPool.Strategy.CONCURRENT_DEQUE);
+        assertThat(JsonUtils.bufferPool().hits() + JsonUtils.bufferPool().misses()).isPositive();
+        assertThat(JsonUtils.mapper().getFactory()._getRecyclerPool()).isSameAs(JsonUtils.bufferPool());
+    }
+
+    @Test
+    void serialization_resolvesToFreshPoolWithSameSettings() throws Exception {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.BOUNDED, 7);
+        pool.acquirePooled();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pool);
+        }
+        JsonBufferPool copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (JsonBufferPool) in.readObject();
+        }
+
+        assertThat(copy.strategy()).isEqualTo(JsonBufferPool.Strategy.BOUNDED);
+        assertThat(copy.misses()).isZero();
+        assertThat(copy).hasToString("JsonBufferPool[BOUNDED, size=7, hits=0, misses=0]");
+        assertThat(pool).hasToString("JsonBufferPool[BOUNDED, size=7, hits=0, misses=1]");
+        assertThat(JsonBufferPool.create(JsonBufferPool.Strategy.THREAD_LOCAL, 1))
+                .hasToString("JsonBufferPool[THREAD_LOCAL, hits=0, misses=0]");
+    }
+}
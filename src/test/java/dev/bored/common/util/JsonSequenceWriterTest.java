@@ -0,0 +1,123 @@
+package dev.bored.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JsonSequenceWriterTest {
+
+    record Row(int id, String name) {}
+
+    @Test
+    void array_writesSingleJsonArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonSequenceWriter writer = JsonSequenceWriter.array(out)) {
+            writer.write(new Row(1, "a")).write(new Row(2, "b"));
+            assertThat(writer.count()).isEqualTo(2);
+        }
+        assertThat(out.toString()).isEqualTo("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]");
+    }
+
+    @Test
+    void array_writesEmptyArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSequenceWriter.array(out).close();
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void ndjson_writesOneValuePerLine() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonSequenceWriter writer = JsonSequenceWriter.ndjson(out)) {
+            writer.write(new Row(1, "a")).write(null).write(Map.of("k", "v"));
+        }
+        assertThat(out.toString()).isEqualTo("{\"id\":1,\"name\":\"a\"}\nnull\n{\"k\":\"v\"}\n");
+    }
+
+    @Test
+    void ndjson_writesNothingWhenEmpty() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSequenceWriter.ndjson(out).close();
+        assertThat(out.toString()).isEmpty();
+    }
+
+    @Test
+    void roundTripsThroughJsonUtilsStream() {
+        List<Row> rows = List.of(new Row(1, "a"), new Row(2, "b"), new Row(3, "c"));
+        for (boolean ndjson : new boolean[] {false, true}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (JsonSequenceWriter writer = ndjson ? JsonSequenceWriter.ndjson(out, 2) : JsonSequenceWriter.array(out, 2)) {
+                rows.forEach(writer::write);
+            }
+            try (Stream<Row> read = JsonUtils.stream(new ByteArrayInputStream(out.toByteArray()), Row.class)) {
+                assertThat(read).containsExactlyElementsOf(rows);
+            }
+        }
+    }
+
+    @Test
+    void write_flushesOncePerBatch() throws IOException {
+        OutputStream out = spy(new ByteArrayOutputStream());
+        try (JsonSequenceWriter writer = JsonSequenceWriter.ndjson(out, 3)) {
+            for (int i = 0; i < 7; i++) writer.write(i);
+            verify(out, times(2)).flush();
+            writer.flush();
+            verify(out, times(3)).flush();
+        }
+        verify(out, never()).close();
+    }
+
+    @Test
+    void write_throwsOnUnserializable() {
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+        try (JsonSequenceWriter writer = JsonSequenceWriter.array(new ByteArrayOutputStream())) {
+            assertThatThrownBy(() -> writer.write(selfRef))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Failed to serialize");
+        }
+    }
+
+    @Test
+    void write_throwsAfterClose() {
+        JsonSequenceWriter writer = JsonSequenceWriter.array(new ByteArrayOutputStream());
+        writer.close();
+        writer.close();
+        assertThatThrownBy(() -> writer.write(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void factories_rejectNonPositiveBatchSize() {
+        assertThatThrownBy(() -> JsonSequenceWriter.array(new ByteArrayOutputStream(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonSequenceWriter.ndjson(new ByteArrayOutputStream(), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void streamFailures_areWrapped() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        assertThatThrownBy(() -> JsonSequenceWriter.array(broken, 1).write("x".repeat(10_000)))
+                .isInstanceOf(UncheckedIOException.class);
+
+        JsonSequenceWriter writer = JsonSequenceWriter.ndjson(broken, 1_000);
+        writer.write("x");
+        assertThatThrownBy(writer::flush).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(writer::close).isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -1,15 +1,56 @@
 package dev.bored.common.util;
 
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class JsonUtilsTest {
 
+    record Item(String sku, int quantity) {}
+
+    static class Views {
+        interface Public {}
+        interface Internal {}
+    }
+
+    static class Account {
+        @JsonView(Views.Public.class)
+        public String name;
+        @JsonView(Views.Internal.class)
+        public String secret;
+    }
+
     // ── toJson ────────────────────────────────────────────────
 
     @Test
@@ -68,10 +109,568 @@ class JsonUtilsTest {
         assertThat(result.name()).isEqualTo("bored");
     }
 
+    // ── bytes ─────────────────────────────────────────────────
+
+    @Test
+    void toJsonBytes_matchesUtf8OfToJson() {
+        Map<String, String> value = Map.of("city", "Zürich");
+        assertThat(JsonUtils.toJsonBytes(value))
+                .isEqualTo(JsonUtils.toJson(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void toJsonBytes_throwsOnUnserializable() {
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+        assertThatThrownBy(() -> JsonUtils.toJsonBytes(selfRef))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to serialize");
+    }
+
+    @Test
+    void fromJson_readsByteSlice() {
+        byte[] buffer = "xx{\"name\":\"bored\"}yy".getBytes(StandardCharsets.UTF_8);
+        record Simple(String name) {}
+        assertThat(JsonUtils.fromJson(buffer, 2, buffer.length - 4, Simple.class).name()).isEqualTo("bored");
+    }
+
+    @Test
+    void fromJson_byteSliceThrowsOnInvalidJson() {
+        byte[] buffer = "not-json".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> JsonUtils.fromJson(buffer, 0, buffer.length, Map.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize");
+    }
+
+    @Test
+    void fromJson_readsHeapBufferWithoutMovingPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap("--\"hello\"".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        assertThat(JsonUtils.fromJson(buffer.slice(), String.class)).isEqualTo("hello");
+        assertThat(JsonUtils.fromJson(buffer, String.class)).isEqualTo("hello");
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    void fromJson_readsDirectBufferWithoutMovingPosition() {
+        byte[] bytes = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        @SuppressWarnings("unchecked")
+        Map<String, String> result = JsonUtils.fromJson(buffer, Map.class);
+        assertThat(result).containsEntry("key", "value");
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void fromJson_directBufferThrowsOnInvalidJson() {
+        byte[] bytes = "not-json".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertThatThrownBy(() -> JsonUtils.fromJson(buffer, Map.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ── streams ───────────────────────────────────────────────
+
+    @Test
+    void writeJson_writesUtf8AndLeavesStreamOpen() throws IOException {
+        OutputStream out = spy(new ByteArrayOutputStream());
+        JsonUtils.writeJson(Map.of("name", "bored"), out);
+
+        assertThat(out.toString()).isEqualTo("{\"name\":\"bored\"}");
+        verify(out, never()).close();
+    }
+
+    @Test
+    void writeJson_throwsOnUnserializable() {
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+        assertThatThrownBy(() -> JsonUtils.writeJson(selfRef, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to serialize");
+    }
+
+    @Test
+    void writeJson_wrapsStreamFailure() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        assertThatThrownBy(() -> JsonUtils.writeJson("x".repeat(10_000), broken))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to write JSON");
+    }
+
+    @Test
+    void fromJson_readsStreamAndLeavesItOpen() throws IOException {
+        InputStream in = spy(new ByteArrayInputStream("\"hello\"".getBytes(StandardCharsets.UTF_8)));
+        assertThat(JsonUtils.fromJson(in, String.class)).isEqualTo("hello");
+        verify(in, never()).close();
+    }
+
+    @Test
+    void fromJson_streamThrowsOnInvalidJson() {
+        InputStream in = new ByteArrayInputStream("not-json".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> JsonUtils.fromJson(in, Map.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize");
+    }
+
+    @Test
+    void fromJson_wrapsStreamFailure() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        assertThatThrownBy(() -> JsonUtils.fromJson(broken, Map.class))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to read JSON");
+    }
+
+    // ── stream ────────────────────────────────────────────────
+
+    @Test
+    void stream_readsTopLevelArray() {
+        InputStream in = new ByteArrayInputStream("[{\"sku\":\"a\",\"quantity\":1}, {\"sku\":\"b\",\"quantity\":2}]"
+                .getBytes(StandardCharsets.UTF_8));
+        try (Stream<Item> items = JsonUtils.stream(in, Item.class)) {
+            assertThat(items).containsExactly(new Item("a", 1), new Item("b", 2));
+        }
+    }
+
+    @Test
+    void stream_readsNdjson() {
+        InputStream in = new ByteArrayInputStream("{\"sku\":\"a\",\"quantity\":1}\n\n{\"sku\":\"b\",\"quantity\":2}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        try (Stream<Item> items = JsonUtils.stream(in, Item.class)) {
+            assertThat(items).containsExactly(new Item("a", 1), new Item("b", 2));
+        }
+    }
+
+    @Test
+    void stream_readsEmptyInputs() {
+        assertThat(JsonUtils.stream(new ByteArrayInputStream(new byte[0]), Item.class)).isEmpty();
+        assertThat(JsonUtils.stream(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), Item.class)).isEmpty();
+    }
+
+    @Test
+    void stream_pullsLazilyFromUnboundedInput() {
+        // An endless NDJSON source: only a lazy reader can take the first few elements.
+        InputStream endless = new InputStream() {
+            private final byte[] line = "{\"sku\":\"x\",\"quantity\":7}\n".getBytes(StandardCharsets.UTF_8);
+            private int pos;
+
+            @Override
+            public int read() {
+                byte b = line[pos];
+                pos = (pos + 1) % line.length;
+                return b;
+            }
+        };
+        try (Stream<Item> items = JsonUtils.stream(endless, Item.class)) {
+            assertThat(items.limit(10_000)).hasSize(10_000).allMatch(item -> item.quantity() == 7);
+        }
+    }
+
+    @Test
+    void stream_closesParserButNotSource() throws IOException {
+        InputStream in = spy(new ByteArrayInputStream("[1,2,3]".getBytes(StandardCharsets.UTF_8)));
+        Stream<Integer> numbers = JsonUtils.stream(in, Integer.class);
+        assertThat(numbers.iterator().next()).isEqualTo(1);
+        numbers.close();
+        verify(in, never()).close();
+    }
+
+    @Test
+    void stream_throwsOnMalformedElement() {
+        InputStream in = new ByteArrayInputStream("[1, 2, oops]".getBytes(StandardCharsets.UTF_8));
+        Iterator<Integer> numbers = JsonUtils.stream(in, Integer.class).iterator();
+        assertThat(numbers.next()).isEqualTo(1);
+        assertThat(numbers.next()).isEqualTo(2);
+        assertThatThrownBy(numbers::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize");
+    }
+
+    @Test
+    void stream_throwsOnUnbindableElement() {
+        InputStream in = new ByteArrayInputStream("[1, {\"a\":1}]".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> JsonUtils.stream(in, Integer.class).toList())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void stream_throwsPastTheEnd() {
+        Iterator<Integer> numbers = JsonUtils.stream(new ByteArrayInputStream("[1]".getBytes(StandardCharsets.UTF_8)), Integer.class)
+                .iterator();
+        numbers.next();
+        assertThatThrownBy(numbers::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void stream_wrapsSourceFailures() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        assertThatThrownBy(() -> JsonUtils.stream(broken, Integer.class))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to read JSON");
+        assertThatThrownBy(() -> JsonUtils.stream(new ByteArrayInputStream("}".getBytes(StandardCharsets.UTF_8)), Integer.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void stream_wrapsFailuresMidway() {
+        Iterator<Integer> numbers = JsonUtils.stream(failingAfter("[1,  "), Integer.class).iterator();
+        assertThat(numbers.next()).isEqualTo(1);
+        assertThatThrownBy(numbers::hasNext)
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to read JSON");
+
+        Iterator<Item> items = JsonUtils.stream(failingAfter("[{\"sku\":"), Item.class).iterator();
+        assertThatThrownBy(items::next)
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Failed to read JSON");
+    }
+
+    /** Serves {@code head}, then fails every read. */
+    private static InputStream failingAfter(String head) {
+        byte[] bytes = head.getBytes(StandardCharsets.UTF_8);
+        return new InputStream() {
+            private int pos;
+
+            @Override
+            public int read() throws IOException {
+                if (pos < bytes.length) return bytes[pos++];
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (pos >= bytes.length) throw new IOException("connection reset");
+                int n = Math.min(len, bytes.length - pos);
+                System.arraycopy(bytes, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+        };
+    }
+
+    // ── extract ───────────────────────────────────────────────
+
+    private static final String ORDER_DOC = """
+            {"id":7,"type":"order","meta":{"version":3,"tags":["a","b"]},
+             "items":[{"sku":"x"},{"sku":"y"}],"note":null}""";
+
+    @Test
+    void extract_returnsTypedScalarsAndSubtreesInPointerOrder() {
+        Map<JsonPointer, JsonNode> found = JsonUtils.extract(ORDER_DOC.getBytes(StandardCharsets.UTF_8),
+                JsonPointer.compile("/items/1/sku"), JsonPointer.compile("/id"),
+                JsonPointer.compile("/meta/tags"), JsonPointer.compile("/note"), JsonPointer.compile("/missing"));
+
+        assertThat(found.keySet()).extracting(JsonPointer::toString)
+                .containsExactly("/items/1/sku", "/id", "/meta/tags", "/note");
+        assertThat(found.get(JsonPointer.compile("/items/1/sku")).asText()).isEqualTo("y");
+        assertThat(found.get(JsonPointer.compile("/id")).isInt()).isTrue();
+        assertThat(found.get(JsonPointer.compile("/id")).intValue()).isEqualTo(7);
+        assertThat(found.get(JsonPointer.compile("/meta/tags")).toString()).isEqualTo("[\"a\",\"b\"]");
+        assertThat(found.get(JsonPointer.compile("/note")).isNull()).isTrue();
+    }
+
+    @Test
+    void extract_resolvesNestedAndRootPointers() {
+        Map<JsonPointer, JsonNode> found = JsonUtils.extract(ORDER_DOC,
+                JsonPointer.compile("/meta"), JsonPointer.compile("/meta/version"),
+                JsonPointer.compile("/meta/version"), JsonPointer.compile("/meta/tags/5"));
+
+        assertThat(found).hasSize(2);
+        assertThat(found.get(JsonPointer.compile("/meta/version")).intValue()).isEqualTo(3);
+        assertThat(JsonUtils.extract("[[1,2],[3,4]]", JsonPointer.compile("/1/0"), JsonPointer.empty()))
+                .containsEntry(JsonPointer.compile("/1/0"), JsonUtils.mapper().getNodeFactory().numberNode(3))
+                .containsKey(JsonPointer.empty());
+    }
+
+    @Test
+    void extract_takesTheFirstOfDuplicateKeys() {
+        assertThat(JsonUtils.extract("{\"v\":1,\"v\":2,\"w\":3}", JsonPointer.compile("/v"), JsonPointer.compile("/w")))
+                .extractingByKey(JsonPointer.compile("/v")).extracting(JsonNode::intValue).isEqualTo(1);
+    }
+
+    @Test
+    void extract_stopsReadingOnceEveryPointerIsResolved() throws IOException {
+        InputStream head = new ByteArrayInputStream("{\"id\":\"a-1\",\"type\":\"order\",\"payload\":[".getBytes(StandardCharsets.UTF_8));
+        InputStream tail = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("should not be read");
+            }
+        };
+        InputStream json = spy(new SequenceInputStream(head, tail));
+
+        Map<JsonPointer, JsonNode> found = JsonUtils.extract(json, JsonPointer.compile("/type"), JsonPointer.compile("/id"));
+
+        assertThat(found.values()).extracting(JsonNode::asText).containsExactly("order", "a-1");
+        verify(json, never()).close();
+    }
+
+    @Test
+    void extract_returnsEmptyForNoPointersOrEmptyInput() {
+        assertThat(JsonUtils.extract("not even json")).isEmpty();
+        assertThat(JsonUtils.extract(new byte[0], JsonPointer.compile("/id"))).isEmpty();
+        assertThat(JsonUtils.extract("{\"a\":{\"b\":1}}", JsonPointer.compile("/a/c"), JsonPointer.compile("/a/b/c"))).isEmpty();
+    }
+
+    @Test
+    void extract_throwsOnMalformedJsonBeforeTheMatch() {
+        assertThatThrownBy(() -> JsonUtils.extract("{\"a\": oops, \"id\": 1}", JsonPointer.compile("/id")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize JSON");
+    }
+
+    @Test
+    void extract_rejectsNullPointers() {
+        assertThatThrownBy(() -> JsonUtils.extract("{}", JsonPointer.compile("/id"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("null");
+    }
+
+    @Test
+    void extract_wrapsStreamFailure() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> JsonUtils.extract(broken, JsonPointer.compile("/id")))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    // ── generic types ─────────────────────────────────────────
+
+    @Test
+    void fromJson_readsTypeReference() {
+        List<Item> items = JsonUtils.fromJson("[{\"sku\":\"a\",\"quantity\":2}]", new TypeReference<List<Item>>() {});
+        assertThat(items).containsExactly(new Item("a", 2));
+    }
+
+    @Test
+    void fromJson_readsJavaType() {
+        JavaType type = JsonUtils.mapper().getTypeFactory().constructMapType(Map.class, String.class, Item.class);
+        Map<String, Item> items = JsonUtils.fromJson("{\"x\":{\"sku\":\"b\",\"quantity\":1}}", type);
+        assertThat(items).containsEntry("x", new Item("b", 1));
+    }
+
+    @Test
+    void fromJson_typeReferenceThrowsOnInvalidJson() {
+        assertThatThrownBy(() -> JsonUtils.fromJson("[1,", new TypeReference<List<Item>>() {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize");
+    }
+
+    // ── cached & named readers/writers ────────────────────────
+
+    @Test
+    void reader_isCachedPerType() {
+        JavaType type = JsonUtils.mapper().getTypeFactory().constructCollectionType(List.class, Item.class);
+        assertThat(JsonUtils.reader(Item.class)).isSameAs(JsonUtils.reader(Item.class));
+        assertThat(JsonUtils.reader(type)).isSameAs(JsonUtils.reader(type));
+        assertThat(JsonUtils.writer(Item.class)).isSameAs(JsonUtils.writer(Item.class));
+    }
+
+    @Test
+    void toJson_serializesNull() {
+        assertThat(JsonUtils.toJson(null)).isEqualTo("null");
+    }
+
+    @Test
+    void namedReaderAndWriter_applyTheirView() {
+        JsonUtils.registerReader("test.account.public", JsonUtils.reader(Account.class).withView(Views.Public.class));
+        JsonUtils.registerWriter("test.account.public", JsonUtils.writer(Account.class).withView(Views.Public.class));
+
+        Account account = JsonUtils.fromJsonWith("{\"name\":\"bored\",\"secret\":\"s3\"}", "test.account.public");
+        assertThat(account.name).isEqualTo("bored");
+        assertThat(account.secret).isNull();
+
+        account.secret = "s3";
+        assertThat(JsonUtils.toJsonWith(account, "test.account.public")).isEqualTo("{\"name\":\"bored\"}");
+    }
+
+    @Test
+    void namedReader_throwsOnInvalidJson() {
+        JsonUtils.registerReader("test.item.invalid", JsonUtils.reader(Item.class));
+        assertThatThrownBy(() -> JsonUtils.fromJsonWith("not-json", "test.item.invalid"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to deserialize");
+    }
+
+    @Test
+    void namedWriter_throwsOnUnserializable() {
+        JsonUtils.registerWriter("test.self.ref", JsonUtils.writer(Object[].class));
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+        assertThatThrownBy(() -> JsonUtils.toJsonWith(selfRef, "test.self.ref"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Failed to serialize");
+    }
+
+    @Test
+    void register_rejectsDuplicateBlankAndNull() {
+        JsonUtils.registerReader("test.duplicate", JsonUtils.reader(Item.class));
+        assertThatThrownBy(() -> JsonUtils.registerReader("test.duplicate", JsonUtils.reader(Item.class)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("already registered");
+        assertThatThrownBy(() -> JsonUtils.registerWriter(" ", JsonUtils.writer(Item.class)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonUtils.registerWriter("test.null", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void named_throwsWhenUnknown() {
+        assertThatThrownBy(() -> JsonUtils.fromJsonWith("{}", "test.missing"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No JSON reader");
+        assertThatThrownBy(() -> JsonUtils.toJsonWith("x", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No JSON writer");
+    }
+
+    // ── blackbird ─────────────────────────────────────────────
+
+    @Test
+    void blackbird_isOffByDefault() {
+        assertThat(JsonUtils.blackbird()).isFalse();
+    }
+
+    @Test
+    void newMapper_registersBlackbirdWhenRequested() throws Exception {
+        ObjectMapper mapper = JsonUtils.newMapper(JsonUtils.bufferPool(), true, JsonUtils.BLACKBIRD_MODULE);
+        assertThat(JsonUtils.usesBlackbird(mapper)).isTrue();
+
+        Item item = new Item("a", 2);
+        assertThat(mapper.readValue(mapper.writeValueAsBytes(item), Item.class)).isEqualTo(item);
+        assertThat(mapper.writeValueAsString(Map.of("date", LocalDate.of(2026, 2, 15))))
+                .isEqualTo("{\"date\":\"2026-02-15\"}");
+    }
+
+    @Test
+    void newMapper_staysOnReflectionWhenModuleMissingOrNotRequested() {
+        assertThat(JsonUtils.usesBlackbird(JsonUtils.newMapper(JsonUtils.bufferPool(), true, "com.example.MissingModule"))).isFalse();
+        assertThat(JsonUtils.usesBlackbird(JsonUtils.newMapper(JsonUtils.bufferPool(), false, JsonUtils.BLACKBIRD_MODULE))).isFalse();
+    }
+
     // ── mapper ────────────────────────────────────────────────
 
     @Test
     void mapper_returnsNonNull() {
         assertThat(JsonUtils.mapper()).isNotNull();
     }
+
+    @Test
+    void setMapper_delegatesToTheInstalledMapper() {
+        ObjectMapper builtIn = JsonUtils.mapper();
+        ObjectReader builtInReader = JsonUtils.reader(Item.class);
+        JsonBufferPool builtInPool = JsonUtils.bufferPool();
+        ObjectMapper spring = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+        try {
+            assertThat(JsonUtils.setMapper(spring)).isSameAs(builtIn);
+            assertThat(JsonUtils.mapper()).isSameAs(spring);
+            assertThat(JsonUtils.toJson(new Item("a", 2))).isEqualTo("{\"Sku\":\"a\",\"Quantity\":2}");
+            assertThat(JsonUtils.toJsonBytes(null)).asString().isEqualTo("null");
+            assertThat(JsonUtils.fromJson("{\"Sku\":\"b\",\"Quantity\":3}", Item.class)).isEqualTo(new Item("b", 3));
+            assertThat(JsonUtils.fromJson("[{\"Sku\":\"c\",\"Quantity\":4}]", new TypeReference<List<Item>>() {}))
+                    .containsExactly(new Item("c", 4));
+            assertThat(JsonUtils.reader(Item.class)).isNotSameAs(builtInReader);
+            assertThat(JsonUtils.bufferPool()).isSameAs(builtInPool);
+        } finally {
+            JsonUtils.setMapper(null);
+        }
+        assertThat(JsonUtils.mapper()).isSameAs(builtIn);
+        assertThat(JsonUtils.reader(Item.class)).isSameAs(builtInReader);
+    }
+
+    @Test
+    void setMapper_keepsCachesForTheSameMapper() {
+        ObjectMapper spring = new ObjectMapper();
+        try {
+            JsonUtils.setMapper(spring);
+            ObjectReader reader = JsonUtils.reader(Item.class);
+            assertThat(JsonUtils.setMapper(spring)).isSameAs(spring);
+            assertThat(JsonUtils.reader(Item.class)).isSameAs(reader);
+        } finally {
+            JsonUtils.setMapper(null);
+        }
+    }
+
+    record Tag(String value) {}
+
+    @Test
+    void mapper_changesAfterFirstUseTakeEffect() throws Exception {
+        ObjectMapper spring = new ObjectMapper();
+        try {
+            JsonUtils.setMapper(spring);
+            assertThat(JsonUtils.toJson(new Item("a", 1))).isEqualTo("{\"sku\":\"a\",\"quantity\":1}");
+            assertThatThrownBy(() -> JsonUtils.fromJson("{\"sku\":\"b\",\"extra\":0}", Item.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+            ObjectReader reader = JsonUtils.reader(Item.class);
+
+            JsonUtils.mapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .registerModule(new SimpleModule().addSerializer(Tag.class, new StdSerializer<>(Tag.class) {
+                        @Override
+                        public void serialize(Tag tag, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                            gen.writeString("#" + tag.value());
+                        }
+                    }));
+
+            assertThat(JsonUtils.toJson(new Item("a", 1))).isEqualTo(spring.writeValueAsString(new Item("a", 1)))
+                    .contains("\n");
+            assertThat(JsonUtils.fromJson("{\"sku\":\"b\",\"extra\":0}", Item.class)).isEqualTo(new Item("b", 0));
+            assertThat(JsonUtils.toJson(new Tag("java"))).isEqualTo("\"#java\"");
+            assertThat(JsonUtils.reader(Item.class)).isNotSameAs(reader);
+            assertThat(JsonUtils.mapper()).isSameAs(spring);
+        } finally {
+            JsonUtils.setMapper(null);
+        }
+    }
+
+    @Test
+    void bufferPool_followsTheInstalledMapper() {
+        JsonBufferPool pool = JsonBufferPool.create(JsonBufferPool.Strategy.BOUNDED, 4);
+        ObjectMapper spring = new ObjectMapper();
+        spring.getFactory().setRecyclerPool(pool);
+        try {
+            JsonUtils.setMapper(spring);
+            JsonUtils.toJson(new Item("a", 1));
+            assertThat(JsonUtils.bufferPool()).isSameAs(pool);
+            assertThat(pool.hits() + pool.misses()).isPositive();
+        } finally {
+            JsonUtils.setMapper(null);
+        }
+    }
+
+    @Test
+    void stringDedup_followsTheInstalledMapper() {
+        StringDedupModule builtIn = JsonUtils.stringDedup();
+        StringDedupModule dedup = StringDedupModule.create(StringDedupModule.Scope.ALL, 16);
+        try {
+            JsonUtils.setMapper(new ObjectMapper().registerModule(dedup));
+            JsonUtils.fromJson("{\"sku\":\"a\",\"quantity\":1}", Item.class);
+            assertThat(JsonUtils.stringDedup()).isSameAs(dedup);
+            assertThat(dedup.misses()).isEqualTo(1);
+            JsonUtils.setMapper(new ObjectMapper());
+            assertThat(JsonUtils.stringDedup()).isSameAs(builtIn);
+        } finally {
+            JsonUtils.setMapper(null);
+        }
+        assertThat(builtIn.scope()).isEqualTo(StringDedupModule.Scope.ANNOTATED);
+    }
 }
@@ -0,0 +1,111 @@
+package dev.bored.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SlugPrefixIndexTest {
+
+    private static SlugPrefixIndex companies() {
+        return SlugPrefixIndex.builder()
+                .add("Deloitte Consulting", 1, 10)
+                .add("Deloitte Digital", 2, 30)
+                .add("Dell Technologies", 3, 20)
+                .add("Accenture", 4)
+                .add("Deloitte Consulting", 5, 30)
+                .build();
+    }
+
+    @Test
+    void find_returnsPrefixMatchesInSlugOrder() {
+        List<SlugPrefixIndex.Match> matches = companies().find("Deloitte ", 10);
+        assertThat(matches).extracting(SlugPrefixIndex.Match::slug)
+                .containsExactly("deloitte-consulting", "deloitte-consulting", "deloitte-digital");
+        assertThat(matches).extracting(SlugPrefixIndex.Match::id).containsExactly(1L, 5L, 2L);
+    }
+
+    @Test
+    void find_honorsLimitAndMisses() {
+        SlugPrefixIndex index = companies();
+        assertThat(index.find("del", 2)).hasSize(2);
+        assertThat(index.find("zzz", 5)).isEmpty();
+        assertThat(index.find("del", 0)).isEmpty();
+        assertThat(index.find(null, 10)).hasSize(5);
+    }
+
+    @Test
+    void top_ordersByWeightThenSlug() {
+        List<SlugPrefixIndex.Match> matches = companies().top("de", 3);
+        assertThat(matches).extracting(SlugPrefixIndex.Match::id).containsExactly(5L, 2L, 3L);
+        assertThat(companies().top("de", 0)).isEmpty();
+    }
+
+    @Test
+    void emptyIndex_returnsNothing() {
+        SlugPrefixIndex index = SlugPrefixIndex.builder().build();
+        assertThat(index.size()).isZero();
+        assertThat(index.find("a", 5)).isEmpty();
+        assertThat(index.top("a", 5)).isEmpty();
+        assertThat(index.footprintPerMillionEntries()).isZero();
+    }
+
+    @Test
+    void add_rejectsNamesWithoutSlugChars() {
+        assertThatThrownBy(() -> SlugPrefixIndex.builder().add("!!!", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void build_handlesKeysLongerThanOneVarIntByte() {
+        String longName = "acme " + "x".repeat(300);
+        SlugPrefixIndex index = SlugPrefixIndex.builder()
+                .add(longName, 1)
+                .add(longName + " labs", 2)
+                .build();
+
+        assertThat(index.find("acme", 5)).extracting(SlugPrefixIndex.Match::slug)
+                .containsExactly(StringUtils.slugify(longName), StringUtils.slugify(longName + " labs"));
+    }
+
+    @Test
+    void lookups_matchBruteForceAcrossBlocks() {
+        Random random = new Random(99);
+        String alphabet = "abcde -";
+        SlugPrefixIndex.Builder builder = SlugPrefixIndex.builder();
+        List<SlugPrefixIndex.Match> all = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder name = new StringBuilder("x");
+            int len = random.nextInt(200) == 0 ? 80 : random.nextInt(8);   // some keys outgrow the cursor buffer
+            for (int k = 0; k < len; k++) name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            int weight = random.nextInt(50);
+            builder.add(name.toString(), i, weight);
+            all.add(new SlugPrefixIndex.Match(StringUtils.slugify(name.toString()), i, weight));
+        }
+        SlugPrefixIndex index = builder.build();
+        all.sort(Comparator.comparing(SlugPrefixIndex.Match::slug).thenComparingLong(SlugPrefixIndex.Match::id));
+
+        for (int q = 0; q < 500; q++) {
+            StringBuilder typed = new StringBuilder("x");
+            for (int k = random.nextInt(4); k > 0; k--) typed.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String prefix = StringUtils.slugify(typed.toString());
+            int k = 1 + random.nextInt(10);
+            List<SlugPrefixIndex.Match> matching = all.stream().filter(m -> m.slug().startsWith(prefix)).toList();
+
+            assertThat(index.find(prefix, k)).isEqualTo(matching.stream().limit(k).toList());
+            assertThat(index.top(prefix, k)).isEqualTo(matching.stream()
+                    .sorted(Comparator.comparingInt(SlugPrefixIndex.Match::weight).reversed())
+                    .limit(k).toList());
+        }
+        assertThat(index.top(null, 7)).isEqualTo(all.stream()
+                .sorted(Comparator.comparingInt(SlugPrefixIndex.Match::weight).reversed())
+                .limit(7).toList());
+        assertThat(index.top("y", 3)).isEmpty();
+        assertThat(index.size()).isEqualTo(5_000);
+        assertThat(index.footprintBytes()).isLessThan(5_000L * 40);
+    }
+}
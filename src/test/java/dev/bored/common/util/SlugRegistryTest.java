@@ -0,0 +1,85 @@
+package dev.bored.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SlugRegistryTest {
+
+    @Test
+    void claim_returnsBareSlugThenSuffixes() {
+        SlugRegistry registry = new SlugRegistry();
+        assertThat(registry.claim("Deloitte Consulting")).isEqualTo("deloitte-consulting");
+        assertThat(registry.claim("Deloitte  consulting!")).isEqualTo("deloitte-consulting-2");
+        assertThat(registry.claim("DELOITTE CONSULTING")).isEqualTo("deloitte-consulting-3");
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    void claim_throwsWhenNameHasNoSlugChars() {
+        SlugRegistry registry = new SlugRegistry();
+        assertThatThrownBy(() -> registry.claim("!!!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.claim(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void claim_isUniqueUnderConcurrency() throws InterruptedException {
+        SlugRegistry registry = new SlugRegistry();
+        Set<String> slugs = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 10_000).forEach(i -> pool.execute(() -> slugs.add(registry.claim("Acme"))));
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(slugs).hasSize(10_000).contains("acme", "acme-2", "acme-10000");
+    }
+
+    @Test
+    void seed_marksExistingSlugsAndAdvancesCounter() {
+        SlugRegistry registry = new SlugRegistry();
+        registry.seed(List.of("acme", "acme-7", "", "route-12345678901"));
+
+        assertThat(registry.isTaken("acme-7")).isTrue();
+        assertThat(registry.isTaken("route-12345678901")).isTrue();
+        assertThat(registry.claim("Acme")).isEqualTo("acme-8");
+    }
+
+    @Test
+    void release_reusesFreedSuffixBeforeCounter() {
+        SlugRegistry registry = new SlugRegistry();
+        registry.claim("Acme");
+        String second = registry.claim("Acme");
+        registry.claim("Acme");
+
+        assertThat(registry.release(second)).isTrue();
+        assertThat(registry.isTaken(second)).isFalse();
+        assertThat(registry.claim("Acme")).isEqualTo(second);
+        assertThat(registry.claim("Acme")).isEqualTo("acme-4");
+    }
+
+    @Test
+    void release_freesBareSlug() {
+        SlugRegistry registry = new SlugRegistry();
+        registry.claim("Acme");
+        registry.claim("Acme");
+
+        assertThat(registry.release("acme")).isTrue();
+        assertThat(registry.claim("Acme")).isEqualTo("acme");
+    }
+
+    @Test
+    void release_returnsFalseForUnknownOrNull() {
+        SlugRegistry registry = new SlugRegistry();
+        assertThat(registry.release("nope")).isFalse();
+        assertThat(registry.release(null)).isFalse();
+        assertThat(registry.isTaken(null)).isFalse();
+    }
+}
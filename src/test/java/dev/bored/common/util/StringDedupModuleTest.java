@@ -0,0 +1,224 @@
+package dev.bored.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StringDedupModuleTest {
+
+    record Profile(String name, String bio, @JsonDedup String company, @JsonDedup String country,
+                   @JsonDedup String role, @JsonDedup List<String> skills) {}
+
+    static class Listing {
+        @JsonDedup
+        private String city;
+        private String title;
+        @JsonDedup
+        private Map<String, String> labels;
+        @JsonDedup
+        private String[] tags;
+
+        public String getCity() { return city; }
+        public void setCity(String city) { this.city = city; }
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public Map<String, String> getLabels() { return labels; }
+        public void setLabels(Map<String, String> labels) { this.labels = labels; }
+        public String[] getTags() { return tags; }
+        public void setTags(String[] tags) { this.tags = tags; }
+    }
+
+    private static final String LISTING = """
+            {"city":"Paris","title":"Loft","labels":{"a":"Paris","b":"new"},"tags":["new","Paris"]}""";
+
+    private static ObjectMapper mapper(StringDedupModule module) {
+        return new ObjectMapper().registerModule(module);
+    }
+
+    /** An equal string that is not the literal's instance. */
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+
+    // ── deserialization ───────────────────────────────────────
+
+    @Test
+    void all_sharesEqualValuesAcrossDocumentsAndInputs() throws Exception {
+        StringDedupModule dedup = StringDedupModule.create(StringDedupModule.Scope.ALL, 64);
+        ObjectMapper mapper = mapper(dedup);
+
+        List<String> fromString = mapper.readValue("[\"DE\",\"DE\"]", new TypeReference<>() {});
+        List<String> fromBytes = mapper.readValue("[\"DE\"]".getBytes(), new TypeReference<>() {});
+        List<String> fromReader = mapper.readValue(new StringReader("[\"DE\"]"), new TypeReference<>() {});
+        List<String> fromTree = mapper.treeToValue(mapper.readTree("[\"DE\"]"), new TypeReference<>() {});
+
+        assertThat(fromString.get(1)).isSameAs(fromString.get(0))
+                .isSameAs(fromBytes.get(0))
+                .isSameAs(fromReader.get(0))
+                .isSameAs(fromTree.get(0));
+        assertThat(dedup.misses()).isEqualTo(1);
+        assertThat(dedup.hits()).isEqualTo(4);
+        assertThat(dedup.hitRate()).isEqualTo(0.8);
+    }
+
+    @Test
+    void all_coversUntypedAndUnmarkedValues() throws Exception {
+        ObjectMapper mapper = mapper(StringDedupModule.create(StringDedupModule.Scope.ALL, 64));
+
+        Map<String, Object> untyped = mapper.readValue("{\"a\":\"x\",\"b\":[\"x\"]}", new TypeReference<>() {});
+        Listing listing = mapper.readValue("{\"title\":\"x\",\"city\":\"x\"}", Listing.class);
+
+        assertThat(((List<?>) untyped.get("b")).get(0)).isSameAs(untyped.get("a"));
+        assertThat(listing.getTitle()).isSameAs(listing.getCity()).isSameAs(untyped.get("a"));
+    }
+
+    @Test
+    void annotated_dedupsMarkedPropertiesOnly() throws Exception {
+        ObjectMapper mapper = mapper(StringDedupModule.create(StringDedupModule.Scope.ANNOTATED, 64));
+
+        Listing first = mapper.readValue(LISTING, Listing.class);
+        Listing second = mapper.readValue(LISTING, Listing.class);
+        Profile a = mapper.readValue("{\"name\":\"Ann\",\"bio\":\"Java\",\"company\":\"Acme\",\"skills\":[\"Java\"]}",
+                Profile.class);
+        Profile b = mapper.readValue("{\"name\":\"Ann\",\"bio\":\"Java\",\"company\":\"Acme\",\"skills\":[\"Java\"]}",
+                Profile.class);
+
+        assertThat(second.getCity()).isSameAs(first.getCity())
+                .isSameAs(first.getLabels().get("a"))
+                .isSameAs(first.getTags()[1]);
+        assertThat(second.getTags()[0]).isSameAs(first.getLabels().get("b"));
+        assertThat(second.getTitle()).isEqualTo(first.getTitle()).isNotSameAs(first.getTitle());
+        assertThat(b.company()).isSameAs(a.company());
+        assertThat(b.skills().get(0)).isSameAs(a.skills().get(0));
+        assertThat(b.name()).isNotSameAs(a.name());
+        assertThat(b.bio()).isNotSameAs(a.bio());
+    }
+
+    @Test
+    void deserialization_keepsJacksonCoercionsAndNulls() throws Exception {
+        ObjectMapper mapper = mapper(StringDedupModule.create(StringDedupModule.Scope.ALL, 64));
+
+        List<String> values = mapper.readValue("[42,true,null,\"\"]", new TypeReference<>() {});
+
+        assertThat(values).containsExactly("42", "true", null, "");
+        assertThatThrownBy(() -> mapper.readValue("{\"city\":{}}", Listing.class))
+                .isInstanceOf(com.fasterxml.jackson.databind.exc.MismatchedInputException.class)
+                .hasMessageContaining("city");
+    }
+
+    // ── table ─────────────────────────────────────────────────
+
+    @Test
+    void dedup_returnsTheInstanceAlreadyInTheTable() {
+        StringDedupModule dedup = StringDedupModule.create(StringDedupModule.Scope.ANNOTATED, 64);
+        String first = copy("Acme");
+
+        assertThat(dedup.dedup(first)).isSameAs(first);
+        assertThat(dedup.dedup(copy("Acme"))).isSameAs(first);
+        assertThat(dedup.dedup((String) null)).isNull();
+        assertThat(dedup.hits()).isEqualTo(1);
+        assertThat(dedup.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void dedup_bypassesLongStrings() {
+        StringDedupModule dedup = StringDedupModule.create(StringDedupModule.Scope.ALL, 64);
+        String bio = "x".repeat(StringDedupModule.MAX_LENGTH + 1);
+
+        dedup.dedup(bio);
+
+        assertThat(dedup.dedup(copy(bio))).isNotSameAs(bio);
+        assertThat(dedup.hits() + dedup.misses()).isZero();
+        assertThat(dedup.hitRate()).isZero();
+    }
+
+    @Test
+    void dedup_evictsTheLeastRecentlyUsedValueOfASet() {
+        // Two slots form a single set.
+        StringDedupModule dedup = StringDedupModule.create(StringDedupModule.Scope.ALL, 1);
+        String a = copy("a");
+        String b = copy("b");
+
+        dedup.dedup(a);
+        dedup.dedup(b);
+        assertThat(dedup.dedup(copy("a"))).isSameAs(a);
+        dedup.dedup("c");
+
+        assertThat(dedup.dedup(copy("a"))).isSameAs(a);
+        assertThat(dedup.dedup(copy("b"))).isNotSameAs(b);
+        assertThat(dedup.capacity()).isEqualTo(2);
+    }
+
+    @Test
+    void create_rejectsBadArguments() {
+        assertThat(StringDedupModule.create(StringDedupModule.Scope.ALL, 1000).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> StringDedupModule.create(null, 16)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StringDedupModule.create(StringDedupModule.Scope.ALL, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void scope_parsesPropertyValues() {
+        assertThat(StringDedupModule.Scope.parse(" all ", StringDedupModule.Scope.ANNOTATED))
+                .isEqualTo(StringDedupModule.Scope.ALL);
+        assertThat(StringDedupModule.Scope.parse(null, StringDedupModule.Scope.ANNOTATED))
+                .isEqualTo(StringDedupModule.Scope.ANNOTATED);
+        assertThatThrownBy(() -> StringDedupModule.Scope.parse("some", StringDedupModule.Scope.ALL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("some");
+    }
+
+    // ── retained heap ─────────────────────────────────────────
+
+    @Test
+    void retainedStringHeap_dropsOnACatalogPayload() throws Exception {
+        byte[] json = new ObjectMapper().writeValueAsBytes(catalog(5_000));
+        TypeReference<List<Profile>> type = new TypeReference<>() {};
+        StringDedupModule dedup = StringDedupModule.create(StringDedupModule.Scope.ANNOTATED, 4096);
+
+        long plain = retainedStringBytes(new ObjectMapper().readValue(json, type));
+        long deduped = retainedStringBytes(mapper(dedup).readValue(json, type));
+
+        // company, country, role and five skills repeat; name and bio don't.
+        assertThat(deduped).isLessThan(plain / 2);
+        assertThat(dedup.hitRate()).isGreaterThan(0.95);
+    }
+
+    private static List<Profile> catalog(int size) {
+        List<Profile> profiles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<String> skills = new ArrayList<>();
+            for (int s = 0; s < 5; s++) skills.add("skill-" + (i * 7 + s * 13) % 200);
+            profiles.add(new Profile("Person " + i, "Builds backend services at scale, profile #" + i,
+                    "Company " + i % 50, "C" + (char) ('A' + i % 20), "Role " + i % 30, skills));
+        }
+        return profiles;
+    }
+
+    /**
+     * Heap held by the distinct {@code String} instances of the catalog,
+     * counting each instance once: a 24-byte {@code String} plus its
+     * Latin-1 {@code byte[]} (16-byte header, padded to 8 bytes) on a
+     * 64-bit JVM with compressed oops.
+     */
+    private static long retainedStringBytes(List<Profile> profiles) {
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Profile p : profiles) {
+            seen.addAll(List.of(p.name(), p.bio(), p.company(), p.country(), p.role()));
+            seen.addAll(p.skills());
+        }
+        long bytes = 0;
+        for (String s : seen) bytes += 24 + ((16 + s.length() + 7) & ~7);
+        return bytes;
+    }
+}
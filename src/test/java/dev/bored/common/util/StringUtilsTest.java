@@ -5,6 +5,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.*;
 
 class StringUtilsTest {
@@ -28,6 +35,44 @@ class StringUtilsTest {
         assertThat(StringUtils.slugify(null)).isNull();
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "'e\u0301cole  Normale', ecole-normale",   // pre-decomposed accent
+            "Ærø Straße, r-stra-e",                        // no decomposition — separators
+            "Łódź, odz",
+            "'Ωmega Ltd', mega-ltd",                       // Greek — Normalizer path
+            "'---', ''",
+    })
+    void slugify_handlesDiacriticsAndFallback(String input, String expected) {
+        assertThat(StringUtils.slugify(input)).isEqualTo(expected);
+    }
+
+    @Test
+    void slugify_matchesNormalizerPathOnGeneratedCorpus() {
+        Random random = new Random(2026);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = random.nextInt(24);
+            for (int k = 0; k < len; k++) {
+                int bucket = random.nextInt(100);
+                if (bucket < 60) sb.append((char) (0x20 + random.nextInt(0x5f)));        // printable ASCII
+                else if (bucket < 85) sb.append((char) (0x80 + random.nextInt(0x2f0)));  // Latin-1 / Extended
+                else if (bucket < 92) sb.append((char) (0x300 + random.nextInt(0x70)));  // combining marks
+                else sb.append((char) (0x370 + random.nextInt(0x2000)));                 // beyond the table
+            }
+            String input = sb.toString();
+            assertThat(StringUtils.slugify(input)).as(input).isEqualTo(legacySlugify(input));
+        }
+    }
+
+    /** The original Normalizer + regex implementation, kept verbatim as the reference. */
+    private static String legacySlugify(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("[\\p{InCombiningDiacriticalMarks}]", "");
+        String slug = normalized.toLowerCase(Locale.ENGLISH).replaceAll("[^a-z0-9]+", "-");
+        return slug.replaceAll("^-|-$", "");
+    }
+
     // ── truncate ──────────────────────────────────────────────
 
     @Test
@@ -123,6 +168,89 @@ class StringUtilsTest {
         assertThat(StringUtils.trimSafe(null)).isNull();
     }
 
+    // ── Appendable overloads ──────────────────────────────────
+
+    @Test
+    void appendableOverloads_appendToTarget() {
+        StringBuilder sb = new StringBuilder("> ");
+        StringUtils.slugify(new StringBuilder("Café Résumé"), sb).append(' ');
+        StringUtils.toTitleCase("  bored\tsoftware  developer ", sb).append(' ');
+        StringUtils.truncate("hello world", 8, sb).append(' ');
+        StringUtils.trimSafe("  hi  ", sb);
+        assertThat(sb).hasToString("> cafe-resume Bored Software Developer hello... hi");
+    }
+
+    @Test
+    void appendableOverloads_appendNothingForNull() {
+        StringBuilder sb = new StringBuilder();
+        StringUtils.slugify(null, sb);
+        StringUtils.toTitleCase(null, sb);
+        StringUtils.truncate(null, 5, sb);
+        StringUtils.trimSafe(null, sb);
+        assertThat(sb).isEmpty();
+    }
+
+    @Test
+    void appendableOverloads_keepNormalizerFallbackAndBlankInput() {
+        assertThat(StringUtils.slugify("Ωmega Ltd", new StringBuilder())).hasToString("mega-ltd");
+        assertThat(StringUtils.toTitleCase(" \t ", new StringBuilder())).hasToString(" \t ");
+        assertThat(StringUtils.truncate("abc", 3, new StringBuilder())).hasToString("abc");
+    }
+
+    @Test
+    void appendableOverloads_wrapIoExceptions() {
+        Appendable failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() { }
+
+            @Override
+            public void close() { }
+        };
+        assertThatThrownBy(() -> StringUtils.slugify("a", failing)).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> StringUtils.slugify("Ω", failing)).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> StringUtils.toTitleCase("a", failing)).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> StringUtils.truncate("a", 3, failing)).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> StringUtils.trimSafe("a", failing)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void truncate_appendableThrowsIfMaxLengthTooSmall() {
+        assertThatThrownBy(() -> StringUtils.truncate("hi", 2, new StringBuilder()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toTitleCase_matchesSplitImplementationOnGeneratedInput() {
+        Random random = new Random(17);
+        String alphabet = " \t\n\u000B\f\r\u0001aBcZ9ΣΑİéÉx";
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 1 + random.nextInt(15);
+            for (int k = 0; k < len; k++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String input = sb.toString();
+            if (!input.isBlank() && input.trim().isEmpty()) continue;   // split-based version threw here
+            assertThat(StringUtils.toTitleCase(input)).as(input).isEqualTo(legacyTitleCase(input));
+        }
+    }
+
+    /** The original split-based implementation, kept verbatim as the reference. */
+    private static String legacyTitleCase(String text) {
+        if (text.isBlank()) return text;
+        String[] words = text.trim().split("\\s+");
+        StringBuilder sb = new StringBuilder();
+        for (String word : words) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(Character.toUpperCase(word.charAt(0)));
+            if (word.length() > 1) sb.append(word.substring(1).toLowerCase(Locale.ENGLISH));
+        }
+        return sb.toString();
+    }
+
     // ── defaultIfBlank ────────────────────────────────────────
 
     @Test
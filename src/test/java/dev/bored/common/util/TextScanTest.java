@@ -0,0 +1,94 @@
+package dev.bored.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TextScanTest {
+
+    private static final String WHITESPACE = " \t\n\u000B\f\r\u001C\u001F 　\u0085";
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 63, 64, 65, 257, 4096, 70_000})
+    void scans_matchScalarDefinitions(int length) {
+        Random random = new Random(length);
+        for (int round = 0; round < 50; round++) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                int bucket = random.nextInt(1000);
+                chars[i] = bucket < 990 ? WHITESPACE.charAt(random.nextInt(WHITESPACE.length()))
+                        : bucket < 995 ? (char) ('!' + random.nextInt(90))
+                        : (char) random.nextInt(0x10000);
+            }
+            String text = new String(chars);
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = chars[i] < 0x80 ? (byte) chars[i] : (byte) (0x80 | random.nextInt(0x80));
+            }
+
+            int first = firstNonBlank(chars);
+            int last = lastNonBlank(chars);
+            assertThat(TextScan.firstNonBlank(chars, 0, length)).isEqualTo(first);
+            assertThat(TextScan.lastNonBlank(chars, 0, length)).isEqualTo(last);
+            assertThat(TextScan.firstNonBlank(text)).isEqualTo(first);
+            assertThat(TextScan.lastNonBlank(new StringBuilder(text))).isEqualTo(last);
+            assertThat(TextScan.firstNonBlank(CharBuffer.wrap(text))).isEqualTo(first);
+            assertThat(TextScan.lastNonBlank(CharBuffer.wrap(text))).isEqualTo(last);
+            assertThat(TextScan.isBlank(text)).isEqualTo(text.isBlank());
+            assertThat(TextScan.isBlank(chars, 0, length)).isEqualTo(text.isBlank());
+
+            boolean ascii = text.chars().allMatch(c -> c < 0x80);
+            assertThat(TextScan.isAscii(chars, 0, length)).isEqualTo(ascii);
+            assertThat(TextScan.isAscii(text)).isEqualTo(ascii);
+            assertThat(TextScan.isAscii(CharBuffer.wrap(text))).isEqualTo(ascii);
+            assertThat(TextScan.isAscii(bytes, 0, length)).isEqualTo(ascii);
+
+            assertThat(TextScan.firstNonBlank(bytes, 0, length)).isEqualTo(firstNonBlank(bytes));
+            assertThat(TextScan.lastNonBlank(bytes, 0, length)).isEqualTo(lastNonBlank(bytes));
+            assertThat(TextScan.isBlank(bytes, 0, length)).isEqualTo(firstNonBlank(bytes) < 0);
+        }
+    }
+
+    @Test
+    void vectorPath_onlyWithTheModule() {
+        // `test` runs without jdk.incubator.vector and must get the scalar path; `vectorTest` enables it.
+        boolean module = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+        assertThat(TextScan.vectorized()).isEqualTo(module);
+    }
+
+    @Test
+    void scans_respectRangeBounds() {
+        char[] chars = "x      y      z".repeat(20).toCharArray();
+        assertThat(TextScan.firstNonBlank(chars, 1, 7)).isEqualTo(-1);
+        assertThat(TextScan.firstNonBlank(chars, 1, 8)).isEqualTo(7);
+        assertThat(TextScan.lastNonBlank(chars, 0, 14)).isEqualTo(7);
+        assertThatThrownBy(() -> TextScan.isAscii(chars, 5, chars.length + 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static int firstNonBlank(char[] chars) {
+        for (int i = 0; i < chars.length; i++) if (!Character.isWhitespace(chars[i])) return i;
+        return -1;
+    }
+
+    private static int lastNonBlank(char[] chars) {
+        for (int i = chars.length - 1; i >= 0; i--) if (!Character.isWhitespace(chars[i])) return i;
+        return -1;
+    }
+
+    private static int firstNonBlank(byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) if (bytes[i] < 0 || !Character.isWhitespace(bytes[i])) return i;
+        return -1;
+    }
+
+    private static int lastNonBlank(byte[] bytes) {
+        for (int i = bytes.length - 1; i >= 0; i--) if (bytes[i] < 0 || !Character.isWhitespace(bytes[i])) return i;
+        return -1;
+    }
+}
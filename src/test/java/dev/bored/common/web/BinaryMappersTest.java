@@ -0,0 +1,51 @@
+package dev.bored.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.bored.common.util.BinaryJsonUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BinaryMappersTest {
+
+    private static <T> ObjectProvider<T> provider(Class<T> type, Object bean) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(bean == null ? Map.of() : Map.of("bean", bean));
+        return beans.getBeanProvider(type);
+    }
+
+    @Test
+    void create_buildsFromSpringsBuilderWhateverTheMapperBeanIs() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToEnable(SerializationFeature.WRAP_ROOT_VALUE);
+        ObjectProvider<ObjectMapper> jsonMapper = provider(ObjectMapper.class, JsonMapper.builder().build());
+
+        ObjectMapper smile = BinaryMappers.create(BinaryJsonUtils.Format.SMILE,
+                provider(Jackson2ObjectMapperBuilder.class, builder), jsonMapper);
+        ObjectMapper cbor = BinaryMappers.create(BinaryJsonUtils.Format.CBOR,
+                provider(Jackson2ObjectMapperBuilder.class, builder), jsonMapper);
+
+        assertThat(smile.getFactory()).isInstanceOf(SmileFactory.class);
+        assertThat(cbor.getFactory()).isInstanceOf(CBORFactory.class);
+        assertThat(smile.isEnabled(SerializationFeature.WRAP_ROOT_VALUE)).isTrue();
+    }
+
+    @Test
+    void create_copiesTheMapperBeanWithoutABuilder() {
+        ObjectMapper json = new ObjectMapper().enable(SerializationFeature.WRAP_ROOT_VALUE);
+
+        ObjectMapper cbor = BinaryMappers.create(BinaryJsonUtils.Format.CBOR,
+                provider(Jackson2ObjectMapperBuilder.class, null), provider(ObjectMapper.class, json));
+
+        assertThat(cbor.getFactory()).isInstanceOf(CBORFactory.class);
+        assertThat(cbor.isEnabled(SerializationFeature.WRAP_ROOT_VALUE)).isTrue();
+    }
+}
@@ -0,0 +1,45 @@
+package dev.bored.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CommonReactiveWebAutoConfigurationTest {
+
+    private static final ResolvableType ANY = ResolvableType.forClass(Object.class);
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Test
+    void cborCodecs_onlyAnswerAnExplicitCborRequest() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+        Jackson2JsonEncoder json = new Jackson2JsonEncoder();
+        configurer.defaultCodecs().jackson2JsonEncoder(json);
+
+        new CommonReactiveWebAutoConfiguration.CborConfiguration()
+                .boredCborCodecCustomizer(beans.getBeanProvider(Jackson2ObjectMapperBuilder.class),
+                        beans.getBeanProvider(ObjectMapper.class))
+                .customize(configurer);
+
+        List<HttpMessageWriter<?>> writers = configurer.getWriters();
+        HttpMessageWriter<?> untyped = writers.stream().filter(w -> w.canWrite(ANY, null)).findFirst().orElseThrow();
+        HttpMessageWriter<?> wildcard = writers.stream().filter(w -> w.canWrite(ANY, MediaType.ALL)).findFirst().orElseThrow();
+        // The service's own JSON encoder wins, not one registered ahead of it.
+        assertThat(((EncoderHttpMessageWriter<?>) untyped).getEncoder()).isSameAs(json);
+        assertThat(wildcard).isSameAs(untyped);
+        assertThat(writers.stream().filter(w -> w.canWrite(ANY, CBOR)).findFirst().orElseThrow().getWritableMediaTypes())
+                .containsExactly(CBOR);
+        assertThat(configurer.getReaders()).anyMatch(r -> r.canRead(ANY, CBOR));
+    }
+}
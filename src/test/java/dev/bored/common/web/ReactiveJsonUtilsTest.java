@@ -0,0 +1,283 @@
+package dev.bored.common.web;
+
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DataBufferWrapper;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveJsonUtilsTest {
+
+    record Row(int id, String name) {}
+
+    private static CountDownLatch binding;
+    private static CountDownLatch resume;
+    private static CountDownLatch bound;
+
+    /** Blocks binding its first instance until {@link #resume} opens. */
+    record Gated(String name) {
+        Gated {
+            binding.countDown();
+            try {
+                if (bound.getCount() == 2) resume.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bound.countDown();
+        }
+    }
+
+    /**
+     * Stand-in for a proxied upstream: serves {@code body} lazily, in
+     * {@code chunk}-byte ref-counted buffers, one per request.
+     */
+    static final class Upstream {
+
+        private final byte[] body;
+        private final int chunk;
+        final List<TrackedBuffer> served = new CopyOnWriteArrayList<>();
+
+        Upstream(String body, int chunk) {
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+            this.chunk = chunk;
+        }
+
+        Flux<DataBuffer> body() {
+            return Flux.generate(() -> 0, (offset, sink) -> {
+                if (offset >= body.length) {
+                    sink.complete();
+                    return offset;
+                }
+                int length = Math.min(chunk, body.length - offset);
+                TrackedBuffer buffer = new TrackedBuffer(DefaultDataBufferFactory.sharedInstance.allocateBuffer(length));
+                buffer.write(body, offset, length);
+                served.add(buffer);
+                sink.next(buffer);
+                return offset + length;
+            });
+        }
+
+        void assertAllReleased() {
+            assertThat(served).allSatisfy(buffer -> assertThat(buffer.isAllocated()).isFalse());
+        }
+    }
+
+    static final class TrackedBuffer extends DataBufferWrapper implements PooledDataBuffer {
+
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        TrackedBuffer(DataBuffer delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public boolean isAllocated() {
+            return refs.get() > 0;
+        }
+
+        @Override
+        public PooledDataBuffer retain() {
+            refs.incrementAndGet();
+            return this;
+        }
+
+        @Override
+        public PooledDataBuffer touch(Object hint) {
+            return this;
+        }
+
+        @Override
+        public boolean release() {
+            return refs.decrementAndGet() == 0;
+        }
+    }
+
+    private static String rowsArray(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"row-" + i + "-ü\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    // ── decode ────────────────────────────────────────────────
+
+    @Test
+    void decode_streamsLargeArraySplitAcrossChunks() {
+        Upstream upstream = new Upstream(rowsArray(20_000), 7);
+        AtomicInteger next = new AtomicInteger();
+
+        StepVerifier.create(ReactiveJsonUtils.decode(upstream.body(), Row.class))
+                .thenConsumeWhile(row -> row.id() == next.getAndIncrement() && row.name().endsWith("-ü"))
+                .verifyComplete();
+
+        assertThat(next).hasValue(20_000);
+        upstream.assertAllReleased();
+    }
+
+    @Test
+    void decode_readsNdjsonAndScalars() {
+        Upstream ndjson = new Upstream("{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n", 5);
+        StepVerifier.create(ReactiveJsonUtils.decode(ndjson.body(), Row.class))
+                .expectNext(new Row(1, "a"), new Row(2, "b"))
+                .verifyComplete();
+
+        Upstream scalars = new Upstream("[1, null, [2, 3], 4]", 3);
+        StepVerifier.create(ReactiveJsonUtils.decode(scalars.body(), Object.class))
+                .expectNext(1, List.of(2, 3), 4)
+                .verifyComplete();
+
+        StepVerifier.create(ReactiveJsonUtils.decode(new Upstream("42", 1).body(), Integer.class))
+                .expectNext(42)
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_readsEmptyBodies() {
+        StepVerifier.create(ReactiveJsonUtils.decode(Flux.empty(), Row.class)).verifyComplete();
+        StepVerifier.create(ReactiveJsonUtils.decode(new Upstream("[ ]", 1).body(), Row.class)).verifyComplete();
+    }
+
+    @Test
+    void decode_pullsUpstreamOnlyAsFastAsDemand() {
+        Upstream upstream = new Upstream(rowsArray(10_000), 64);
+
+        StepVerifier.create(ReactiveJsonUtils.decode(upstream.body(), Row.class), 0)
+                .expectSubscription()
+                .thenRequest(2)
+                .expectNextCount(2)
+                .then(() -> assertThat(upstream.served).hasSizeLessThan(5))
+                .thenCancel()
+                .verify();
+
+        upstream.assertAllReleased();
+    }
+
+    @Test
+    void decode_closesTheParserOnlyAfterACancelledBufferIsParsed() throws Exception {
+        binding = new CountDownLatch(1);
+        resume = new CountDownLatch(1);
+        bound = new CountDownLatch(2);
+        Upstream upstream = new Upstream("[{\"name\":\"first\"},{\"name\":\"second-ü\"}]", 1024);
+
+        Disposable subscription = ReactiveJsonUtils.decode(upstream.body().subscribeOn(Schedulers.single()), Gated.class)
+                .subscribe();
+        assertThat(binding.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.dispose();
+        resume.countDown();
+
+        assertThat(bound.await(5, TimeUnit.SECONDS)).isTrue();
+        upstream.assertAllReleased();
+    }
+
+    @Test
+    void decode_failsOnMalformedJsonAndReleasesBuffers() {
+        Upstream upstream = new Upstream("[{\"id\":1,\"name\":\"a\"}, {\"id\": oops}, {\"id\":3}]", 4);
+
+        StepVerifier.create(ReactiveJsonUtils.decode(upstream.body(), Row.class))
+                .expectNext(new Row(1, "a"))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("Failed to deserialize"))
+                .verify();
+
+        upstream.assertAllReleased();
+    }
+
+    @Test
+    void decode_failsOnUnbindableElement() {
+        StepVerifier.create(ReactiveJsonUtils.decode(new Upstream("[{\"id\":\"x\"}]", 100).body(), Row.class))
+                .verifyError(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_failsOnTruncatedBody() {
+        StepVerifier.create(ReactiveJsonUtils.decode(new Upstream("[{\"id\":1,\"name\":\"a\"}, {\"id\":", 8).body(), Row.class))
+                .expectNext(new Row(1, "a"))
+                .verifyErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasRootCauseInstanceOf(JsonEOFException.class));
+
+        StepVerifier.create(ReactiveJsonUtils.decode(new Upstream("[1, 2,", 8).body(), Integer.class))
+                .expectNext(1, 2)
+                .verifyError(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_failsOnContentAfterArray() {
+        StepVerifier.create(ReactiveJsonUtils.decode(new Upstream("[1] 2", 8).body(), Integer.class))
+                .expectNext(1)
+                .verifyErrorSatisfies(e -> assertThat(e).hasMessageContaining("content after top-level array"));
+    }
+
+    // ── encode ────────────────────────────────────────────────
+
+    @Test
+    void encodeArray_roundTripsThroughDecode() {
+        List<Row> rows = IntStream.range(0, 1_000).mapToObj(i -> new Row(i, "row-" + i)).toList();
+        Flux<DataBuffer> body = ReactiveJsonUtils.encodeArray(Flux.fromIterable(rows), DefaultDataBufferFactory.sharedInstance);
+
+        StepVerifier.create(ReactiveJsonUtils.decode(body, Row.class).collectList())
+                .expectNext(rows)
+                .verifyComplete();
+    }
+
+    @Test
+    void encodeArray_writesOneBufferPerElement() {
+        Flux<DataBuffer> body = ReactiveJsonUtils.encodeArray(Flux.just(new Row(1, "a"), Map.of("k", "v")),
+                DefaultDataBufferFactory.sharedInstance);
+
+        StepVerifier.create(body.map(ReactiveJsonUtilsTest::text))
+                .expectNext("[", "{\"id\":1,\"name\":\"a\"}", ",{\"k\":\"v\"}", "]")
+                .verifyComplete();
+
+        StepVerifier.create(ReactiveJsonUtils.encodeArray(Flux.empty(), DefaultDataBufferFactory.sharedInstance)
+                        .map(ReactiveJsonUtilsTest::text))
+                .expectNext("[", "]")
+                .verifyComplete();
+    }
+
+    @Test
+    void encodeNdjson_writesOneLinePerElement() {
+        Flux<DataBuffer> body = ReactiveJsonUtils.encodeNdjson(Flux.just(new Row(1, "a"), new Row(2, "b")),
+                DefaultDataBufferFactory.sharedInstance);
+
+        StepVerifier.create(body.map(ReactiveJsonUtilsTest::text))
+                .expectNext("{\"id\":1,\"name\":\"a\"}\n", "{\"id\":2,\"name\":\"b\"}\n")
+                .verifyComplete();
+    }
+
+    @Test
+    void encode_failsOnUnserializable() {
+        Object[] selfRef = new Object[1];
+        selfRef[0] = selfRef;
+
+        StepVerifier.create(ReactiveJsonUtils.encodeNdjson(Flux.just(selfRef), DefaultDataBufferFactory.sharedInstance))
+                .verifyError(IllegalArgumentException.class);
+        StepVerifier.create(ReactiveJsonUtils.encodeArray(Flux.just(selfRef), DefaultDataBufferFactory.sharedInstance))
+                .expectNextCount(1)
+                .verifyError(IllegalArgumentException.class);
+    }
+
+    private static String text(DataBuffer buffer) {
+        String text = buffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return text;
+    }
+}
@@ -0,0 +1,116 @@
+package dev.bored.common.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels behind {@link TextScan}, built on {@code jdk.incubator.vector}.
+ * <p>
+ * Lives in the {@code vector} source set, the only code compiled with the
+ * incubator module, and ships in the same jar. {@link TextScan} loads it by
+ * name only when the module is in the boot layer, so services that don't
+ * pass {@code --add-modules jdk.incubator.vector} never touch this class.
+ * Each kernel finishes its tail with the scalar code in {@link TextScan},
+ * so results are identical to the scalar path.
+ * </p>
+ *
+ * @author Bored Software Developer
+ * @since 2026-10-17
+ */
+final class VectorTextScan implements TextScan.Kernels {
+
+    private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    VectorTextScan() { }
+
+    @Override
+    public boolean isAscii(char[] a, int from, int to) {
+        int i = from;
+        for (int step = CHARS.length(); i <= to - step; i += step) {
+            ShortVector v = ShortVector.fromCharArray(CHARS, a, i);
+            if (v.and((short) 0xFF80).compare(VectorOperators.NE, (short) 0).anyTrue()) return false;
+        }
+        return TextScan.isAsciiScalar(a, i, to);
+    }
+
+    @Override
+    public boolean isAscii(byte[] a, int from, int to) {
+        int i = from;
+        for (int step = BYTES.length(); i <= to - step; i += step) {
+            ByteVector v = ByteVector.fromArray(BYTES, a, i);
+            if (v.compare(VectorOperators.LT, (byte) 0).anyTrue()) return false;
+        }
+        return TextScan.isAsciiScalar(a, i, to);
+    }
+
+    @Override
+    public int firstNonBlank(char[] a, int from, int to) {
+        int i = from;
+        int step = CHARS.length();
+        while (i <= to - step) {
+            VectorMask<Short> content = asciiWhitespace(ShortVector.fromCharArray(CHARS, a, i)).not();
+            if (!content.anyTrue()) {
+                i += step;
+                continue;
+            }
+            int index = i + content.firstTrue();
+            // Lanes outside ASCII may still be Unicode whitespace (U+2003, U+3000, …).
+            if (!Character.isWhitespace(a[index])) return index;
+            i = index + 1;
+        }
+        return TextScan.firstNonBlankScalar(a, i, to);
+    }
+
+    @Override
+    public int lastNonBlank(char[] a, int from, int to) {
+        int end = to;
+        int step = CHARS.length();
+        while (end - step >= from) {
+            int i = end - step;
+            VectorMask<Short> content = asciiWhitespace(ShortVector.fromCharArray(CHARS, a, i)).not();
+            if (!content.anyTrue()) {
+                end = i;
+                continue;
+            }
+            int index = i + content.lastTrue();
+            if (!Character.isWhitespace(a[index])) return index;
+            end = index;
+        }
+        return TextScan.lastNonBlankScalar(a, from, end);
+    }
+
+    @Override
+    public int firstNonBlank(byte[] a, int from, int to) {
+        int i = from;
+        for (int step = BYTES.length(); i <= to - step; i += step) {
+            VectorMask<Byte> content = asciiWhitespace(ByteVector.fromArray(BYTES, a, i)).not();
+            if (content.anyTrue()) return i + content.firstTrue();
+        }
+        return TextScan.firstNonBlankScalar(a, i, to);
+    }
+
+    @Override
+    public int lastNonBlank(byte[] a, int from, int to) {
+        int end = to;
+        for (int step = BYTES.length(); end - step >= from; end -= step) {
+            VectorMask<Byte> content = asciiWhitespace(ByteVector.fromArray(BYTES, a, end - step)).not();
+            if (content.anyTrue()) return end - step + content.lastTrue();
+        }
+        return TextScan.lastNonBlankScalar(a, from, end);
+    }
+
+    /** Lanes holding an ASCII char that {@link Character#isWhitespace(char)} accepts: 9–13, 28–32. */
+    private static VectorMask<Short> asciiWhitespace(ShortVector v) {
+        return v.compare(VectorOperators.GE, (short) 9).and(v.compare(VectorOperators.LE, (short) 13))
+                .or(v.compare(VectorOperators.GE, (short) 28).and(v.compare(VectorOperators.LE, (short) 32)));
+    }
+
+    private static VectorMask<Byte> asciiWhitespace(ByteVector v) {
+        return v.compare(VectorOperators.GE, (byte) 9).and(v.compare(VectorOperators.LE, (byte) 13))
+                .or(v.compare(VectorOperators.GE, (byte) 28).and(v.compare(VectorOperators.LE, (byte) 32)));
+    }
+}